@@ -122,13 +122,13 @@ public class GroupController {
 
     /**
      * 그룹 리스트 조회 == 그룹 내 찜한 식당 정보
-     * [GET] /groups/{groupId}/groupLists
+     * [GET] /groups/{groupId}/groupLists?cursor={cursor}
      */
     @GetMapping("/{groupId}/groupLists")
     public ResponseEntity<PagingResponse> getGroupList
-    (@PathVariable Long groupId, @RequestParam(required = false, name = "groupListId") Long groupListId,@AuthenticationPrincipal AuthUser authUser ){
+    (@PathVariable Long groupId, @RequestParam(required = false, name = "cursor") String cursor,@AuthenticationPrincipal AuthUser authUser ){
         User user = authUser.getUser();
-        return ResponseEntity.ok().body(groupService.getAllGroupList(groupId, groupListId,user));
+        return ResponseEntity.ok().body(groupService.getAllGroupList(groupId, cursor,user));
     }
 
       
@@ -144,27 +144,27 @@ public class GroupController {
   
     /**
      * 그룹 목록 조회
-     * [GET] /groups?lastGroupId={lastGroupId}
+     * [GET] /groups?cursor={cursor}
      */
     @GetMapping
     public ResponseEntity<Map<String, Object>> getGroups(@AuthenticationPrincipal AuthUser authUser,
-                                                         @RequestParam(name = "lastGroupId", required = false) Long lastGroupId,
+                                                         @RequestParam(name = "cursor", required = false) String cursor,
                                                          @RequestParam(name = "size", defaultValue = "5") int size)
     {
         User user = authUser.getUser();
-        Map<String, Object> getGroups = groupService.getUserGroups(user, lastGroupId, size);
+        Map<String, Object> getGroups = groupService.getUserGroups(user, cursor, size);
         return ResponseEntity.status(HttpStatus.OK).body(getGroups);
     }
 
     /**
      * 그룹 구성원 조회
-     * [GET] /groups/{groupId}/members?lastMemberId={lastMemberId}
+     * [GET] /groups/{groupId}/members?cursor={cursor}
      */
     @GetMapping("/{groupId}/members")
     public ResponseEntity<Map<String, Object>> getGroupMembers (@PathVariable Long groupId,
-                                                                         @RequestParam(name = "lastMemberId", required = false) Long lastMemberId,
+                                                                         @RequestParam(name = "cursor", required = false) String cursor,
                                                                          @RequestParam(name = "size", defaultValue = "10") int size){
-        Map<String, Object> getGroupMembers = groupService.getGroupMembers(groupId, lastMemberId, size);
+        Map<String, Object> getGroupMembers = groupService.getGroupMembers(groupId, cursor, size);
         return ResponseEntity.status(HttpStatus.OK).body(getGroupMembers);
     }
 
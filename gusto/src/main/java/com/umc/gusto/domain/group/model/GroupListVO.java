@@ -0,0 +1,9 @@
+package com.umc.gusto.domain.group.model;
+
+public interface GroupListVO {
+    Long getGroupListId();
+    Long getStoreId();
+    String getStoreName();
+    String getAddress();
+    String getUserProfileImage();
+}
@@ -0,0 +1,7 @@
+package com.umc.gusto.domain.group.model;
+
+public interface GroupMemberVO {
+    Long getGroupMemberId();
+    String getNickname();
+    String getProfileImage();
+}
@@ -0,0 +1,12 @@
+package com.umc.gusto.domain.group.model;
+
+import java.util.UUID;
+
+public interface GroupVO {
+    Long getGroupId();
+    String getGroupName();
+    UUID getOwnerId();
+    Long getNumMembers();
+    Long getNumRestaurants();
+    Long getNumRoutes();
+}
@@ -12,4 +12,5 @@ import java.util.List;
 public class PagingResponse {
     List<?> result;
     boolean hasNext;
+    String cursor;
 }
@@ -2,8 +2,8 @@ package com.umc.gusto.domain.group.repository;
 
 import com.umc.gusto.domain.group.entity.Group;
 import com.umc.gusto.domain.group.entity.GroupMember;
+import com.umc.gusto.domain.group.model.GroupMemberVO;
 import com.umc.gusto.domain.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,11 +13,11 @@ import java.util.List;
 import java.util.Optional;
 
 public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
-    @Query("SELECT gm FROM GroupMember gm WHERE gm.group = :group ORDER BY gm.groupMemberId DESC")
-    Page<GroupMember> findGroupMembersByGroup(Group group, Pageable pageable);
+    @Query("SELECT gm.groupMemberId as groupMemberId, gm.user.nickname as nickname, COALESCE(gm.user.profileThumb, gm.user.profileImage) as profileImage FROM GroupMember gm WHERE gm.group = :group ORDER BY gm.groupMemberId DESC")
+    List<GroupMemberVO> findGroupMembersByGroup(Group group, Pageable pageable);
     List<GroupMember> findGroupMembersByGroup(Group group);
-    @Query("SELECT gm FROM GroupMember gm WHERE gm.group = :group AND gm.groupMemberId < :lastMemberId ORDER BY gm.groupMemberId DESC")
-    Page<GroupMember> findGroupMembersByGroupLessThan(Group group, Long lastMemberId, Pageable pageable);
+    @Query("SELECT gm.groupMemberId as groupMemberId, gm.user.nickname as nickname, COALESCE(gm.user.profileThumb, gm.user.profileImage) as profileImage FROM GroupMember gm WHERE gm.group = :group AND gm.groupMemberId < :lastMemberId ORDER BY gm.groupMemberId DESC")
+    List<GroupMemberVO> findGroupMembersByGroupLessThan(Group group, Long lastMemberId, Pageable pageable);
 
     @Query("SELECT gm.groupMemberId FROM GroupMember gm WHERE gm.group = :group AND gm.user = :user")
     Long findGroupMemberIdByGroupAndUser(Group group, User user);
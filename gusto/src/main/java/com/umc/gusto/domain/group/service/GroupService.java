@@ -27,7 +27,7 @@ public interface GroupService {
     void deleteGroupList(List<Long> groupListId, User user);
 
     // 그룹리스트 조회
-    PagingResponse getAllGroupList(Long groupId, Long groupListId,User user);
+    PagingResponse getAllGroupList(Long groupId, String cursor,User user);
 
     // 그룹 초대 코드 조회
     GetInvitationCodeResponse getInvitationCode(Long groupId);
@@ -42,10 +42,10 @@ public interface GroupService {
     void leaveGroup(User user, Long groupId);
 
     // 그룹 목록 조회
-    Map<String, Object> getUserGroups(User user, Long lastGroupId, int size);
+    Map<String, Object> getUserGroups(User user, String cursor, int size);
 
     //그룹 구성원 조회
-    Map<String, Object> getGroupMembers(Long groupId, Long lastMemberId, int size);
+    Map<String, Object> getGroupMembers(Long groupId, String cursor, int size);
 
     // 초대 코드로 그룹 정보 조회
     GetPreJoinGroupInfoResponse getPreJoinGroupInfo(JoinGroupRequest joinGroupRequest);
@@ -53,7 +53,5 @@ public interface GroupService {
     //그룹 루트 삭제
     void deleteRoute(Long routeId, User user, Long groupId);
 
-    //
-    void hardDeleteAllSoftDeleted();
 
 }
@@ -3,6 +3,9 @@ package com.umc.gusto.domain.group.service;
 import com.umc.gusto.domain.group.entity.Group;
 import com.umc.gusto.domain.group.entity.GroupList;
 import com.umc.gusto.domain.group.entity.GroupMember;
+import com.umc.gusto.domain.group.model.GroupListVO;
+import com.umc.gusto.domain.group.model.GroupMemberVO;
+import com.umc.gusto.domain.group.model.GroupVO;
 import com.umc.gusto.domain.group.model.request.GroupListRequest;
 import com.umc.gusto.domain.group.entity.InvitationCode;
 import com.umc.gusto.domain.group.model.request.JoinGroupRequest;
@@ -13,8 +16,7 @@ import com.umc.gusto.domain.group.model.response.*;
 import com.umc.gusto.domain.group.repository.GroupListRepository;
 import com.umc.gusto.domain.group.repository.GroupMemberRepository;
 import com.umc.gusto.domain.group.repository.GroupRepository;
-import com.umc.gusto.domain.review.entity.Review;
-import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.domain.review.service.StoreCoverCache;
 import com.umc.gusto.domain.route.entity.Route;
 import com.umc.gusto.domain.store.entity.Store;
 import com.umc.gusto.domain.store.repository.StoreRepository;
@@ -26,11 +28,10 @@ import com.umc.gusto.global.common.BaseEntity;
 import com.umc.gusto.global.exception.Code;
 import com.umc.gusto.global.exception.GeneralException;
 import com.umc.gusto.global.exception.customException.NotFoundException;
+import com.umc.gusto.global.util.CursorCodec;
+import com.umc.gusto.global.util.CursorCodec.Cursor;
+import com.umc.gusto.global.util.CursorCodec.CursorSlice;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -50,9 +51,13 @@ public class GroupServiceImpl implements GroupService{
     private final RouteRepository routeRepository;
     private static final int INVITE_CODE_LENGTH = 12;
     private final StoreRepository storeRepository;
-    private final ReviewRepository reviewRepository;
+    private final StoreCoverCache storeCoverCache;
+    private final CursorCodec cursorCodec;
     private static final int GROUP_LIST_FIRST_PAGE = 8;
     private static final int GROUP_LIST_PAGE = 6;
+    private static final String GROUP_CURSOR = "group:";
+    private static final String GROUP_MEMBER_CURSOR = "group:member:";
+    private static final String GROUP_LIST_CURSOR = "group:list:";
 
 
     public void createGroup(User owner, PostGroupRequest postGroupRequest){
@@ -90,7 +95,7 @@ public class GroupServiceImpl implements GroupService{
                 .map(groupMember -> GetGroupMemberResponse.builder()
                         .groupMemberId(groupMember.getGroupMemberId())
                         .nickname(groupMember.getUser().getNickname())
-                        .profileImg(groupMember.getUser().getProfileImage())
+                        .profileImg(groupMember.getUser().getProfileThumbnail())
                         .build())
                 .collect(Collectors.toList());
         return GetGroupResponse.builder()
@@ -198,71 +203,65 @@ public class GroupServiceImpl implements GroupService{
     }
 
     @Transactional(readOnly = true)
-    public Map<String, Object> getUserGroups(User user, Long lastGroupId, int size) {
-        Page<Group> groups = pagingGroup(user, lastGroupId, size);
-        boolean hasNext = groups.hasNext();
-
-        List<GetGroupsResponse> responses = groups.map(group -> {
-                    int numMembers = groupMemberRepository.countGroupMembersByGroup(group);
-                    int numRestaurants = groupListRepository.countGroupListsByGroup(group);
-                    int numRoutes = routeRepository.findRoutesByGroupAndStatus(group, BaseEntity.Status.ACTIVE).size();
-
-                    return GetGroupsResponse.builder()
-                            .groupId(group.getGroupId())
-                            .groupName(group.getGroupName())
-                            .isOwner(user.getUserId().equals(group.getOwner().getUserId()))
-                            .numMembers(numMembers)
-                            .numRestaurants(numRestaurants)
-                            .numRoutes(numRoutes)
-                            .build();
-                }).toList();
+    public Map<String, Object> getUserGroups(User user, String cursor, int size) {
+        CursorSlice<GroupVO> groups = pagingGroup(user, cursor, size);
+
+        List<GetGroupsResponse> responses = groups.content().stream().map(group -> GetGroupsResponse.builder()
+                        .groupId(group.getGroupId())
+                        .groupName(group.getGroupName())
+                        .isOwner(user.getUserId().equals(group.getOwnerId()))
+                        .numMembers(group.getNumMembers().intValue())
+                        .numRestaurants(group.getNumRestaurants().intValue())
+                        .numRoutes(group.getNumRoutes().intValue())
+                        .build()).toList();
 
         Map<String, Object> map = new HashMap<>();
         map.put("groups", responses);
-        map.put("hasNext", hasNext);
+        map.put("hasNext", groups.hasNext());
+        map.put("cursor", groups.nextCursor());
         return map;
     }
 
-    private Page<Group> pagingGroup(User user, Long lastGroupId, int size){
-        // 그룹 목록 커서 페이징 처리
-        Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "groupId"));
+    private CursorSlice<GroupVO> pagingGroup(User user, String cursor, int size){
+        // 그룹 목록 커서 페이징 처리 (groupId 내림차순)
+        String scope = GROUP_CURSOR + user.getUserId();
+        Cursor after = cursorCodec.decode(scope, cursor);
         List<Long> groupIds = groupMemberRepository.findGroupIdsByUser(user);
 
-        if (lastGroupId == null) {
-            return groupRepository.findGroupsByGroupIdInAndStatus(groupIds, BaseEntity.Status.ACTIVE, pageable);
-        }else{
-            return groupRepository.findGroupsByStatusAndGroupIdInLessThan(groupIds, BaseEntity.Status.ACTIVE, lastGroupId, pageable);
-        }
+        List<GroupVO> fetched = after == null
+                ? groupRepository.findGroupsByGroupIdInAndStatus(groupIds, BaseEntity.Status.ACTIVE, cursorCodec.limit(size))
+                : groupRepository.findGroupsByStatusAndGroupIdInLessThan(groupIds, BaseEntity.Status.ACTIVE, after.getLong(0), cursorCodec.limit(size));
+        return cursorCodec.slice(scope, fetched, size, group -> new Object[]{group.getGroupId()});
     }
 
     @Transactional(readOnly = true)
-    public Map<String, Object> getGroupMembers(Long groupId, Long lastMemberId, int size){
-        Page<GroupMember> groupMembers = pagingGroupMember(groupId, lastMemberId, size);
-        boolean hasNext = groupMembers.hasNext();
+    public Map<String, Object> getGroupMembers(Long groupId, String cursor, int size){
+        CursorSlice<GroupMemberVO> groupMembers = pagingGroupMember(groupId, cursor, size);
 
-        List<GetGroupMemberResponse> responses = groupMembers.map(groupMember -> GetGroupMemberResponse.builder()
+        List<GetGroupMemberResponse> responses = groupMembers.content().stream().map(groupMember -> GetGroupMemberResponse.builder()
                         .groupMemberId(groupMember.getGroupMemberId())
-                        .nickname(groupMember.getUser().getNickname())
-                        .profileImg(groupMember.getUser().getProfileImage())
+                        .nickname(groupMember.getNickname())
+                        .profileImg(groupMember.getProfileImage())
                         .build()).toList();
 
         Map<String, Object> map = new HashMap<>();
         map.put("groupMembers", responses);
-        map.put("hasNext", hasNext);
+        map.put("hasNext", groupMembers.hasNext());
+        map.put("cursor", groupMembers.nextCursor());
         return map;
     }
 
-    private Page<GroupMember> pagingGroupMember(Long groupId, Long lastMemberId, int size){
-        // 그룹 멤버 목록 커서 페이징 처리
-        Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "groupMemberId"));
+    private CursorSlice<GroupMemberVO> pagingGroupMember(Long groupId, String cursor, int size){
+        // 그룹 멤버 목록 커서 페이징 처리 (groupMemberId 내림차순)
+        String scope = GROUP_MEMBER_CURSOR + groupId;
+        Cursor after = cursorCodec.decode(scope, cursor);
         Group group = groupRepository.findGroupByGroupIdAndStatus(groupId, BaseEntity.Status.ACTIVE)
                 .orElseThrow(()->new GeneralException(Code.FIND_FAIL_GROUP));
 
-        if (lastMemberId == null) {
-            return groupMemberRepository.findGroupMembersByGroup(group, pageable);
-        }else{
-            return groupMemberRepository.findGroupMembersByGroupLessThan(group, lastMemberId, pageable);
-        }
+        List<GroupMemberVO> fetched = after == null
+                ? groupMemberRepository.findGroupMembersByGroup(group, cursorCodec.limit(size))
+                : groupMemberRepository.findGroupMembersByGroupLessThan(group, after.getLong(0), cursorCodec.limit(size));
+        return cursorCodec.slice(scope, fetched, size, groupMember -> new Object[]{groupMember.getGroupMemberId()});
     }
 
     public TransferOwnershipResponse transferOwnership(User owner, Long groupId, TransferOwnershipRequest transferOwnershipRequest){
@@ -364,49 +363,45 @@ public class GroupServiceImpl implements GroupService{
     }
 
     @Override
-    public PagingResponse getAllGroupList(Long groupId, Long groupListId,User user) {
+    public PagingResponse getAllGroupList(Long groupId, String cursor,User user) {
 
         // 그룹 존재여부 확인
         Group group = groupRepository.findGroupByGroupIdAndStatus(groupId, BaseEntity.Status.ACTIVE)
                 .orElseThrow(() -> new GeneralException(Code.FIND_FAIL_GROUP));
 
-        Page<GroupList> groupLists;
-        if(groupListId == null){
-            // 그룹 내 모든 찜한 상점 조회 = 그룹리스트 조회
-            groupLists = groupListRepository.findFirstGroupListOrderByDesc(group, Pageable.ofSize(GROUP_LIST_FIRST_PAGE));
-        }else{
-            // 그룹 내 모든 찜한 상점 조회 = 그룹리스트 조회
-            groupLists = groupListRepository.findGroupListByGroupOrderByCreatedAtDesc(group,groupListId, Pageable.ofSize(GROUP_LIST_PAGE));
-
-        }
+        // 그룹 내 모든 찜한 상점 조회 = 그룹리스트 조회 (groupListId 내림차순)
+        String scope = GROUP_LIST_CURSOR + groupId;
+        Cursor after = cursorCodec.decode(scope, cursor);
+        int pageSize = after == null ? GROUP_LIST_FIRST_PAGE : GROUP_LIST_PAGE;
+        List<GroupListVO> fetched = after == null
+                ? groupListRepository.findFirstGroupListOrderByDesc(group, cursorCodec.limit(pageSize))
+                : groupListRepository.findGroupListByGroupOrderByCreatedAtDesc(group, after.getLong(0), cursorCodec.limit(pageSize));
+        CursorSlice<GroupListVO> groupLists = cursorCodec.slice(scope, fetched, pageSize, gl -> new Object[]{gl.getGroupListId()});
 
 
         // 그룹 리스트에 해당하는 각 상점 정보 조회
-        List<GroupListResponse> list = groupLists.stream().map(gl -> {
-            Optional<Review> topReviewOptional = reviewRepository.findFirstByStoreOrderByLikedDesc(gl.getStore()); // 가장 좋아요가 많은 review
-            String reviewImg = topReviewOptional.map(Review::getImg1).orElse("");
+        Map<Long, List<String>> reviewImages = storeCoverCache.getCovers(
+                groupLists.content().stream().map(GroupListVO::getStoreId).toList(), 1);   // 가장 좋아요가 많은 review 이미지
+        List<GroupListResponse> list = groupLists.content().stream().map(gl -> {
+            List<String> cover = reviewImages.get(gl.getStoreId());
+            String reviewImg = cover.isEmpty() ? "" : cover.get(0);
             return GroupListResponse.builder()
                     .groupListId(gl.getGroupListId())
-                    .storeId(gl.getStore().getStoreId())
-                    .storeName(gl.getStore().getStoreName())
+                    .storeId(gl.getStoreId())
+                    .storeName(gl.getStoreName())
                     .storeProfileImg(reviewImg)
-                    .userProfileImg(gl.getUser().getProfileImage())
-                    .address(gl.getStore().getAddress())
+                    .userProfileImg(gl.getUserProfileImage())
+                    .address(gl.getAddress())
                     .build();
         }).collect(Collectors.toList());
 
         return PagingResponse.builder()
                 .result(list)
                 .hasNext(groupLists.hasNext())
+                .cursor(groupLists.nextCursor())
                 .build();
 
 
     }
 
-    @Transactional
-    public void hardDeleteAllSoftDeleted() {
-        groupRepository.deleteAllInActive();
-
-    }
-
 }
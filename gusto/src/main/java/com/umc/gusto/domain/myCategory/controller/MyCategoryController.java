@@ -9,7 +9,6 @@ import com.umc.gusto.domain.myCategory.service.MyCategoryService;
 import com.umc.gusto.domain.user.entity.User;
 import com.umc.gusto.global.auth.model.AuthUser;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -42,7 +41,7 @@ public class MyCategoryController {
 
     /**
      * 카테고리 별 가게 목록 조회
-     * [GET] /myCategories/pins?nickname={nickname}&myCategoryId={myCategoryId}&townCode={townCode}&pinId={pinId}&storeName={storeName}&sort={sort}
+     * [GET] /myCategories/pins?nickname={nickname}&myCategoryId={myCategoryId}&townCode={townCode}&cursor={cursor}&sort={sort}
      */
     @GetMapping("/pins")             // 나의 찜을 조회 할 시 nickname 값을 받지 않고, nickname이 조회될 경우 townCode 받지 않음
     public ResponseEntity<PagingResponse> allPinByMyCategory(
@@ -50,13 +49,12 @@ public class MyCategoryController {
             @RequestParam(name = "nickname", required = false) String nickname,
             @RequestParam(name = "myCategoryId") Long myCategoryId,
             @RequestParam(name = "townCode", required = false) String townCode,
-            @RequestParam(name = "pinId", required = false) Long pinId,
-            @RequestParam(name = "storeName", required = false) String storeName,
-            @RequestParam(name = "sort", required = false) String sort  // paging 처리를 위해 마지막 리턴 pinId 사용
+            @RequestParam(name = "cursor", required = false) String cursor,     // 이전 응답의 cursor (정렬 기준별 마지막 pin 위치)
+            @RequestParam(name = "sort", required = false) String sort
             ) {
 
         User user = (nickname == null) ? authUser.getUser() : null;
-        PagingResponse pagingResponse = myCategoryService.getAllPinByMyCategory(user, nickname, myCategoryId, townCode, pinId, storeName, sort);
+        PagingResponse pagingResponse = myCategoryService.getAllPinByMyCategory(user, nickname, myCategoryId, townCode, cursor, sort);
 
         return ResponseEntity.status(HttpStatus.OK).body(pagingResponse);
     }
@@ -12,5 +12,6 @@ import java.util.List;
 @Builder
 public class PagingResponse {
     private boolean hasNext;
+    private String cursor;
     private List<?> result;
 }
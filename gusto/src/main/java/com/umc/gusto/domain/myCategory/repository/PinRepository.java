@@ -2,87 +2,88 @@ package com.umc.gusto.domain.myCategory.repository;
 
 import com.umc.gusto.domain.myCategory.entity.MyCategory;
 import com.umc.gusto.domain.myCategory.entity.Pin;
+import com.umc.gusto.domain.store.entity.Store;
 import com.umc.gusto.domain.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PinRepository extends JpaRepository<Pin, Long> {
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
-            "AND p.store.town.townCode = :townCode " +
+            "AND p.store.townCode = :townCode " +
             "ORDER BY p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndTownCodeAndPinIdDESCFirstPaging(MyCategory myCategory, String townCode, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndTownCodeAndPinIdDESCFirstPaging(MyCategory myCategory, String townCode, Pageable pageable);
 
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
-            "AND p.store.town.townCode = :townCode " +
+            "AND p.store.townCode = :townCode " +
             "ORDER BY p.pinId ASC")
-    Page<Pin> findPinsByMyCategoryAndTownCodeAndPinIdASCFirstPaging(MyCategory myCategory, String townCode, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndTownCodeAndPinIdASCFirstPaging(MyCategory myCategory, String townCode, Pageable pageable);
 
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
-            "AND p.store.town.townCode = :townCode " +
+            "AND p.store.townCode = :townCode " +
             "ORDER BY p.store.storeName DESC, p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndTownCodeAndStoreNameDESCFirstPaging(MyCategory myCategory, String townCode, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndTownCodeAndStoreNameDESCFirstPaging(MyCategory myCategory, String townCode, Pageable pageable);
 
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
-            "AND p.store.town.townCode = :townCode " +
+            "AND p.store.townCode = :townCode " +
             "ORDER BY p.store.storeName ASC, p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndTownCodeAndStoreNameASCFirstPaging(MyCategory myCategory, String townCode, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndTownCodeAndStoreNameASCFirstPaging(MyCategory myCategory, String townCode, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
-            "AND p.store.town.townCode = :townCode " +
+            "AND p.store.townCode = :townCode " +
             "ORDER BY p.pinId DESC")
     List<Pin> findPinsByMyCategoryAndTownCodeAndPinIdDESC(MyCategory myCategory, String townCode);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
-            "AND p.store.town.townCode = :townCode " +
+            "AND p.store.townCode = :townCode " +
             "AND p.pinId < :pinId " +
             "ORDER BY p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndTownCodeAndPinIdDESCPaging(MyCategory myCategory, String townCode, Long pinId, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndTownCodeAndPinIdDESCPaging(MyCategory myCategory, String townCode, Long pinId, Pageable pageable);
 
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
-            "AND p.store.town.townCode = :townCode " +
+            "AND p.store.townCode = :townCode " +
             "AND p.pinId > :pinId " +
             "ORDER BY p.pinId ASC")
-    Page<Pin> findPinsByMyCategoryAndTownCodeAndPinIdASCPaging(MyCategory myCategory, String townCode, Long pinId, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndTownCodeAndPinIdASCPaging(MyCategory myCategory, String townCode, Long pinId, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
-            "AND p.store.town.townCode = :townCode " +
+            "AND p.store.townCode = :townCode " +
             "AND (p.store.storeName < :storeName " +
             "OR (p.store.storeName = :storeName AND p.pinId < :pinId)) " +
             "ORDER BY p.store.storeName DESC, p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndTownCodeAndStoreNameDESCPaging(MyCategory myCategory, String townCode, Long pinId, String storeName, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndTownCodeAndStoreNameDESCPaging(MyCategory myCategory, String townCode, Long pinId, String storeName, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
-            "AND p.store.town.townCode = :townCode " +
+            "AND p.store.townCode = :townCode " +
             "AND (p.store.storeName > :storeName " +
             "OR (p.store.storeName = :storeName AND p.pinId < :pinId)) " +
             "ORDER BY p.store.storeName ASC, p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndTownCodeAndStoreNameASCPaging(MyCategory myCategory, String townCode, Long pinId, String storeName, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndTownCodeAndStoreNameASCPaging(MyCategory myCategory, String townCode, Long pinId, String storeName, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
             "ORDER BY p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndPinIdDESCFirstPaging(MyCategory myCategory, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndPinIdDESCFirstPaging(MyCategory myCategory, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
             "ORDER BY p.pinId ASC")
-    Page<Pin> findPinsByMyCategoryAndPinIdASCFirstPaging(MyCategory myCategory, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndPinIdASCFirstPaging(MyCategory myCategory, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
             "ORDER BY p.store.storeName DESC, p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndStoreNameDESCFirstPaging(MyCategory myCategory, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndStoreNameDESCFirstPaging(MyCategory myCategory, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
             "ORDER BY p.store.storeName ASC, p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndStoreNameASCFirstPaging(MyCategory myCategory, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndStoreNameASCFirstPaging(MyCategory myCategory, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
             "ORDER BY p.pinId DESC")
@@ -91,29 +92,29 @@ public interface PinRepository extends JpaRepository<Pin, Long> {
             "WHERE p.myCategory = :myCategory " +
             "AND p.pinId < :pinId " +
             "ORDER BY p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndPinIdDESCPaging(MyCategory myCategory, Long pinId, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndPinIdDESCPaging(MyCategory myCategory, Long pinId, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
             "AND p.pinId > :pinId " +
             "ORDER BY p.pinId ASC")
-    Page<Pin> findPinsByMyCategoryAndPinIdASCPaging(MyCategory myCategory, Long pinId, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndPinIdASCPaging(MyCategory myCategory, Long pinId, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
             "AND (p.store.storeName < :storeName " +
             "OR (p.store.storeName = :storeName AND p.pinId < :pinId)) " +
             "ORDER BY p.store.storeName DESC, p.pinId DESC")
-    Page<Pin> findPinsByMyCategoryAndStoreNameDESCPaging(MyCategory myCategory, Long pinId, String storeName, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndStoreNameDESCPaging(MyCategory myCategory, Long pinId, String storeName, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.myCategory = :myCategory " +
             "AND (p.store.storeName > :storeName " +
             "OR (p.store.storeName = :storeName AND p.pinId < :pinId)) " +
             "ORDER BY p.store.storeName ASC, p.pinId DESC"
     )
-    Page<Pin> findPinsByMyCategoryAndStoreNameASCPaging(MyCategory myCategory, Long pinId, String storeName, Pageable pageable);
+    List<Pin> findPinsByMyCategoryAndStoreNameASCPaging(MyCategory myCategory, Long pinId, String storeName, Pageable pageable);
     @Query("SELECT p FROM Pin p " +
             "WHERE p.user = :user " +
             "AND p.myCategory.myCategoryId = :myCategoryId " +
-            "AND p.store.town.townCode = :townCode " +
+            "AND p.store.townCode = :townCode " +
             "ORDER BY p.pinId DESC")
     List<Pin> findPinsByUserAndMyCategoryIdAndTownCodeAndPinIdDESC(User user, Long myCategoryId, String townCode);
     Optional<Pin> findByUserAndPinId(User user, Long pinId);
@@ -124,12 +125,30 @@ public interface PinRepository extends JpaRepository<Pin, Long> {
     List<Long> findStoreIdsByUser(User user);
     @Query("SELECT p.pinId FROM Pin p WHERE p.user = :user AND p.store.storeId = :storeId")
     Long findByUserAndStoreStoreId(User user, Long storeId);
+    @Query("SELECT p FROM Pin p WHERE p.user = :user AND p.store.storeId IN :storeIds")
+    List<Pin> findPinsByUserAndStoreIds(User user, Collection<Long> storeIds);
     @Query("SELECT p FROM Pin p " +
             "JOIN p.store s " +
-            "JOIN s.town t " +
-            "JOIN p.user u " +
             "WHERE p.user = :user " +
-            "AND t.townCode = :townCode " +
+            "AND s.townCode = :townCode " +
             "ORDER BY p.pinId DESC")
     List<Pin> findPinsByUserAndTownCodeAndPinIdDESC(User user, String townCode);
+
+    // 방문/미방문 찜 가게 keyset 페이징 (storeId 내림차순, lastStoreId 미만)
+    @Query("SELECT s FROM Pin p JOIN p.store s " +
+            "WHERE p.user = :user " +
+            "AND (:myCategoryId IS NULL OR p.myCategory.myCategoryId = :myCategoryId) " +
+            "AND s.townCode = :townCode " +
+            "AND (:lastStoreId IS NULL OR s.storeId < :lastStoreId) " +
+            "AND EXISTS (SELECT v FROM StoreVisit v WHERE v.user = :user AND v.store = s AND v.visitCount > 0) " +
+            "ORDER BY s.storeId DESC")
+    List<Store> findVisitedPinStores(User user, Long myCategoryId, String townCode, Long lastStoreId, Pageable pageable);
+    @Query("SELECT s FROM Pin p JOIN p.store s " +
+            "WHERE p.user = :user " +
+            "AND (:myCategoryId IS NULL OR p.myCategory.myCategoryId = :myCategoryId) " +
+            "AND s.townCode = :townCode " +
+            "AND (:lastStoreId IS NULL OR s.storeId < :lastStoreId) " +
+            "AND NOT EXISTS (SELECT v FROM StoreVisit v WHERE v.user = :user AND v.store = s AND v.visitCount > 0) " +
+            "ORDER BY s.storeId DESC")
+    List<Store> findUnvisitedPinStores(User user, Long myCategoryId, String townCode, Long lastStoreId, Pageable pageable);
 }
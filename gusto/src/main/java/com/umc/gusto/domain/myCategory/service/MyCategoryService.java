@@ -16,7 +16,7 @@ public interface MyCategoryService {
     PagingResponse getAllMyCategory(User user, String nickname, String townCode, Long myCategoryId);
 //    List<MyCategoryResponse> getAllMyCategoryWithLocation(User user, String townCode);
 
-    PagingResponse getAllPinByMyCategory(User user, String nickname, Long myCategoryId, String townCode, Long pinId, String storeName, String sort);
+    PagingResponse getAllPinByMyCategory(User user, String nickname, Long myCategoryId, String townCode, String cursor, String sort);
 
 //    List<PinByMyCategoryResponse> getAllPinByMyCategoryWithLocation(User user, Long myCategoryId, String townCode);
 
@@ -25,6 +25,4 @@ public interface MyCategoryService {
     void modifyMyCategory(User user,Long myCategoryId, UpdateMyCategoryRequest request);
 
     void deleteMyCategories(User user, List<Long> myCategoryIds);
-
-    void hardDeleteAllSoftDeleted();
 }
\ No newline at end of file
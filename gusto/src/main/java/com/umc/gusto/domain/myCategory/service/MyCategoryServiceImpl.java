@@ -9,22 +9,27 @@ import com.umc.gusto.domain.myCategory.model.response.PagingResponse;
 import com.umc.gusto.domain.myCategory.model.response.PinByMyCategoryResponse;
 import com.umc.gusto.domain.myCategory.repository.MyCategoryRepository;
 import com.umc.gusto.domain.myCategory.repository.PinRepository;
-import com.umc.gusto.domain.review.entity.Review;
-import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.domain.review.service.StoreCoverCache;
+import com.umc.gusto.domain.review.service.StoreVisitLedger;
 import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.store.service.RegionDictionary;
 import com.umc.gusto.domain.user.entity.User;
 import com.umc.gusto.domain.user.repository.UserRepository;
 import com.umc.gusto.global.common.BaseEntity;
 import com.umc.gusto.global.common.PublishStatus;
 import com.umc.gusto.global.exception.Code;
 import com.umc.gusto.global.exception.GeneralException;
+import com.umc.gusto.global.util.CursorCodec;
+import com.umc.gusto.global.util.CursorCodec.Cursor;
+import com.umc.gusto.global.util.CursorCodec.CursorSlice;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -34,15 +39,22 @@ public class MyCategoryServiceImpl implements MyCategoryService {
 
     private final MyCategoryRepository myCategoryRepository;
     private final PinRepository pinRepository;
-    private final ReviewRepository reviewRepository;
+    private final StoreCoverCache storeCoverCache;
     private final UserRepository userRepository;
+    private final RegionDictionary regionDictionary;
+    private final StoreVisitLedger storeVisitLedger;
+    private final CursorCodec cursorCodec;
 
     private static final int MY_CATEGORY_PAGE_SIZE = 7;
     private static final int PIN_PAGE_SIZE = 5;
+    private static final String PIN_CURSOR = "pin:";
 
     @Transactional(readOnly = true)
     public PagingResponse getAllMyCategory(User user, String nickname, String townCode, Long myCategoryId) {
-        Page<MyCategory> myCategoryList;
+        if (townCode != null) {
+            regionDictionary.validateTownCode(townCode);
+        }
+        Slice<MyCategory> myCategoryList;
         if (nickname != null) {
             user = userRepository.findByNickname(nickname)      // 타 닉네임 조회
                     .orElseThrow(() -> new GeneralException(Code.USER_NOT_FOUND));
@@ -88,12 +100,23 @@ public class MyCategoryServiceImpl implements MyCategoryService {
     }
 
     @Transactional(readOnly = true)
-    public PagingResponse getAllPinByMyCategory(User user, String nickname, Long myCategoryId, String townCode, Long pinId, String storeName, String sort) {
+    public PagingResponse getAllPinByMyCategory(User user, String nickname, Long myCategoryId, String townCode, String cursor, String sort) {
+        if (townCode != null) {
+            regionDictionary.validateTownCode(townCode);
+        }
         Optional<MyCategory> myCategory;
 
         final String finalSort = (sort == null) ? "default" : sort;
 
-        Page<Pin> pinList;
+        // 정렬 기준별 keyset 커서 : pinId 또는 (storeName, pinId)
+        String scope = PIN_CURSOR + myCategoryId + ":" + finalSort;
+        Cursor after = cursorCodec.decode(scope, cursor);
+        boolean byStoreName = finalSort.equals("storeName_asc") || finalSort.equals("storeName_desc");
+        Long pinId = after == null ? null : after.getLong(byStoreName ? 1 : 0);
+        String storeName = after == null || !byStoreName ? null : after.getString(0);
+        Pageable limit = cursorCodec.limit(PIN_PAGE_SIZE);
+
+        List<Pin> fetched;
         if (nickname != null) {
             user = userRepository.findByNickname(nickname)
                     .orElseThrow(() -> new GeneralException(Code.USER_NOT_FOUND));
@@ -103,67 +126,75 @@ public class MyCategoryServiceImpl implements MyCategoryService {
         }
 
         if (townCode != null) {
-            if (pinId != null || storeName != null)  {
-                pinList = myCategory.map(category -> switch (finalSort) {
+            if (after != null)  {
+                fetched = myCategory.map(category -> switch (finalSort) {
                     case "oldest" ->
-                            pinRepository.findPinsByMyCategoryAndTownCodeAndPinIdASCPaging(category, townCode, pinId, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndTownCodeAndPinIdASCPaging(category, townCode, pinId, limit);
                     case "storeName_asc" ->
-                            pinRepository.findPinsByMyCategoryAndTownCodeAndStoreNameASCPaging(category, townCode, pinId, storeName, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndTownCodeAndStoreNameASCPaging(category, townCode, pinId, storeName, limit);
                     case "storeName_desc" ->
-                            pinRepository.findPinsByMyCategoryAndTownCodeAndStoreNameDESCPaging(category, townCode, pinId, storeName, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndTownCodeAndStoreNameDESCPaging(category, townCode, pinId, storeName, limit);
                     default ->
-                            pinRepository.findPinsByMyCategoryAndTownCodeAndPinIdDESCPaging(category, townCode, pinId, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndTownCodeAndPinIdDESCPaging(category, townCode, pinId, limit);
                 }).orElseThrow(() -> new GeneralException(Code.MY_CATEGORY_NOT_FOUND));
             } else {
-                pinList = myCategory.map(category -> switch (finalSort) {
+                fetched = myCategory.map(category -> switch (finalSort) {
                     case "oldest" ->
-                            pinRepository.findPinsByMyCategoryAndTownCodeAndPinIdASCFirstPaging(category, townCode, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndTownCodeAndPinIdASCFirstPaging(category, townCode, limit);
                     case "storeName_asc" ->
-                            pinRepository.findPinsByMyCategoryAndTownCodeAndStoreNameASCFirstPaging(category, townCode, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndTownCodeAndStoreNameASCFirstPaging(category, townCode, limit);
                     case "storeName_desc" ->
-                            pinRepository.findPinsByMyCategoryAndTownCodeAndStoreNameDESCFirstPaging(category, townCode, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndTownCodeAndStoreNameDESCFirstPaging(category, townCode, limit);
                     default ->
-                            pinRepository.findPinsByMyCategoryAndTownCodeAndPinIdDESCFirstPaging(category, townCode, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndTownCodeAndPinIdDESCFirstPaging(category, townCode, limit);
                 }).orElseThrow(() -> new GeneralException(Code.MY_CATEGORY_NOT_FOUND));
             }
         } else {
-            if (pinId != null || storeName != null) {
-                pinList = myCategory.map(category -> switch (finalSort) {
+            if (after != null) {
+                fetched = myCategory.map(category -> switch (finalSort) {
                     case "oldest" ->
-                            pinRepository.findPinsByMyCategoryAndPinIdASCPaging(category, pinId, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndPinIdASCPaging(category, pinId, limit);
                     case "storeName_asc" ->
-                            pinRepository.findPinsByMyCategoryAndStoreNameASCPaging(category, pinId, storeName, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndStoreNameASCPaging(category, pinId, storeName, limit);
                     case "storeName_desc" ->
-                            pinRepository.findPinsByMyCategoryAndStoreNameDESCPaging(category, pinId, storeName, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndStoreNameDESCPaging(category, pinId, storeName, limit);
                     default ->
-                            pinRepository.findPinsByMyCategoryAndPinIdDESCPaging(category, pinId, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndPinIdDESCPaging(category, pinId, limit);
                 }).orElseThrow(() -> new GeneralException(Code.MY_CATEGORY_NOT_FOUND));
             } else {
-                pinList = myCategory.map(category -> switch (finalSort) {
+                fetched = myCategory.map(category -> switch (finalSort) {
                     case "oldest" ->
-                            pinRepository.findPinsByMyCategoryAndPinIdASCFirstPaging(category, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndPinIdASCFirstPaging(category, limit);
                     case "storeName_asc" ->
-                            pinRepository.findPinsByMyCategoryAndStoreNameASCFirstPaging(category, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndStoreNameASCFirstPaging(category, limit);
                     case "storeName_desc" ->
-                            pinRepository.findPinsByMyCategoryAndStoreNameDESCFirstPaging(category, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndStoreNameDESCFirstPaging(category, limit);
                     default ->
-                            pinRepository.findPinsByMyCategoryAndPinIdDESCFirstPaging(category, Pageable.ofSize(PIN_PAGE_SIZE));
+                            pinRepository.findPinsByMyCategoryAndPinIdDESCFirstPaging(category, limit);
                 }).orElseThrow(() -> new GeneralException(Code.MY_CATEGORY_NOT_FOUND));
             }
         }
+        CursorSlice<Pin> pinList = cursorCodec.slice(scope, fetched, PIN_PAGE_SIZE, pin -> byStoreName
+                ? new Object[]{pin.getStore().getStoreName(), pin.getPinId()}
+                : new Object[]{pin.getPinId()});
 
 
         User finalUser = user;
 
-        List<PinByMyCategoryResponse> result = pinList.stream()                                     // townCode을 기준으로 보일 수 있는 store가 포함된 pin만 보이기
+        Map<Long, List<String>> reviewImages = storeCoverCache.getCovers(
+                pinList.content().stream().map(pin -> pin.getStore().getStoreId()).toList(), 3);          // 가장 좋아요가 많은 review 이미지
+        Map<Long, Integer> visitCounts = storeVisitLedger.getVisitCounts(finalUser,
+                pinList.content().stream().map(pin -> pin.getStore().getStoreId()).toList());             // 내가 작성한 리뷰의 개수 == 방문 횟수
+
+        List<PinByMyCategoryResponse> result = pinList.content().stream()                                     // townCode을 기준으로 보일 수 있는 store가 포함된 pin만 보이기
                 .map(pin -> {
                     Store store = pin.getStore();
-                    List<Review> topReviews = reviewRepository.findFirst4ByStoreOrderByLikedDesc(store);               // 가장 좋아요가 많은 review                     // 가장 좋아요가 많은 review 이미지(TO DO: 3개 출력으로 변경)
-                    Integer reviewCnt = reviewRepository.countByStoreAndUserNickname(store, finalUser.getNickname());             // 내가 작성한 리뷰의 개수 == 방문 횟수
+                    List<String> topReviews = reviewImages.get(store.getStoreId());
+                    Integer reviewCnt = visitCounts.getOrDefault(store.getStoreId(), 0);
 
-                    String img1 = !topReviews.isEmpty() ? topReviews.get(0).getImg1() : "";
-                    String img2 = topReviews.size() > 1 ? topReviews.get(1).getImg1() : "";
-                    String img3 = topReviews.size() > 2 ? topReviews.get(2).getImg1() : "";
+                    String img1 = !topReviews.isEmpty() ? topReviews.get(0) : "";
+                    String img2 = topReviews.size() > 1 ? topReviews.get(1) : "";
+                    String img3 = topReviews.size() > 2 ? topReviews.get(2) : "";
 
 
                     return  PinByMyCategoryResponse.builder()
@@ -181,6 +212,7 @@ public class MyCategoryServiceImpl implements MyCategoryService {
 
         return PagingResponse.builder()
                 .hasNext(pinList.hasNext())
+                .cursor(pinList.nextCursor())
                 .result(result)
                 .build();
     }
@@ -252,9 +284,4 @@ public class MyCategoryServiceImpl implements MyCategoryService {
         }
     }
 
-    @Transactional
-    public void hardDeleteAllSoftDeleted() {
-        myCategoryRepository.deleteAllInActive();
-    }
-
 }
\ No newline at end of file
@@ -8,12 +8,14 @@ import com.umc.gusto.domain.myCategory.model.response.CreatePinResponse;
 import com.umc.gusto.domain.myCategory.repository.MyCategoryRepository;
 import com.umc.gusto.domain.myCategory.repository.PinRepository;
 import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.store.event.StoreActivityEvent;
 import com.umc.gusto.domain.store.repository.StoreRepository;
 import com.umc.gusto.domain.user.entity.User;
 import com.umc.gusto.domain.user.repository.UserRepository;
 import com.umc.gusto.global.exception.Code;
 import com.umc.gusto.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -26,6 +28,7 @@ public class PinServiceImpl implements PinService{
     private final MyCategoryRepository myCategoryRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CreatePinResponse createPin(User user, Long myCategoryId, CreatePinRequest createPin) {
@@ -51,6 +54,7 @@ public class PinServiceImpl implements PinService{
 
         user.updatePinCnt(user.getPinCnt() + 1);
         userRepository.save(user);
+        eventPublisher.publishEvent(StoreActivityEvent.of(store, StoreActivityEvent.Type.PINNED));
 
         return CreatePinResponse.builder()
                 .pinId(savedPin.getPinId())
@@ -67,6 +71,7 @@ public class PinServiceImpl implements PinService{
 
             user.updatePinCnt(user.getPinCnt() - 1);
             userRepository.save(user);
+            eventPublisher.publishEvent(StoreActivityEvent.of(pin.getStore(), StoreActivityEvent.Type.UNPINNED, pin.getCreatedAt()));
 
         }
 
@@ -23,10 +23,17 @@ public class FeedController {
         return ResponseEntity.status(HttpStatus.OK).body(feedService.getRandomFeed(user));
     }
 
+    /**
+     * 피드 검색 (검색어가 있으면 관련도 순, 해시태그는 match=and 이면 모두, or 이면 하나 이상 포함)
+     * [GET] /feeds/search?keyword=&hashTags=&match=and&cursor=
+     */
     @GetMapping("/search")
-    public ResponseEntity<?> searchFeed(@RequestParam(name = "keyword", required = false) String keyword, @RequestParam(name = "hashTags", required = false) List<Long> hashTags,
-                                        @RequestParam(name = "cursorId", required = false) Long cursorId){
-        return ResponseEntity.status(HttpStatus.OK).body(feedService.searchFeed(keyword, hashTags, cursorId));
+    public ResponseEntity<?> searchFeed(@AuthenticationPrincipal AuthUser authUser,
+                                        @RequestParam(name = "keyword", required = false) String keyword, @RequestParam(name = "hashTags", required = false) List<Long> hashTags,
+                                        @RequestParam(name = "match", defaultValue = "and") String match,
+                                        @RequestParam(name = "cursor", required = false) String cursor){
+        User user = authUser != null ? authUser.getUser() : null;
+        return ResponseEntity.status(HttpStatus.OK).body(feedService.searchFeed(user, keyword, hashTags, match, cursor));
     }
 
     @GetMapping("{reviewId}")
@@ -65,37 +65,51 @@ public class ReviewController {
 
     /**
      * 리뷰 모아보기 - 인스타 뷰
+     * [GET] /reviews/instaView?cursor=&size=
      */
     @GetMapping("/instaView")
-    public ResponseEntity<?> getReviewOfInstaView(@AuthenticationPrincipal AuthUser authUser, @RequestParam(name = "reviewId", required = false) Long reviewId, @RequestParam(name = "size") int size){
+    public ResponseEntity<?> getReviewOfInstaView(@AuthenticationPrincipal AuthUser authUser, @RequestParam(name = "cursor", required = false) String cursor, @RequestParam(name = "size") int size){
         User user = authUser.getUser();
-        return ResponseEntity.ok().body(collectReviewService.getReviewOfInstaView(user, reviewId, size));
+        return ResponseEntity.ok().body(collectReviewService.getReviewOfInstaView(user, cursor, size));
     }
 
     /**
      * 리뷰 모아보기 - 캘린더 뷰
+     * [GET] /reviews/calView?cursor=&size=&date=
      */
     @GetMapping("/calView")
-    public ResponseEntity<?> getReviewOfCalView(@AuthenticationPrincipal AuthUser authUser, @RequestParam(name = "reviewId", required = false) Long reviewId, @RequestParam(name = "size") int size, @RequestParam(name = "date") LocalDate date){
+    public ResponseEntity<?> getReviewOfCalView(@AuthenticationPrincipal AuthUser authUser, @RequestParam(name = "cursor", required = false) String cursor, @RequestParam(name = "size") int size, @RequestParam(name = "date") LocalDate date){
         User user = authUser.getUser();
-        return ResponseEntity.ok().body(collectReviewService.getReviewOfCalView(user, reviewId, size, date));
+        return ResponseEntity.ok().body(collectReviewService.getReviewOfCalView(user, cursor, size, date));
+    }
+
+    /**
+     * 리뷰 모아보기 - 캘린더 연간 방문 현황
+     * [GET] /reviews/calView/heatmap?year=
+     */
+    @GetMapping("/calView/heatmap")
+    public ResponseEntity<?> getCalendarHeatmap(@AuthenticationPrincipal AuthUser authUser, @RequestParam(name = "year") int year){
+        User user = authUser.getUser();
+        return ResponseEntity.ok().body(collectReviewService.getCalendarHeatmap(user, year));
     }
 
     /**
      * 리뷰 모아보기 - 타임라인 뷰
+     * [GET] /reviews/timelineView?cursor=&size=
      */
     @GetMapping("/timelineView")
-    public ResponseEntity<?> getReviewOfTimeView(@AuthenticationPrincipal AuthUser authUser, @RequestParam(name = "reviewId", required = false) Long reviewId, @RequestParam(name = "size") int size){
+    public ResponseEntity<?> getReviewOfTimeView(@AuthenticationPrincipal AuthUser authUser, @RequestParam(name = "cursor", required = false) String cursor, @RequestParam(name = "size") int size){
         User user = authUser.getUser();
-        return ResponseEntity.ok().body(collectReviewService.getReviewOfTimeView(user, reviewId, size));
+        return ResponseEntity.ok().body(collectReviewService.getReviewOfTimeView(user, cursor, size));
     }
   
     /**
      * 다른 유저의 리뷰 모아보기
+     * [GET] /reviews?nickName=&cursor=&size=
      */
     @GetMapping()
-    public ResponseEntity<?> getOthersReview(@RequestParam(name = "nickName")String nickName, @RequestParam(name = "reviewId", required = false) Long reviewId, @RequestParam(name = "size") int size){
-        return ResponseEntity.ok().body(collectReviewService.getOthersReview(nickName, reviewId, size));
+    public ResponseEntity<?> getOthersReview(@RequestParam(name = "nickName")String nickName, @RequestParam(name = "cursor", required = false) String cursor, @RequestParam(name = "size") int size){
+        return ResponseEntity.ok().body(collectReviewService.getOthersReview(nickName, cursor, size));
     }
 
     /**
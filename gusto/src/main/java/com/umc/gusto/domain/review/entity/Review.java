@@ -6,18 +6,28 @@ import com.umc.gusto.global.common.BaseEntity;
 import com.umc.gusto.global.common.PublishStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_review_user_visited", columnList = "userId, visitedAt, reviewId"),      // 리뷰 모아보기 keyset 페이징
+        @Index(name = "idx_review_store_visited", columnList = "storeId, visitedAt, reviewId"),    // 가게 상세 리뷰 keyset 페이징
+        @Index(name = "idx_review_img1_thumb", columnList = "img1Thumb, reviewId")                 // 변환본이 빠진 리뷰 (ImageVariantSweeper)
+})
+@DynamicUpdate      // liked 는 ReviewLikeCounter 가 따로 반영하므로 변경된 컬럼만 갱신
 public class Review extends BaseEntity {
 
     @Id
@@ -40,12 +50,23 @@ public class Review extends BaseEntity {
     @Builder.Default
     private LocalDate visitedAt = LocalDate.now();
 
-    private String img1;
+    private String img1;                // 대표 이미지 (목록/격자는 ReviewImage 를 조회하지 않고 이 값만 사용)
 
+    private String img1Thumb;           // img1 의 썸네일/중간 크기 변환본 (ImageVariantGenerator 가 비동기로 채움)
+
+    private String img1Medium;
+
+    // 이관 전 이미지 (ReviewImage 행이 없는 리뷰만 읽음, 이관이 끝나 컬럼을 지울 때 함께 지운다)
+    @Getter(AccessLevel.NONE)
+    @Column(insertable = false, updatable = false)
     private String img2;
 
+    @Getter(AccessLevel.NONE)
+    @Column(insertable = false, updatable = false)
     private String img3;
 
+    @Getter(AccessLevel.NONE)
+    @Column(insertable = false, updatable = false)
     private String img4;
 
     @Column(length = 200)
@@ -74,15 +95,43 @@ public class Review extends BaseEntity {
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private final Set<Tagging> taggingSet = new HashSet<>();          // 중복 허용x
 
-    public List<String> getImageList(){ //TODO: monogoDB를 활용하여 해당 코드를 리팩토링하는게 좋을 듯
-        List<String> imageList = new ArrayList<>();
-        if(this.img1 != null) imageList.add(this.img1);
-        if(this.img2 != null) imageList.add(this.img2);
-        if(this.img3 != null) imageList.add(this.img3);
-        if(this.img4 != null) imageList.add(this.img4);
+    @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("ordinal")
+    @BatchSize(size = 100)              // 한 페이지의 리뷰 이미지를 IN 쿼리 한 번으로 조회
+    private final List<ReviewImage> images = new ArrayList<>();
+
+    // 아직 이관되지 않은 리뷰는 img1..img4 컬럼에서 읽음
+    public List<String> getImageList(){
+        if(images.isEmpty()){
+            return Stream.of(img1, img2, img3, img4).filter(Objects::nonNull).toList();
+        }
+        return images.stream().map(ReviewImage::getUrl).toList();
+    }
 
-        return imageList;
+    /**
+     * 이미지 교체 (같은 순서의 행은 URL 만 바꿔 (reviewId, ordinal) 유일 조건과 부딪히지 않게 함)
+     * 교체되어 더 이상 쓰지 않는 이전 이미지 URL 을 돌려준다.
+     */
+    public List<String> replaceImages(List<String> urls){
+        List<String> previous = new ArrayList<>(getImageList());
+        previous.removeAll(urls);
+
+        for(int i = 0; i < urls.size(); i++){
+            if(i < images.size()){
+                images.get(i).updateUrl(urls.get(i));
+            }else{
+                images.add(ReviewImage.builder().review(this).ordinal(i).url(urls.get(i)).build());
+            }
+        }
+        while(images.size() > urls.size()){
+            images.remove(images.size() - 1);
+        }
+        if(!urls.get(0).equals(img1)){
+            updateImg1(urls.get(0));
+        }
+        return previous;
     }
+
     public void connectHashTag(Tagging tagging) {
         this.taggingSet.add(tagging);
     }
@@ -107,26 +156,19 @@ public class Review extends BaseEntity {
         this.status = status;
     }
 
-    //TODO: image를 리뷰엔티티가 아닌 file엔티티(photo)로 구분해서 만드는게 나을듯
     public void updateImg1(String img1){
         this.img1 = img1;
+        this.img1Thumb = null;
+        this.img1Medium = null;
     }
 
-    public void updateImg2(String img2){
-        this.img2 = img2;
-    }
-
-    public void updateImg3(String img3){
-        this.img3 = img3;
-    }
-
-    public void updateImg4(String img4){
-        this.img4 = img4;
+    // 변환본이 아직 없으면 원본
+    public String getCoverThumbnail() {
+        return img1Thumb != null ? img1Thumb : img1;
     }
 
-    public void updateLiked(String type){
-        if(type.equals("like")) this.liked += 1;
-        else if(type.equals("unlike")) this.liked -= 1;
+    public String getCoverMedium() {
+        return img1Medium != null ? img1Medium : img1;
     }
 
     public void updatePublishReview(boolean check){
@@ -0,0 +1,34 @@
+package com.umc.gusto.domain.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 리뷰 이미지 (ordinal 순서대로, 0 번이 대표 이미지)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"reviewId", "ordinal"}))
+public class ReviewImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long reviewImageId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reviewId", nullable = false)
+    private Review review;
+
+    @Column(nullable = false)
+    private int ordinal;
+
+    @Column(nullable = false)
+    private String url;
+
+    public void updateUrl(String url) {
+        this.url = url;
+    }
+}
@@ -0,0 +1,34 @@
+package com.umc.gusto.domain.review.entity;
+
+import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.user.entity.User;
+import com.umc.gusto.global.common.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * (유저, 가게) 별 방문 횟수 = ACTIVE 리뷰 개수
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"userId", "storeId"}))
+public class StoreVisit extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long storeVisitId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "userId", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "storeId", nullable = false)
+    private Store store;
+
+    @Column(nullable = false)
+    private int visitCount;
+}
@@ -0,0 +1,17 @@
+package com.umc.gusto.domain.review.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리뷰 변경 이벤트
+ * 리뷰를 기반으로 만든 조회용 데이터(가게 대표 이미지 등)는 커밋 이후 이 이벤트를 받아 갱신한다.
+ * 가게의 지역/카테고리를 함께 실어, 받는 쪽이 가게를 다시 조회하지 않도록 한다.
+ * activityAt 은 취소된 활동이 원래 일어난 시각이다. (DELETED : 리뷰 작성, UNLIKED : 좋아요, 그 외에는 null)
+ */
+public record ReviewChangedEvent(Long reviewId, Long storeId, String townCode, String category, UUID userId, Type type,
+                                 LocalDateTime activityAt) {
+    public enum Type {
+        CREATED, UPDATED, DELETED, LIKED, UNLIKED
+    }
+}
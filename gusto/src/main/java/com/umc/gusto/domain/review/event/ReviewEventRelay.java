@@ -0,0 +1,111 @@
+package com.umc.gusto.domain.review.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.gusto.domain.user.event.ReviewVisibilityChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 커밋된 리뷰 변경을 Redis pub/sub 으로 다른 인스턴스에 전달
+ * 받은 쪽은 자기 인스턴스의 ReviewReadModel 에 그대로 반영하고, 자신이 보낸 메시지는 이미 반영했으므로 건너뛴다.
+ * 좋아요/취소는 Review.liked 반영 전이라 보내지 않고, flush 이후의 ReviewLikesFlushedEvent 로 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewEventRelay implements MessageListener {
+    private static final String CHANNEL = "review-events";
+
+    private final String origin = UUID.randomUUID().toString();     // 이 인스턴스 식별자
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final List<ReviewReadModel> readModels;
+
+    // 이벤트 하나만 채워서 보낸다
+    record Envelope(String origin, ReviewChangedEvent changed, ReviewVisibilityChangedEvent visibilityChanged,
+                    ReviewLikesFlushedEvent likesFlushed, ReviewImageVariantsReadyEvent variantsReady) {
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.type() == ReviewChangedEvent.Type.LIKED || event.type() == ReviewChangedEvent.Type.UNLIKED) {
+            return;
+        }
+        publish(new Envelope(origin, event, null, null, null));
+    }
+
+    @TransactionalEventListener
+    public void onReviewVisibilityChanged(ReviewVisibilityChangedEvent event) {
+        publish(new Envelope(origin, null, event, null, null));
+    }
+
+    @EventListener
+    public void onReviewLikesFlushed(ReviewLikesFlushedEvent event) {
+        publish(new Envelope(origin, null, null, event, null));
+    }
+
+    @TransactionalEventListener
+    public void onReviewImageVariantsReady(ReviewImageVariantsReadyEvent event) {
+        publish(new Envelope(origin, null, null, null, event));
+    }
+
+    private void publish(Envelope envelope) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(envelope));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 커밋은 이미 끝났으므로 요청을 실패시키지 않는다
+            log.warn("review event relay failed : {}", envelope, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(message.getBody(), Envelope.class);
+        } catch (IOException e) {
+            log.warn("unreadable review event", e);
+            return;
+        }
+        if (origin.equals(envelope.origin())) {
+            return;
+        }
+
+        for (ReviewReadModel readModel : readModels) {
+            try {
+                if (envelope.changed() != null) {
+                    readModel.onReviewChanged(envelope.changed());
+                } else if (envelope.visibilityChanged() != null) {
+                    readModel.onReviewVisibilityChanged(envelope.visibilityChanged());
+                } else if (envelope.likesFlushed() != null) {
+                    readModel.onReviewLikesFlushed(envelope.likesFlushed());
+                } else if (envelope.variantsReady() != null) {
+                    readModel.onReviewImageVariantsReady(envelope.variantsReady());
+                }
+            } catch (RuntimeException e) {
+                log.warn("{} failed to apply {}", readModel.getClass().getSimpleName(), envelope, e);
+            }
+        }
+    }
+}
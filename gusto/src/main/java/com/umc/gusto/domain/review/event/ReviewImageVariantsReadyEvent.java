@@ -0,0 +1,10 @@
+package com.umc.gusto.domain.review.event;
+
+import java.util.UUID;
+
+/**
+ * 리뷰 대표 이미지(img1)의 변환본이 컬럼에 반영된 이벤트
+ * 리뷰 내용은 그대로이므로 변환본 URL 을 들고 있는 조회용 데이터(피드 후보, 캘린더)만 갱신한다.
+ */
+public record ReviewImageVariantsReadyEvent(Long reviewId, UUID userId) {
+}
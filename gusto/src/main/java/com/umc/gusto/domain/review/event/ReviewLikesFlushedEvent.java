@@ -0,0 +1,10 @@
+package com.umc.gusto.domain.review.event;
+
+import java.util.Set;
+
+/**
+ * 쌓여 있던 좋아요 증감이 Review.liked 에 반영된 이벤트
+ * 좋아요 수 순으로 만든 조회용 데이터(가게 대표 이미지)는 이 시점에 해당 가게만 비운다.
+ */
+public record ReviewLikesFlushedEvent(Set<Long> storeIds) {
+}
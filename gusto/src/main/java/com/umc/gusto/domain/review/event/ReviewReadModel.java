@@ -0,0 +1,20 @@
+package com.umc.gusto.domain.review.event;
+
+import com.umc.gusto.domain.user.event.ReviewVisibilityChangedEvent;
+
+/**
+ * 리뷰 데이터로 만든 인스턴스 메모리의 조회용 데이터 (색인, 캐시)
+ * 같은 인스턴스에서 커밋된 변경은 이벤트 리스너로, 다른 인스턴스의 변경은 ReviewEventRelay 를 거쳐 같은 메서드로 반영한다.
+ */
+public interface ReviewReadModel {
+    void onReviewChanged(ReviewChangedEvent event);
+
+    default void onReviewVisibilityChanged(ReviewVisibilityChangedEvent event) {
+    }
+
+    default void onReviewLikesFlushed(ReviewLikesFlushedEvent event) {
+    }
+
+    default void onReviewImageVariantsReady(ReviewImageVariantsReadyEvent event) {
+    }
+}
@@ -0,0 +1,248 @@
+package com.umc.gusto.domain.review.index;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.review.event.ReviewReadModel;
+import com.umc.gusto.domain.review.model.TaggingVO;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 해시태그 → 검색 가능한 리뷰(ACTIVE, 공개, 스킵하지 않음) 역색인
+ * 태그마다 reviewId 오름차순으로 정렬된 long 배열을 들고 있어, 여러 태그의 AND/OR 를 reviewId 내림차순으로 바로 훑는다.
+ * (reviewId 크기와 상관없이 태그가 달린 리뷰 수만큼만 메모리를 쓴다)
+ * 적재는 taggingId 순이라 어느 chunk 가 리뷰를 덮는지 알 수 없으므로, 적재 중 커밋된 변경은 마지막 chunk 이후 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashTagIndex implements ReviewReadModel {
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final ReviewRepository reviewRepository;
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    // 아래는 쓰기 잠금 안에서만 사용
+    private boolean loading = true;
+    private final Set<Long> changedDuringLoad = new HashSet<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        Long lastTaggingId = 0L;
+        List<TaggingVO> chunk;
+        do {
+            chunk = reviewRepository.findSearchableTaggingsAfter(lastTaggingId, Pageable.ofSize(LOAD_CHUNK_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (TaggingVO tagging : chunk) {
+                    postings.computeIfAbsent(tagging.getHashTagId(), id -> new Postings()).add(tagging.getReviewId());
+                    lastTaggingId = tagging.getTaggingId();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        Set<Long> changed;
+        lock.writeLock().lock();
+        try {
+            loading = false;
+            changed = new HashSet<>(changedDuringLoad);
+            changedDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changed.forEach(this::refresh);
+
+        ready = true;
+        log.info("hashtag index loaded : {} tags", postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 리뷰 작성/수정/삭제가 커밋되면 해당 리뷰의 태그를 다시 반영
+    @Override
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.type() == ReviewChangedEvent.Type.LIKED || event.type() == ReviewChangedEvent.Type.UNLIKED) {
+            return;
+        }
+        refresh(event.reviewId());
+    }
+
+    private void refresh(Long reviewId) {
+        List<Long> hashTagIds = reviewRepository.findHashTagIdsOfSearchableReview(reviewId);
+        lock.writeLock().lock();
+        try {
+            postings.values().removeIf(list -> list.remove(reviewId) && list.size() == 0);
+            hashTagIds.forEach(hashTagId -> postings.computeIfAbsent(hashTagId, id -> new Postings()).add(reviewId));
+            if (loading) {
+                changedDuringLoad.add(reviewId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 태그를 모두(matchAll) 또는 하나 이상 가진 리뷰를 cursorId 미만에서 reviewId 내림차순으로 최대 limit 개
+     */
+    public List<Long> search(Collection<Long> hashTagIds, boolean matchAll, Long cursorId, int limit, LongPredicate filter) {
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>();
+            for (Long hashTagId : new LinkedHashSet<>(hashTagIds)) {
+                Postings list = postings.get(hashTagId);
+                if (list != null) {
+                    lists.add(list);
+                } else if (matchAll) {
+                    return List.of();
+                }
+            }
+            if (lists.isEmpty()) {
+                return List.of();
+            }
+            // AND 는 가장 작은 목록을 기준으로 나머지에 있는지 확인
+            lists.sort(Comparator.comparingInt(Postings::size));
+            long before = cursorId == null ? Long.MAX_VALUE : cursorId;
+            return matchAll ? searchAll(lists, before, limit, filter) : searchAny(lists, before, limit, filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 리뷰가 태그를 모두(matchAll) 또는 하나 이상 가졌는지
+     */
+    public boolean matches(Collection<Long> hashTagIds, boolean matchAll, long reviewId) {
+        lock.readLock().lock();
+        try {
+            for (Long hashTagId : hashTagIds) {
+                Postings list = postings.get(hashTagId);
+                boolean tagged = list != null && list.contains(reviewId);
+                if (tagged != matchAll) {
+                    return tagged;
+                }
+            }
+            return matchAll;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Long> searchAll(List<Postings> lists, long before, int limit, LongPredicate filter) {
+        List<Long> result = new ArrayList<>();
+        Postings base = lists.get(0);
+        for (int i = base.indexBefore(before); i >= 0 && result.size() < limit; i--) {
+            long reviewId = base.id(i);
+            if (inAll(lists, reviewId) && filter.test(reviewId)) {
+                result.add(reviewId);
+            }
+        }
+        return result;
+    }
+
+    // 목록마다 위치를 두고 가장 큰 reviewId 부터 꺼낸다 (같은 리뷰는 모든 목록에서 함께 넘김)
+    private static List<Long> searchAny(List<Postings> lists, long before, int limit, LongPredicate filter) {
+        int[] positions = new int[lists.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = lists.get(i).indexBefore(before);
+        }
+        List<Long> result = new ArrayList<>();
+        while (result.size() < limit) {
+            long next = -1;
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] >= 0) {
+                    next = Math.max(next, lists.get(i).id(positions[i]));
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] >= 0 && lists.get(i).id(positions[i]) == next) {
+                    positions[i]--;
+                }
+            }
+            if (filter.test(next)) {
+                result.add(next);
+            }
+        }
+        return result;
+    }
+
+    private static boolean inAll(List<Postings> lists, long reviewId) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(reviewId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * reviewId 오름차순으로 정렬된 배열
+     * 적재는 taggingId 순이지만 태그는 대부분 리뷰 작성 시 달리므로 거의 뒤에 붙는다.
+     */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size = 0;
+
+        int size() {
+            return size;
+        }
+
+        long id(int index) {
+            return ids[index];
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        // id 가 before 미만인 마지막 위치 (없으면 -1)
+        int indexBefore(long before) {
+            int index = Arrays.binarySearch(ids, 0, size, before);
+            return (index >= 0 ? index : -index - 1) - 1;
+        }
+
+        void add(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.umc.gusto.domain.review.index;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.review.event.ReviewReadModel;
+import com.umc.gusto.domain.review.model.ReviewTextVO;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 검색 가능한 리뷰(ACTIVE, 공개, 스킵하지 않음)의 가게명/메뉴명/내용 역색인
+ * 단어마다 글자 하나와 연속된 두 글자를 색인해 조사가 붙은 한글 단어나 한 글자 검색어("빵" → "빵집")도 찾을 수 있게 하고,
+ * 검색어의 토큰(두 글자 이상 단어는 2-gram, 한 글자 단어는 그대로)을 모두 가진 리뷰를 BM25 점수 내림차순(같으면 reviewId 내림차순)으로 돌려준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewTextIndex implements ReviewReadModel {
+    private static final int LOAD_CHUNK_SIZE = 5000;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int STORE_NAME_WEIGHT = 2;            // 가게명/메뉴명은 내용보다 무겁게
+    private static final int MENU_NAME_WEIGHT = 2;
+    private static final int COMMENT_WEIGHT = 1;
+    private static final int MAX_QUERY_TERMS = 32;             // 커서에 토큰별 문서 빈도를 담으므로 토큰 수 제한
+
+    private final ReviewRepository reviewRepository;
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength = 0;
+    private volatile boolean ready = false;
+
+    // 아래는 쓰기 잠금 안에서만 사용
+    private long loadedUpTo = 0;                                    // 적재된 chunk 의 마지막 reviewId (적재가 끝나면 Long.MAX_VALUE)
+    private final Set<Long> changedDuringLoad = new HashSet<>();    // 아직 chunk 가 반영되지 않은 구간에서 변경된 리뷰
+
+    /**
+     * 점수를 계산한 시점의 문서 수, 전체 길이, 검색어 토큰별 문서 빈도
+     * 리뷰가 추가/삭제될 때마다 idf 와 평균 길이가 바뀌므로, 다음 페이지도 첫 페이지와 같은 값으로 점수를 계산한다.
+     */
+    public record Stats(long documentCount, long totalLength, long[] documentFrequencies) {
+    }
+
+    /**
+     * 결과 목록에서의 위치와 점수 계산에 쓴 통계 (다음 페이지 커서에 그대로 담는다)
+     * stats 가 없으면 현재 색인의 통계로 계산한다.
+     */
+    public record Position(double score, long reviewId, Stats stats) {
+    }
+
+    public record SearchResult(List<Long> reviewIds, boolean hasNext, Position last) {
+    }
+
+    private record Document(String[] terms, int length) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long start = System.currentTimeMillis();
+        Long lastReviewId = 0L;
+        List<ReviewTextVO> chunk;
+        do {
+            chunk = reviewRepository.findSearchableTextsAfter(lastReviewId, Pageable.ofSize(LOAD_CHUNK_SIZE));
+            Set<Long> covered = new HashSet<>();
+            lock.writeLock().lock();
+            try {
+                for (ReviewTextVO text : chunk) {
+                    putDocument(text);
+                    lastReviewId = text.getReviewId();
+                }
+                loadedUpTo = chunk.size() == LOAD_CHUNK_SIZE ? lastReviewId : Long.MAX_VALUE;
+                changedDuringLoad.removeIf(reviewId -> reviewId <= loadedUpTo && covered.add(reviewId));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // chunk 를 읽은 뒤 커밋된 변경이 chunk 에 덮였을 수 있으므로 다시 색인
+            covered.forEach(this::refresh);
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        ready = true;
+        log.info("review text index loaded : {} reviews, {} terms in {}ms",
+                documents.size(), postings.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 리뷰 작성/수정/삭제가 커밋되면 해당 리뷰를 다시 색인
+    @Override
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.type() == ReviewChangedEvent.Type.LIKED || event.type() == ReviewChangedEvent.Type.UNLIKED) {
+            return;
+        }
+        refresh(event.reviewId());
+    }
+
+    private void refresh(Long reviewId) {
+        List<ReviewTextVO> texts = reviewRepository.findSearchableText(reviewId);
+        lock.writeLock().lock();
+        try {
+            removeDocument(reviewId);
+            texts.forEach(this::putDocument);
+            if (reviewId > loadedUpTo) {
+                changedDuringLoad.add(reviewId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 토큰을 모두 가진 리뷰를 관련도 순으로 조회
+     * after 는 이전 페이지 마지막 리뷰의 (점수, reviewId) 로, 그 리뷰가 그 사이 수정/삭제되어도 같은 위치부터 이어서 조회한다.
+     * 점수는 첫 페이지에서 구한 통계(after.stats)로 계산해, 그 사이 다른 리뷰가 바뀌어도 이미 내려간 리뷰의 점수가 변하지 않게 한다.
+     */
+    public SearchResult search(String keyword, Position after, int size, LongPredicate filter) {
+        List<String> terms = queryTerms(keyword).stream().distinct().limit(MAX_QUERY_TERMS).toList();
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), false, null);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>();
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return new SearchResult(List.of(), false, null);
+                }
+                lists.add(list);
+            }
+            Stats stats = after != null && after.stats() != null && after.stats().documentFrequencies().length == lists.size()
+                    ? after.stats() : currentStats(lists);
+            double averageLength = (double) stats.totalLength() / stats.documentCount();
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = idf(stats.documentCount(), stats.documentFrequencies()[i]);
+            }
+
+            double afterScore = after != null ? after.score() : Double.POSITIVE_INFINITY;
+            long afterId = after != null ? after.reviewId() : Long.MAX_VALUE;
+
+            // 가장 짧은 목록을 기준으로 나머지에 모두 있는 리뷰만 점수 계산
+            int smallest = 0;
+            for (int i = 1; i < lists.size(); i++) {
+                if (lists.get(i).size() < lists.get(smallest).size()) {
+                    smallest = i;
+                }
+            }
+            PriorityQueue<Scored> best = new PriorityQueue<>(BY_RELEVANCE.reversed());
+            Postings base = lists.get(smallest);
+            for (int i = 0; i < base.size(); i++) {
+                long reviewId = base.id(i);
+                Document document = documents.get(reviewId);
+                double score = score(reviewId, document, lists, idf, averageLength);
+                if (score < 0 || !isAfter(score, reviewId, afterScore, afterId) || !filter.test(reviewId)) {
+                    continue;
+                }
+                best.add(new Scored(reviewId, score));
+                if (best.size() > size + 1) {
+                    best.poll();
+                }
+            }
+
+            List<Scored> page = new ArrayList<>(best);
+            page.sort(BY_RELEVANCE);
+            boolean hasNext = page.size() > size;
+            List<Scored> content = page.subList(0, Math.min(size, page.size()));
+            List<Long> reviewIds = content.stream().map(Scored::reviewId).toList();
+            Position last = content.isEmpty() ? null : new Position(content.get(content.size() - 1).score(), content.get(content.size() - 1).reviewId(), stats);
+            return new SearchResult(reviewIds, hasNext, last);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Scored(long reviewId, double score) {
+    }
+
+    private static final Comparator<Scored> BY_RELEVANCE = Comparator.comparingDouble(Scored::score).reversed()
+            .thenComparing(Scored::reviewId, Comparator.reverseOrder());
+
+    private static boolean isAfter(double score, long reviewId, double afterScore, long afterId) {
+        return score < afterScore || (score == afterScore && reviewId < afterId);
+    }
+
+    // BM25 (검색어 토큰 중 하나라도 없으면 -1)
+    private double score(long reviewId, Document document, List<Postings> lists, double[] idf, double averageLength) {
+        double score = 0;
+        double norm = K1 * (1 - B + B * document.length() / averageLength);
+        for (int i = 0; i < lists.size(); i++) {
+            int tf = lists.get(i).frequency(reviewId);
+            if (tf == 0) {
+                return -1;
+            }
+            score += idf[i] * tf * (K1 + 1) / (tf + norm);
+        }
+        return score;
+    }
+
+    private Stats currentStats(List<Postings> lists) {
+        return new Stats(documents.size(), totalLength, lists.stream().mapToLong(Postings::size).toArray());
+    }
+
+    private static double idf(long documentCount, long documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void putDocument(ReviewTextVO text) {
+        removeDocument(text.getReviewId());
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, text.getStoreName(), STORE_NAME_WEIGHT);
+        addTerms(frequencies, text.getMenuName(), MENU_NAME_WEIGHT);
+        addTerms(frequencies, text.getComment(), COMMENT_WEIGHT);
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new Postings()).put(text.getReviewId(), entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(text.getReviewId(), new Document(frequencies.keySet().toArray(String[]::new), length));
+        totalLength += length;
+    }
+
+    private void removeDocument(Long reviewId) {
+        Document previous = documents.remove(reviewId);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String term : previous.terms()) {
+            Postings list = postings.get(term);
+            if (list != null && list.remove(reviewId) && list.size() == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String term : indexTerms(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    // 글자/숫자가 아닌 문자로 단어를 나누고, 단어마다 소문자 1-gram 과 2-gram
+    static List<String> indexTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                terms.add(word.substring(i, i + 1));
+                if (i + 2 <= word.length()) {
+                    terms.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    // 두 글자 이상 단어는 2-gram 만으로 충분히 좁혀지므로, 1-gram 은 한 글자 단어에만 쓴다
+    static List<String> queryTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                terms.add(word);
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    /**
+     * reviewId 오름차순으로 정렬된 (reviewId, 가중 빈도) 배열
+     * 새 리뷰는 대부분 가장 큰 reviewId 라 뒤에 붙는다.
+     */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int[] frequencies = new int[4];
+        private int size = 0;
+
+        int size() {
+            return size;
+        }
+
+        long id(int index) {
+            return ids[index];
+        }
+
+        int frequency(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            return index >= 0 ? frequencies[index] : 0;
+        }
+
+        void put(long id, int frequency) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                frequencies[index] = frequency;
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            frequencies[insertAt] = frequency;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
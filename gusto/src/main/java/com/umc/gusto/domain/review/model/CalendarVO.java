@@ -0,0 +1,9 @@
+package com.umc.gusto.domain.review.model;
+
+import java.time.LocalDate;
+
+public interface CalendarVO {
+    Long getReviewId();
+    LocalDate getVisitedAt();
+    String getImage();
+}
@@ -0,0 +1,9 @@
+package com.umc.gusto.domain.review.model;
+
+import java.util.UUID;
+
+public interface FeedCandidateVO {
+    Long getReviewId();
+    String getImage();
+    UUID getUserId();
+}
@@ -0,0 +1,7 @@
+package com.umc.gusto.domain.review.model;
+
+import java.time.LocalDate;
+
+public interface ReviewCardVO extends FeedVO {
+    LocalDate getVisitedAt();
+}
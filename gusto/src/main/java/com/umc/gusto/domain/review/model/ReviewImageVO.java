@@ -0,0 +1,6 @@
+package com.umc.gusto.domain.review.model;
+
+public interface ReviewImageVO {
+    Long getReviewId();
+    String getUrl();
+}
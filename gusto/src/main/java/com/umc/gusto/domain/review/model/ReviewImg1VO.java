@@ -0,0 +1,9 @@
+package com.umc.gusto.domain.review.model;
+
+import java.util.UUID;
+
+public interface ReviewImg1VO {
+    Long getReviewId();
+    UUID getUserId();
+    String getImg1();
+}
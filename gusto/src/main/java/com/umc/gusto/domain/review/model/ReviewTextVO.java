@@ -0,0 +1,8 @@
+package com.umc.gusto.domain.review.model;
+
+public interface ReviewTextVO {
+    Long getReviewId();
+    String getStoreName();
+    String getMenuName();
+    String getComment();
+}
@@ -0,0 +1,6 @@
+package com.umc.gusto.domain.review.model;
+
+public interface StoreCountVO {
+    Long getStoreId();
+    Long getCount();
+}
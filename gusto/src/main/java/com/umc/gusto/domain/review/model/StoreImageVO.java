@@ -0,0 +1,6 @@
+package com.umc.gusto.domain.review.model;
+
+public interface StoreImageVO {
+    Long getStoreId();
+    String getImage();
+}
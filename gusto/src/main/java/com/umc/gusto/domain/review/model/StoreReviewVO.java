@@ -0,0 +1,13 @@
+package com.umc.gusto.domain.review.model;
+
+import java.time.LocalDate;
+
+public interface StoreReviewVO {
+    Long getReviewId();
+    LocalDate getVisitedAt();
+    String getProfileImage();
+    String getNickname();
+    Integer getLiked();
+    String getComment();
+    String getImage();
+}
@@ -0,0 +1,7 @@
+package com.umc.gusto.domain.review.model;
+
+public interface TaggingVO {
+    Long getTaggingId();
+    Long getHashTagId();
+    Long getReviewId();
+}
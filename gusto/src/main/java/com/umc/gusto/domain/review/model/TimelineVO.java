@@ -0,0 +1,11 @@
+package com.umc.gusto.domain.review.model;
+
+import java.time.LocalDate;
+
+public interface TimelineVO {
+    Long getReviewId();
+    LocalDate getVisitedAt();
+    Long getStoreId();
+    String getStoreName();
+    String getImage();
+}
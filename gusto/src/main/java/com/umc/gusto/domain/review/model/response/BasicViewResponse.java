@@ -1,6 +1,7 @@
 package com.umc.gusto.domain.review.model.response;
 
-import com.umc.gusto.domain.review.entity.Review;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umc.gusto.domain.review.model.FeedVO;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,10 +11,21 @@ public class BasicViewResponse {
     Long reviewId;
     String images;
 
-    public static BasicViewResponse of(Review review){
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Boolean liked;          // 피드 검색에서만 내려줌
+
+    public static BasicViewResponse of(FeedVO feedVO){
+        return BasicViewResponse.builder()
+                .reviewId(feedVO.getReviewId())
+                .images(feedVO.getImage())
+                .build();
+    }
+
+    public static BasicViewResponse of(FeedVO feedVO, boolean liked){
         return BasicViewResponse.builder()
-                .reviewId(review.getReviewId())
-                .images(review.getImg1())
+                .reviewId(feedVO.getReviewId())
+                .images(feedVO.getImage())
+                .liked(liked)
                 .build();
     }
 }
@@ -0,0 +1,40 @@
+package com.umc.gusto.domain.review.model.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 연간 일별 방문(리뷰) 수
+ * runs 는 1월 1일부터 [방문 수, 연속 일수] 쌍을 이어 붙인 run-length 배열 (예: [0, 31, 2, 1, 0, 333] → 2월 1일에 2회)
+ */
+@Builder
+@Getter
+public class CalendarHeatmapResponse {
+    int year;
+    int totalCount;
+    List<Integer> runs;
+
+    public static CalendarHeatmapResponse of(int year, int[] dailyCounts){
+        List<Integer> runs = new ArrayList<>();
+        int totalCount = 0;
+        for(int day = 0; day < dailyCounts.length; ){
+            int count = dailyCounts[day];
+            int length = 0;
+            while(day < dailyCounts.length && dailyCounts[day] == count){
+                day++;
+                length++;
+            }
+            runs.add(count);
+            runs.add(length);
+            totalCount += count * length;
+        }
+        return CalendarHeatmapResponse.builder()
+                .year(year)
+                .totalCount(totalCount)
+                .runs(runs)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.umc.gusto.domain.review.model.response;
 
 import com.umc.gusto.domain.review.entity.Review;
+import com.umc.gusto.domain.review.model.CalendarVO;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -17,7 +18,15 @@ public class CalendarViewResponse { //TODO: 데모데이 후 원래 캘린더 
         return CalendarViewResponse.builder()
                 .reviewId(review.getReviewId())
                 .visitedDate(review.getVisitedAt())
-                .images(review.getImg1())
+                .images(review.getCoverThumbnail())
+                .build();
+    }
+
+    public static CalendarViewResponse of(CalendarVO calendarVO){
+        return CalendarViewResponse.builder()
+                .reviewId(calendarVO.getReviewId())
+                .visitedDate(calendarVO.getVisitedAt())
+                .images(calendarVO.getImage())
                 .build();
     }
 }
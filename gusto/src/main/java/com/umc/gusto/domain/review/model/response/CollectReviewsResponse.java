@@ -9,13 +9,13 @@ import java.util.List;
 @Getter
 public class CollectReviewsResponse {
     List<?> reviews;
-    Long cursorId;
+    String cursor;
     boolean hasNext;
 
-    public static CollectReviewsResponse of(List<?> reviews, Long cursorId, boolean hasNext){
+    public static CollectReviewsResponse of(List<?> reviews, String cursor, boolean hasNext){
         return CollectReviewsResponse.builder()
                 .reviews(reviews)
-                .cursorId(cursorId)
+                .cursor(cursor)
                 .hasNext(hasNext)
                 .build();
     }
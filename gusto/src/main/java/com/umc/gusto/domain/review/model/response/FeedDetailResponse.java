@@ -40,7 +40,7 @@ public class FeedDetailResponse {
                 .storeName(review.getStore().getStoreName())
                 .address(review.getStore().getAddress())
                 .nickName(review.getUser().getNickname())
-                .profileImage(review.getUser().getProfileImage())
+                .profileImage(review.getUser().getProfileThumbnail())
                 .likeCnt(review.getLiked())
                 .likeCheck(likeCheck)
                 .images(review.getImageList())
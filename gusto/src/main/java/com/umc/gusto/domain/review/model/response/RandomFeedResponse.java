@@ -10,18 +10,20 @@ import lombok.Getter;
 public class RandomFeedResponse {
     Long reviewId;
     String images;
+    boolean liked;
 
     public static RandomFeedResponse of(Review review){
         return RandomFeedResponse.builder()
                 .reviewId(review.getReviewId())
-                .images(review.getImg1())
+                .images(review.getCoverMedium())
                 .build();
     }
 
-    public static RandomFeedResponse of(FeedVO feedVO){
+    public static RandomFeedResponse of(FeedVO feedVO, boolean liked){
         return RandomFeedResponse.builder()
                 .reviewId(feedVO.getReviewId())
                 .images(feedVO.getImage())
+                .liked(liked)
                 .build();
     }
 }
@@ -12,14 +12,14 @@ import java.util.List;
 public class SearchFeedResponse {
     List<BasicViewResponse> reviews;
     boolean hasNext;
-    Long cursorId;
+    String cursor;
 
 
-    public static SearchFeedResponse of(List<BasicViewResponse> reviews, boolean hasNext, Long cursorId){
+    public static SearchFeedResponse of(List<BasicViewResponse> reviews, boolean hasNext, String cursor){
         return SearchFeedResponse.builder()
                 .reviews(reviews)
                 .hasNext(hasNext)
-                .cursorId(cursorId)
+                .cursor(cursor)
                 .build();
     }
 }
@@ -1,6 +1,6 @@
 package com.umc.gusto.domain.review.model.response;
 
-import com.umc.gusto.domain.review.entity.Review;
+import com.umc.gusto.domain.review.model.TimelineVO;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -16,13 +16,13 @@ public class TimelineViewResponse {
     int visitedCount;
     List<String> images;
 
-    public static TimelineViewResponse of(Review review, int visitedCount){
+    public static TimelineViewResponse of(TimelineVO timelineVO, int visitedCount, List<String> images){
         return TimelineViewResponse.builder()
-                .reviewId(review.getReviewId())
-                .storeName(review.getStore().getStoreName())
-                .visitedAt(review.getVisitedAt())
+                .reviewId(timelineVO.getReviewId())
+                .storeName(timelineVO.getStoreName())
+                .visitedAt(timelineVO.getVisitedAt())
                 .visitedCount(visitedCount)
-                .images(review.getImageList())
+                .images(images)
                 .build();
     }
 }
@@ -4,11 +4,19 @@ import com.umc.gusto.domain.review.entity.Liked;
 import com.umc.gusto.domain.review.entity.Review;
 import com.umc.gusto.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LikedRepository extends JpaRepository<Liked, Long> {
     Optional<Liked> findByUserAndReview(User user, Review review);
     boolean existsByUserAndReview(User user, Review review);
+    @Query("SELECT l.review.reviewId FROM Liked l WHERE l.user = :user")
+    List<Long> findReviewIdsByUser(User user);
+    @Modifying
+    @Query("DELETE FROM Liked l WHERE l.user = :user AND l.review = :review")
+    int deleteByUserAndReview(User user, Review review);
 
 }
@@ -0,0 +1,54 @@
+package com.umc.gusto.domain.review.repository;
+
+import com.umc.gusto.domain.review.entity.ReviewImage;
+import com.umc.gusto.domain.review.model.ReviewImageVO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long> {
+    // 목록 화면용 이미지 URL (리뷰 엔티티 없이 한 번에 조회)
+    @Query("SELECT ri.review.reviewId as reviewId, ri.url as url FROM ReviewImage ri " +
+            "WHERE ri.review.reviewId IN :reviewIds ORDER BY ri.review.reviewId, ri.ordinal")
+    List<ReviewImageVO> findUrlsByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    default Map<Long, List<String>> findUrlsGroupByReviewId(Collection<Long> reviewIds) {
+        Map<Long, List<String>> urls = new LinkedHashMap<>();
+        if (reviewIds.isEmpty()) {
+            return urls;
+        }
+        for (ReviewImageVO image : findUrlsByReviewIds(reviewIds)) {
+            urls.computeIfAbsent(image.getReviewId(), reviewId -> new ArrayList<>()).add(image.getUrl());
+        }
+        return urls;
+    }
+
+    /*
+        img1..img4 컬럼 → review_image 이관 (ReviewImageMigration)
+     */
+    @Query(value = "SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = 'review' AND column_name = 'img4'", nativeQuery = true)
+    int countLegacyImageColumns();
+    @Query(value = "SELECT COALESCE(MAX(review_id), 0) FROM review", nativeQuery = true)
+    long findMaxReviewId();
+    // 이미 이미지 행이 있는 리뷰(새 방식으로 수정된 리뷰)는 건너뜀
+    // 비어 있는 컬럼을 건너뛰어도 ordinal 이 0 부터 이어지도록 번호를 다시 매김 (Review.getImageList() 와 같은 순서)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO review_image (review_id, ordinal, url) " +
+            "SELECT t.review_id, ROW_NUMBER() OVER (PARTITION BY t.review_id ORDER BY t.col) - 1, t.url FROM (" +
+            "SELECT r.review_id, 1 as col, r.img1 as url FROM review r WHERE r.review_id > :fromId AND r.review_id <= :toId AND r.img1 IS NOT NULL " +
+            "UNION ALL SELECT r.review_id, 2, r.img2 FROM review r WHERE r.review_id > :fromId AND r.review_id <= :toId AND r.img2 IS NOT NULL " +
+            "UNION ALL SELECT r.review_id, 3, r.img3 FROM review r WHERE r.review_id > :fromId AND r.review_id <= :toId AND r.img3 IS NOT NULL " +
+            "UNION ALL SELECT r.review_id, 4, r.img4 FROM review r WHERE r.review_id > :fromId AND r.review_id <= :toId AND r.img4 IS NOT NULL" +
+            ") t WHERE NOT EXISTS (SELECT 1 FROM review_image ri WHERE ri.review_id = t.review_id)", nativeQuery = true)
+    int migrateLegacyImages(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -1,86 +1,154 @@
 package com.umc.gusto.domain.review.repository;
 
 import com.umc.gusto.domain.review.entity.Review;
+import com.umc.gusto.domain.review.model.CalendarVO;
+import com.umc.gusto.domain.review.model.FeedCandidateVO;
 import com.umc.gusto.domain.review.model.FeedVO;
+import com.umc.gusto.domain.review.model.ReviewCardVO;
+import com.umc.gusto.domain.review.model.ReviewImg1VO;
+import com.umc.gusto.domain.review.model.ReviewTextVO;
+import com.umc.gusto.domain.review.model.StoreCountVO;
+import com.umc.gusto.domain.review.model.StoreImageVO;
+import com.umc.gusto.domain.review.model.StoreReviewVO;
+import com.umc.gusto.domain.review.model.TaggingVO;
+import com.umc.gusto.domain.review.model.TimelineVO;
 import com.umc.gusto.domain.store.entity.Store;
 import com.umc.gusto.domain.user.entity.User;
 import com.umc.gusto.global.common.BaseEntity;
 import io.lettuce.core.dynamic.annotation.Param;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    @Query("SELECT r FROM Review r WHERE r.user.memberStatus = 'ACTIVE' AND r.status = 'ACTIVE' AND r.user.publishReview = 'PUBLIC' AND r.publishReview = 'PUBLIC' AND r.store = :store ORDER BY r.liked DESC LIMIT 1")
-    Optional<Review> findFirstByStoreOrderByLikedDesc(@Param("store") Store store);
-    @Query("SELECT r FROM Review r WHERE r.user.memberStatus = 'ACTIVE' AND  r.status = 'ACTIVE' AND r.user.publishReview = 'PUBLIC' AND r.publishReview = 'PUBLIC' AND r.store = :store ORDER BY r.liked DESC, r.reviewId DESC LIMIT 3") //
-    List<Review> findFirst3ByStoreOrderByLikedDesc(@Param("store") Store store);
-    @Query("SELECT r FROM Review r WHERE r.user.memberStatus = 'ACTIVE' AND r.status = 'ACTIVE' AND r.user.publishReview = 'PUBLIC' AND r.publishReview = 'PUBLIC' AND r.store = :store ORDER BY r.liked DESC, r.reviewId DESC LIMIT 4") //
-    List<Review> findFirst4ByStoreOrderByLikedDesc(@Param("store") Store store);
-    @Query("SELECT r FROM Review r WHERE r.user.memberStatus = 'ACTIVE' AND  r.status = 'ACTIVE' AND r.user.publishReview = 'PUBLIC' AND r.publishReview = 'PUBLIC' AND r.store = :store ORDER BY r.visitedAt DESC, r.reviewId DESC")
-    Page<Review> findFirstReviewsByStore(@Param("store") Store store, Pageable pageable);
-    @Query("SELECT r FROM Review r WHERE r.user.memberStatus = 'ACTIVE' AND r.status = 'ACTIVE' AND r.user.publishReview = 'PUBLIC' AND r.publishReview = 'PUBLIC'AND r.store = :store AND r.visitedAt <= :visitedAt AND r.reviewId < :reviewId ORDER BY r.visitedAt DESC, r.reviewId DESC")
-    Page<Review> findReviewsAfterIdByStore(@Param("store") Store store, @Param("visitedAt") LocalDate visitedAt, @Param("reviewId") Long reviewId, Pageable pageable);
+    // 여러 가게의 좋아요 상위 리뷰 이미지를 한 번에 조회 (가게별 최대 :limit 개)
+    @Query(value = "SELECT t.store_id as storeId, t.img1 as image FROM (" +
+            "SELECT r.store_id, r.img1, ROW_NUMBER() OVER (PARTITION BY r.store_id ORDER BY r.liked DESC, r.review_id DESC) as rn " +
+            "FROM review r join user u on r.user_id = u.user_id " +
+            "WHERE r.store_id IN (:storeIds) AND u.member_status = 'ACTIVE' AND r.status = 'ACTIVE' AND u.publish_review = 'PUBLIC' AND r.publish_review = 'PUBLIC'" +
+            ") t WHERE t.rn <= :limit ORDER BY t.store_id, t.rn", nativeQuery = true)
+    List<StoreImageVO> findTopImagesByStoreIds(@Param("storeIds") Collection<Long> storeIds, @Param("limit") int limit);
+    @Query("SELECT DISTINCT r.store.storeId FROM Review r WHERE r.user.userId = :userId")
+    List<Long> findStoreIdsByUserId(@Param("userId") UUID userId);
+    @Query("SELECT r.store.storeId as storeId, COUNT(r) as count FROM Review r WHERE r.status = 'ACTIVE' GROUP BY r.store.storeId")
+    List<StoreCountVO> countActiveReviewsGroupByStore();
+    @Query("SELECT r.reviewId as reviewId, r.visitedAt as visitedAt, COALESCE(r.user.profileThumb, r.user.profileImage) as profileImage, r.user.nickname as nickname, " +
+            "r.liked as liked, r.comment as comment, r.img1 as image FROM Review r " +
+            "WHERE r.user.memberStatus = 'ACTIVE' AND  r.status = 'ACTIVE' AND r.user.publishReview = 'PUBLIC' AND r.publishReview = 'PUBLIC' AND r.store = :store ORDER BY r.visitedAt DESC, r.reviewId DESC")
+    List<StoreReviewVO> findFirstReviewsByStore(@Param("store") Store store, Pageable pageable);
+    @Query("SELECT r.reviewId as reviewId, r.visitedAt as visitedAt, COALESCE(r.user.profileThumb, r.user.profileImage) as profileImage, r.user.nickname as nickname, " +
+            "r.liked as liked, r.comment as comment, r.img1 as image FROM Review r " +
+            "WHERE r.user.memberStatus = 'ACTIVE' AND r.status = 'ACTIVE' AND r.user.publishReview = 'PUBLIC' AND r.publishReview = 'PUBLIC' AND r.store = :store " +
+            "AND r.visitedAt <= :visitedAt AND (r.visitedAt < :visitedAt OR r.reviewId < :reviewId) ORDER BY r.visitedAt DESC, r.reviewId DESC")
+    List<StoreReviewVO> findReviewsAfterIdByStore(@Param("store") Store store, @Param("visitedAt") LocalDate visitedAt, @Param("reviewId") Long reviewId, Pageable pageable);
     boolean existsByReviewIdAndUser(Long reviewId, User user);
-    @Query("SELECT count(r.reviewId) FROM Review r WHERE r.user.memberStatus = 'ACTIVE' AND r.status = 'ACTIVE' AND r.store = :store AND r.user.nickname = :nickname")
-    Integer countByStoreAndUserNickname(Store store, String nickname);      // 방문횟수는 리뷰 공개여부과 상관 X
-    @Query("SELECT count(r.reviewId) FROM Review r WHERE r.status = 'ACTIVE' AND r.store = :store AND r.user = :user")
-    Integer countByStoreAndUser(Store store, User user);
 
     Optional<Review> findByReviewIdAndStatus(Long reviewId, BaseEntity.Status status);
-    Optional<Page<Review>> findAllByUserAndStatus(User user, BaseEntity.Status status, PageRequest pageRequest);
-    List<Review> findByUserAndStatusAndVisitedAtBetween(User user, BaseEntity.Status status, LocalDate startDate, LocalDate lastDate);
+    // 캘린더 뷰 (대표 이미지 썸네일만 조회)
+    @Query("SELECT r.reviewId as reviewId, r.visitedAt as visitedAt, COALESCE(r.img1Thumb, r.img1) as image FROM Review r " +
+            "WHERE r.user.userId = :userId AND r.status = 'ACTIVE' AND r.visitedAt BETWEEN :startDate AND :lastDate ORDER BY r.reviewId")
+    List<CalendarVO> findCalendarByUser(@Param("userId") UUID userId, @Param("startDate") LocalDate startDate, @Param("lastDate") LocalDate lastDate);
 
-    @Query(value = "SELECT r.review_id as reviewId, r.img1 as image FROM review r join user u on r.user_id = u.user_id  WHERE r.user_id <> :user AND u.publish_review = 'PUBLIC' AND r.status = 'ACTIVE' AND r.publish_review = 'PUBLIC' AND r.skip_check=false ORDER BY RAND() limit 33", nativeQuery = true)
+    @Query(value = "SELECT r.review_id as reviewId, COALESCE(r.img1_medium, r.img1) as image FROM review r join user u on r.user_id = u.user_id  WHERE r.user_id <> :user AND u.publish_review = 'PUBLIC' AND r.status = 'ACTIVE' AND r.publish_review = 'PUBLIC' AND r.skip_check=false ORDER BY RAND() limit 33", nativeQuery = true)
     List<FeedVO> findRandomFeedByUser(@Param("user") UUID user); //WHERE r.user_id <> :userZ
 
-    boolean existsByStoreAndUserNickname(Store store, String nickname);
+    // 랜덤 피드 후보 (FeedCandidatePool 적재/갱신용)
+    @Query("SELECT r.reviewId as reviewId, COALESCE(r.img1Medium, r.img1) as image, r.user.userId as userId FROM Review r " +
+            "WHERE r.reviewId > :reviewId AND r.status = 'ACTIVE' AND r.publishReview = 'PUBLIC' AND r.skipCheck = false " +
+            "AND r.user.memberStatus = 'ACTIVE' AND r.user.publishReview = 'PUBLIC' ORDER BY r.reviewId")
+    List<FeedCandidateVO> findFeedCandidatesAfter(@Param("reviewId") Long reviewId, Pageable pageable);
+    @Query("SELECT r.reviewId as reviewId, COALESCE(r.img1Medium, r.img1) as image, r.user.userId as userId FROM Review r " +
+            "WHERE r.reviewId = :reviewId AND r.status = 'ACTIVE' AND r.publishReview = 'PUBLIC' AND r.skipCheck = false " +
+            "AND r.user.memberStatus = 'ACTIVE' AND r.user.publishReview = 'PUBLIC'")
+    Optional<FeedCandidateVO> findFeedCandidate(@Param("reviewId") Long reviewId);
+    @Query("SELECT r.reviewId as reviewId, COALESCE(r.img1Medium, r.img1) as image, r.user.userId as userId FROM Review r " +
+            "WHERE r.user.userId = :userId AND r.status = 'ACTIVE' AND r.publishReview = 'PUBLIC' AND r.skipCheck = false " +
+            "AND r.user.memberStatus = 'ACTIVE' AND r.user.publishReview = 'PUBLIC'")
+    List<FeedCandidateVO> findFeedCandidatesByUser(@Param("userId") UUID userId);
+
   
     /*
         검색 관련
      */
-    @Query("SELECT r FROM Review r WHERE r.status = 'ACTIVE' AND r.publishReview = 'PUBLIC' AND r.skipCheck = false " +
+    @Query("SELECT r.reviewId as reviewId, COALESCE(r.img1Thumb, r.img1) as image FROM Review r WHERE r.status = 'ACTIVE' AND r.publishReview = 'PUBLIC' AND r.skipCheck = false " +
             "AND r.reviewId < :cursorId " +
             "AND (REPLACE(r.store.storeName, ' ', '') LIKE LOWER(CONCAT('%', REPLACE(:keyword, ' ', ''), '%'))" +
             " OR REPLACE(r.comment, ' ', '') LIKE LOWER(CONCAT('%', REPLACE(:keyword, ' ', ''), '%')))" +
             "ORDER BY r.reviewId desc")
-    Page<Review> searchByStoreContains(String keyword, Long cursorId, PageRequest pageRequest); //TODO: 후에 페이징 처리 하기
-    @Query("SELECT t.review FROM Tagging t WHERE t.review.status = 'ACTIVE' AND t.review.publishReview = 'PUBLIC' AND t.review.skipCheck=false " +
-            "AND t.review.reviewId < :cursorId " +
-            "AND t.hashTag.hasTagId = :hashTagId " +
-            "AND (REPLACE(t.review.store.storeName, ' ', '') LIKE LOWER(CONCAT('%', REPLACE(:keyword, ' ', ''), '%'))" +
-            " OR REPLACE(t.review.comment, ' ', '') LIKE LOWER(CONCAT('%', REPLACE(:keyword, ' ', ''), '%'))) " +
-            "ORDER BY t.review.reviewId desc")
-    Page<Review> searchByStoreAndHashTagContains(String keyword, Long hashTagId, Long cursorId, PageRequest pageRequest);
-    @Query("SELECT t.review FROM Tagging t WHERE t.review.status = 'ACTIVE' AND t.review.publishReview = 'PUBLIC' AND t.review.skipCheck=false " +
-            "AND t.review.reviewId < :cursorId AND t.hashTag.hasTagId = :hashTagId ORDER BY t.review.reviewId desc")
-    Page<Review> searchByHashTagContains(Long hashTagId, Long cursorId, PageRequest pageRequest);
+    Slice<FeedVO> searchByStoreContains(String keyword, Long cursorId, Pageable pageable);
+    // 검색 결과 (색인에서 찾은 reviewId 의 썸네일)
+    @Query("SELECT r.reviewId as reviewId, COALESCE(r.img1Thumb, r.img1) as image FROM Review r WHERE r.reviewId IN :reviewIds")
+    List<FeedVO> findFeedViewsByIds(@Param("reviewIds") Collection<Long> reviewIds);
+    // 해시태그 색인 (HashTagIndex 적재/갱신용)
+    @Query("SELECT t.taggingId as taggingId, t.hashTag.hasTagId as hashTagId, t.review.reviewId as reviewId FROM Tagging t " +
+            "WHERE t.taggingId > :taggingId AND t.review.status = 'ACTIVE' AND t.review.publishReview = 'PUBLIC' AND t.review.skipCheck = false " +
+            "ORDER BY t.taggingId")
+    List<TaggingVO> findSearchableTaggingsAfter(@Param("taggingId") Long taggingId, Pageable pageable);
+    @Query("SELECT t.hashTag.hasTagId FROM Tagging t " +
+            "WHERE t.review.reviewId = :reviewId AND t.review.status = 'ACTIVE' AND t.review.publishReview = 'PUBLIC' AND t.review.skipCheck = false")
+    List<Long> findHashTagIdsOfSearchableReview(@Param("reviewId") Long reviewId);
+    // 리뷰 본문 색인 (ReviewTextIndex 적재/갱신용)
+    @Query("SELECT r.reviewId as reviewId, r.store.storeName as storeName, r.menuName as menuName, r.comment as comment FROM Review r " +
+            "WHERE r.reviewId > :reviewId AND r.status = 'ACTIVE' AND r.publishReview = 'PUBLIC' AND r.skipCheck = false " +
+            "ORDER BY r.reviewId")
+    List<ReviewTextVO> findSearchableTextsAfter(@Param("reviewId") Long reviewId, Pageable pageable);
+    @Query("SELECT r.reviewId as reviewId, r.store.storeName as storeName, r.menuName as menuName, r.comment as comment FROM Review r " +
+            "WHERE r.reviewId = :reviewId AND r.status = 'ACTIVE' AND r.publishReview = 'PUBLIC' AND r.skipCheck = false")
+    List<ReviewTextVO> findSearchableText(@Param("reviewId") Long reviewId);
 
     /*
-        리뷰 모아보기 페이징 처리
+        리뷰 모아보기 페이징 처리 (visitedAt, reviewId 내림차순 keyset)
      */
-    @Query("select r from Review r where r.user = :user and r.status = 'ACTIVE' and r.publishReview = 'PUBLIC'")
-    Page<Review> pagingInstaViewNoCursor(User user, PageRequest pageRequest);
-    @Query("select r from Review r where r.user = :user and r.status = 'ACTIVE' and r.publishReview = 'PUBLIC' " +
-            "and r.visitedAt < :visitedAt or (r.visitedAt = :visitedAt and r.reviewId < :reviewId)")
-    Page<Review> pagingInstaView(User user, Long reviewId, LocalDate visitedAt,PageRequest pageRequest);
+    @Query("select r.reviewId as reviewId, r.visitedAt as visitedAt, coalesce(r.img1Thumb, r.img1) as image from Review r where r.user = :user and r.status = 'ACTIVE' and r.publishReview = 'PUBLIC' " +
+            "order by r.visitedAt desc, r.reviewId desc")
+    List<ReviewCardVO> pagingInstaViewNoCursor(User user, Pageable pageable);
+    @Query("select r.reviewId as reviewId, r.visitedAt as visitedAt, coalesce(r.img1Thumb, r.img1) as image from Review r where r.user = :user and r.status = 'ACTIVE' and r.publishReview = 'PUBLIC' " +
+            "and r.visitedAt <= :visitedAt and (r.visitedAt < :visitedAt or r.reviewId < :reviewId) " +
+            "order by r.visitedAt desc, r.reviewId desc")
+    List<ReviewCardVO> pagingInstaView(User user, LocalDate visitedAt, Long reviewId, Pageable pageable);
+
+    @Query("select r.reviewId as reviewId, r.visitedAt as visitedAt, coalesce(r.img1Thumb, r.img1) as image from Review r where r.user = :user and r.status = 'ACTIVE' " +
+            "order by r.visitedAt desc, r.reviewId desc")
+    List<ReviewCardVO> pagingMyReviewNoCursor(User user, Pageable pageable);
+    @Query("select r.reviewId as reviewId, r.visitedAt as visitedAt, coalesce(r.img1Thumb, r.img1) as image from Review r where r.user = :user and r.status = 'ACTIVE' " +
+            "and r.visitedAt <= :visitedAt and (r.visitedAt < :visitedAt or r.reviewId < :reviewId) " +
+            "order by r.visitedAt desc, r.reviewId desc")
+    List<ReviewCardVO> pagingMyReview(User user, LocalDate visitedAt, Long reviewId, Pageable pageable);
+
+    // 타임라인 뷰 (가게명 포함)
+    @Query("select r.reviewId as reviewId, r.visitedAt as visitedAt, r.store.storeId as storeId, r.store.storeName as storeName, r.img1 as image from Review r where r.user = :user and r.status = 'ACTIVE' " +
+            "order by r.visitedAt desc, r.reviewId desc")
+    List<TimelineVO> pagingMyTimelineNoCursor(User user, Pageable pageable);
+    @Query("select r.reviewId as reviewId, r.visitedAt as visitedAt, r.store.storeId as storeId, r.store.storeName as storeName, r.img1 as image from Review r where r.user = :user and r.status = 'ACTIVE' " +
+            "and r.visitedAt <= :visitedAt and (r.visitedAt < :visitedAt or r.reviewId < :reviewId) " +
+            "order by r.visitedAt desc, r.reviewId desc")
+    List<TimelineVO> pagingMyTimeline(User user, LocalDate visitedAt, Long reviewId, Pageable pageable);
 
-    @Query("select r from Review r where r.user = :user and r.status = 'ACTIVE'" +
-            "and r.visitedAt < :visitedAt or (r.visitedAt = :visitedAt and r.reviewId < :reviewId)")
-    Page<Review> pagingMyReview(User user, Long reviewId, LocalDate visitedAt,PageRequest pageRequest);
+    @Modifying
+    @Query("UPDATE Review r SET r.liked = r.liked + :delta WHERE r.reviewId = :reviewId")
+    int addLiked(@Param("reviewId") Long reviewId, @Param("delta") int delta);
 
-    // Hard delete
-    @Transactional
-    @Modifying(clearAutomatically = true)
-    @Query("DELETE FROM Review r WHERE r.status = 'INACTIVE'")
-    int deleteAllInActive();
+    // 대표 이미지 변환본 (ImageVariantGenerator 용)
+    @Query("SELECT r.img1 FROM Review r WHERE r.reviewId = :reviewId AND r.status = 'ACTIVE' AND r.img1Thumb IS NULL")
+    Optional<String> findImg1WithoutVariants(@Param("reviewId") Long reviewId);
+    // 변환본이 빠진 대표 이미지 (ImageVariantSweeper 용, reviewId 오름차순 keyset, before 이전에 수정된 리뷰만)
+    @Query("SELECT r.reviewId as reviewId, r.user.userId as userId, r.img1 as img1 FROM Review r " +
+            "WHERE r.img1Thumb IS NULL AND r.reviewId > :lastReviewId AND r.status = 'ACTIVE' " +
+            "AND r.img1 IS NOT NULL AND r.img1 <> :defaultImg AND r.updatedAt < :before " +
+            "ORDER BY r.reviewId")
+    List<ReviewImg1VO> findImg1sWithoutVariants(@Param("lastReviewId") Long lastReviewId, @Param("defaultImg") String defaultImg,
+                                                @Param("before") LocalDateTime before, Pageable pageable);
+    // 그 사이 대표 이미지가 바뀌었으면 반영하지 않음
+    @Modifying
+    @Query("UPDATE Review r SET r.img1Thumb = :thumb, r.img1Medium = :medium WHERE r.reviewId = :reviewId AND r.img1 = :img1")
+    int updateImg1Variants(@Param("reviewId") Long reviewId, @Param("img1") String img1, @Param("thumb") String thumb, @Param("medium") String medium);
 }
@@ -0,0 +1,46 @@
+package com.umc.gusto.domain.review.repository;
+
+import com.umc.gusto.domain.review.entity.StoreVisit;
+import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StoreVisitRepository extends JpaRepository<StoreVisit, Long> {
+    @Modifying
+    @Query("UPDATE StoreVisit v SET v.visitCount = v.visitCount + :delta " +
+            "WHERE v.user = :user AND v.store = :store AND v.visitCount + :delta >= 0")
+    int addVisitCount(User user, Store store, int delta);
+
+    // 첫 방문이 동시에 들어와도 한 행만 생기도록 (user_id, store_id) 유니크 키로 upsert
+    @Modifying
+    @Query(value = "INSERT INTO store_visit (user_id, store_id, visit_count, created_at, updated_at) " +
+            "VALUES (:userId, :storeId, 1, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE visit_count = visit_count + 1, updated_at = NOW()", nativeQuery = true)
+    void upsertVisit(UUID userId, Long storeId);
+    @Query("SELECT v FROM StoreVisit v WHERE v.user = :user AND v.store.storeId IN :storeIds AND v.visitCount > 0")
+    List<StoreVisit> findVisitedByUserAndStoreIds(User user, Collection<Long> storeIds);
+
+    // 전체 적재: 리뷰로부터 (유저, 가게) 별 ACTIVE 리뷰 수를 다시 계산해 덮어씀 (다시 실행해도 같은 결과)
+    @Modifying
+    @Query(value = "INSERT INTO store_visit (user_id, store_id, visit_count, created_at, updated_at) " +
+            "SELECT r.user_id, r.store_id, SUM(r.status = 'ACTIVE'), NOW(), NOW() FROM review r " +
+            "GROUP BY r.user_id, r.store_id " +
+            "ON DUPLICATE KEY UPDATE visit_count = VALUES(visit_count), updated_at = NOW()", nativeQuery = true)
+    int backfillFromReviews();
+
+    // since 이후 작성/수정/삭제된 리뷰가 있는 (유저, 가게) 만 다시 계산
+    @Modifying
+    @Query(value = "INSERT INTO store_visit (user_id, store_id, visit_count, created_at, updated_at) " +
+            "SELECT r.user_id, r.store_id, SUM(r.status = 'ACTIVE'), NOW(), NOW() FROM review r " +
+            "WHERE (r.user_id, r.store_id) IN (SELECT c.user_id, c.store_id FROM review c WHERE c.updated_at >= :since) " +
+            "GROUP BY r.user_id, r.store_id " +
+            "ON DUPLICATE KEY UPDATE visit_count = VALUES(visit_count), updated_at = NOW()", nativeQuery = true)
+    int resyncFromReviews(LocalDateTime since);
+}
@@ -0,0 +1,34 @@
+package com.umc.gusto.domain.review.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리뷰-해시태그 연결을 JDBC batch 로 추가/삭제
+ * (JPA 로는 연결마다 한 문장씩 실행됨. MySQL 은 rewriteBatchedStatements=true 여야 한 번에 전송된다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaggingBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long reviewId, Collection<Long> hashTagIds) {
+        if (hashTagIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = hashTagIds.stream().map(hashTagId -> new Object[]{reviewId, hashTagId}).toList();
+        jdbcTemplate.batchUpdate("INSERT INTO tagging (review_id, hash_tag_id) VALUES (?, ?)", rows);
+    }
+
+    public void deleteAll(Long reviewId, Collection<Long> hashTagIds) {
+        if (hashTagIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = hashTagIds.stream().map(hashTagId -> new Object[]{reviewId, hashTagId}).toList();
+        jdbcTemplate.batchUpdate("DELETE FROM tagging WHERE review_id = ? AND hash_tag_id = ?", rows);
+    }
+}
@@ -2,7 +2,11 @@ package com.umc.gusto.domain.review.repository;
 
 import com.umc.gusto.domain.review.entity.Tagging;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface TaggingRepository extends JpaRepository<Tagging, Long > {
+import java.util.List;
 
+public interface TaggingRepository extends JpaRepository<Tagging, Long > {
+    @Query("SELECT t.hashTag.hasTagId FROM Tagging t WHERE t.review.reviewId = :reviewId")
+    List<Long> findHashTagIdsByReviewId(Long reviewId);
 }
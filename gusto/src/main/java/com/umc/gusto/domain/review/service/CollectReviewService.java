@@ -1,5 +1,6 @@
 package com.umc.gusto.domain.review.service;
 
+import com.umc.gusto.domain.review.model.response.CalendarHeatmapResponse;
 import com.umc.gusto.domain.review.model.response.CollectReviewsResponse;
 import com.umc.gusto.domain.review.model.response.CollectReviewsOfCalResponse;
 import com.umc.gusto.domain.user.entity.User;
@@ -8,8 +9,9 @@ import java.time.LocalDate;
 
 public interface CollectReviewService {
 //    CollectReviewsOfInstaResponse getReviewOfInstaView(User user, ReviewViewRequest reviewViewRequest);
-    CollectReviewsResponse getReviewOfInstaView(User user, Long reviewId, int size);
-    CollectReviewsOfCalResponse getReviewOfCalView(User user, Long reviewId, int size, LocalDate date);
-    CollectReviewsResponse getReviewOfTimeView(User user, Long reviewId, int size);
-    CollectReviewsResponse getOthersReview(String nickName, Long reviewId, int size);
+    CollectReviewsResponse getReviewOfInstaView(User user, String cursor, int size);
+    CollectReviewsOfCalResponse getReviewOfCalView(User user, String cursor, int size, LocalDate date);
+    CalendarHeatmapResponse getCalendarHeatmap(User user, int year);
+    CollectReviewsResponse getReviewOfTimeView(User user, String cursor, int size);
+    CollectReviewsResponse getOthersReview(String nickName, String cursor, int size);
 }
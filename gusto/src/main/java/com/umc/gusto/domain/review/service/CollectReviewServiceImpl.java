@@ -1,87 +1,113 @@
 package com.umc.gusto.domain.review.service;
 
-import com.umc.gusto.domain.review.entity.Review;
+import com.umc.gusto.domain.review.model.ReviewCardVO;
+import com.umc.gusto.domain.review.model.TimelineVO;
 import com.umc.gusto.domain.review.model.response.*;
+import com.umc.gusto.domain.review.repository.ReviewImageRepository;
 import com.umc.gusto.domain.review.repository.ReviewRepository;
 import com.umc.gusto.domain.user.entity.User;
 import com.umc.gusto.domain.user.repository.UserRepository;
-import com.umc.gusto.global.common.BaseEntity;
 import com.umc.gusto.global.exception.Code;
+import com.umc.gusto.global.exception.GeneralException;
 import com.umc.gusto.global.exception.customException.NotFoundException;
+import com.umc.gusto.global.util.CursorCodec;
+import com.umc.gusto.global.util.CursorCodec.Cursor;
+import com.umc.gusto.global.util.CursorCodec.CursorSlice;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.temporal.TemporalAdjusters;
+import java.time.Year;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CollectReviewServiceImpl implements CollectReviewService{
     private final ReviewRepository reviewRepository;
+    private final ReviewImageRepository reviewImageRepository;
     private final UserRepository userRepository;
+    private final StoreVisitLedger storeVisitLedger;
+    private final ReviewCalendarCache reviewCalendarCache;
+    private final CursorCodec cursorCodec;
+    private static final String MY_REVIEW_CURSOR = "review:mine:";
+    private static final String MY_TIMELINE_CURSOR = "review:timeline:";
+    private static final String PUBLIC_REVIEW_CURSOR = "review:public:";
+    private static final String CALENDAR_CURSOR = "review:calendar:";
+    private static final int MIN_CALENDAR_YEAR = 1900;
+    private static final int MAX_CALENDAR_YEAR = 2100;
 
     @Override
     @Transactional(readOnly = true)
-    public CollectReviewsResponse getReviewOfInstaView(User user, Long reviewId, int size) {
+    public CollectReviewsResponse getReviewOfInstaView(User user, String cursor, int size) {
         //페이징해서 가져오기
-        Page<Review> reviews = pagingReview(user, reviewId, size);
+        CursorSlice<ReviewCardVO> reviews = pagingReview(user, cursor, size);
 
-        //다음에 조회될 리뷰가 있는지 확인하기
-        boolean checkNext = !reviews.isEmpty() && reviews.hasNext();
-        List<BasicViewResponse> basicViewResponse = reviews.map(BasicViewResponse::of).toList();
-
-        Long cursorId = null;
-        if(!basicViewResponse.isEmpty()){
-            cursorId = basicViewResponse.get(basicViewResponse.size()-1).getReviewId();
-        }
-        return CollectReviewsResponse.of(basicViewResponse, cursorId,checkNext);
+        List<BasicViewResponse> basicViewResponse = reviews.content().stream().map(BasicViewResponse::of).toList();
+        return CollectReviewsResponse.of(basicViewResponse, reviews.nextCursor(), reviews.hasNext());
     }
 
 
     @Override
-    @Transactional(readOnly = true)
-    public CollectReviewsOfCalResponse getReviewOfCalView(User user, Long reviewId, int size, LocalDate date) {
-        //해당 달의 첫 날짜, 마지막 날짜 구하기
-        LocalDate startDate = date.with(TemporalAdjusters.firstDayOfMonth());
-        LocalDate lastDate = startDate.with(TemporalAdjusters.lastDayOfMonth());
-
-        List<Review> reviews = reviewRepository.findByUserAndStatusAndVisitedAtBetween(user, BaseEntity.Status.ACTIVE,startDate, lastDate);
+    public CollectReviewsOfCalResponse getReviewOfCalView(User user, String cursor, int size, LocalDate date) {
+        //해당 달의 리뷰 (reviewId 오름차순, 캐시)
+        List<CalendarViewResponse> month = reviewCalendarCache.getMonth(user.getUserId(), date);
+
+        //커서 이후의 리뷰를 size 개
+        String scope = CALENDAR_CURSOR + YearMonth.from(date);
+        Cursor after = cursorCodec.decode(scope, cursor);
+        List<CalendarViewResponse> remaining = after == null ? month
+                : month.stream().filter(calendar -> calendar.getReviewId() > after.getLong(0)).toList();
+        CursorSlice<CalendarViewResponse> calendarViewResponses = cursorCodec.slice(scope, remaining, size,
+                calendar -> new Object[]{calendar.getReviewId()});
+
+        return CollectReviewsOfCalResponse.of(calendarViewResponses.content(), calendarViewResponses.nextCursor(), calendarViewResponses.hasNext());
+    }
 
-        List<CalendarViewResponse> calendarViewResponses = reviews.stream().map(CalendarViewResponse::of).toList();
-        return CollectReviewsOfCalResponse.builder().reviews(calendarViewResponses).build();
+    @Override
+    public CalendarHeatmapResponse getCalendarHeatmap(User user, int year) {
+        if(year < MIN_CALENDAR_YEAR || year > MAX_CALENDAR_YEAR){
+            throw new GeneralException(Code.INVALID_REQUEST);
+        }
+        Year target = Year.of(year);
+        int[] dailyCounts = new int[target.length()];
+        reviewCalendarCache.getMonths(user.getUserId(), target.atMonth(1), target.atMonth(12))
+                .values()
+                .forEach(month -> month.forEach(calendar -> dailyCounts[calendar.getVisitedDate().getDayOfYear() - 1]++));
+        return CalendarHeatmapResponse.of(year, dailyCounts);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public CollectReviewsResponse getReviewOfTimeView(User user, Long reviewId, int size) {
-        //페이징해서 가져오기
-        Page<Review> reviews = pagingReview(user, reviewId, size);
-
-        //다음에 조회될 리뷰가 있는지 확인하기
-        boolean checkNext = !reviews.isEmpty() && reviews.hasNext();
-
-        List<TimelineViewResponse> timelineViewResponses = reviews.map(review -> {
-                    int visitedCount = reviewRepository.countByStoreAndUser(review.getStore(), user);
-                    return TimelineViewResponse.of(review, visitedCount);
+    public CollectReviewsResponse getReviewOfTimeView(User user, String cursor, int size) {
+        //방문일, reviewId 최신순으로 커서 이후의 리뷰를 가져온다 (가게명 포함 projection)
+        String scope = MY_TIMELINE_CURSOR + user.getUserId();
+        Cursor after = cursorCodec.decode(scope, cursor);
+        List<TimelineVO> fetched = after == null
+                ? reviewRepository.pagingMyTimelineNoCursor(user, cursorCodec.limit(size))
+                : reviewRepository.pagingMyTimeline(user, after.getDate(0), after.getLong(1), cursorCodec.limit(size));
+        CursorSlice<TimelineVO> reviews = cursorCodec.slice(scope, fetched, size,
+                review -> new Object[]{review.getVisitedAt(), review.getReviewId()});
+
+        Map<Long, Integer> visitCounts = storeVisitLedger.getVisitCounts(user,
+                reviews.content().stream().map(TimelineVO::getStoreId).distinct().toList());
+        Map<Long, List<String>> images = reviewImageRepository.findUrlsGroupByReviewId(
+                reviews.content().stream().map(TimelineVO::getReviewId).toList());
+        List<TimelineViewResponse> timelineViewResponses = reviews.content().stream().map(review -> {
+                    int visitedCount = visitCounts.getOrDefault(review.getStoreId(), 0);
+                    // 등록한 이미지가 없으면 대표 이미지(기본 이미지)만
+                    List<String> reviewImages = images.getOrDefault(review.getReviewId(),
+                            review.getImage() != null ? List.of(review.getImage()) : List.of());
+                    return TimelineViewResponse.of(review, visitedCount, reviewImages);
                 }).toList();
-//        return CollectReviewsOfTimelineResponse.of(timelineViewResponses, checkNext);
-//        Long cursorId = timelineViewResponses.get(timelineViewResponses.size()-1).getReviewId();
-        Long cursorId = null;
-        if(!timelineViewResponses.isEmpty()){
-            cursorId = timelineViewResponses.get(timelineViewResponses.size()-1).getReviewId();
-        }
-        return CollectReviewsResponse.of(timelineViewResponses, cursorId,checkNext);
+        return CollectReviewsResponse.of(timelineViewResponses, reviews.nextCursor(), reviews.hasNext());
     }
   
     @Override
     @Transactional(readOnly = true)
-    public CollectReviewsResponse getOthersReview(String nickName, Long reviewId, int size) {
-        Page<Review> reviews = Page.empty();
+    public CollectReviewsResponse getOthersReview(String nickName, String cursor, int size) {
         User other = userRepository.findByNicknameAndMemberStatusIs(nickName, User.MemberStatus.ACTIVE).orElseThrow(()-> new NotFoundException(Code.USER_NOT_FOUND));
 
         //사용자가 리뷰 프로필에 표기를 했는지 체크
@@ -89,45 +115,30 @@ public class CollectReviewServiceImpl implements CollectReviewService{
             return CollectReviewsResponse.builder().build();
         }
 
-        //사용자의 리뷰들 중 public인 것만 추출
-        Sort sort = Sort.by("visitedAt").descending().and(Sort.by("reviewId").descending());
-        PageRequest pageRequest = PageRequest.of(0, size, sort);
-
-        if(reviewId == null){
-            reviews = reviewRepository.pagingInstaViewNoCursor(other, pageRequest);
-        }else {
-            Review review = reviewRepository.findById(reviewId).orElse(null);
-            if(review != null){
-                reviews = reviewRepository.pagingInstaView(other, reviewId, review.getVisitedAt(), pageRequest);
-            }
-        }
-
-        //다음 조회 되는 리뷰가 있는지 확인
-        boolean checkNext = !reviews.isEmpty() && reviews.hasNext();
+        //사용자의 리뷰들 중 public인 것만 추출 (방문일, reviewId 최신순)
+        String scope = PUBLIC_REVIEW_CURSOR + other.getUserId();
+        Cursor after = cursorCodec.decode(scope, cursor);
+        List<ReviewCardVO> fetched = after == null
+                ? reviewRepository.pagingInstaViewNoCursor(other, cursorCodec.limit(size))
+                : reviewRepository.pagingInstaView(other, after.getDate(0), after.getLong(1), cursorCodec.limit(size));
+        CursorSlice<ReviewCardVO> reviews = cursorCodec.slice(scope, fetched, size, CollectReviewServiceImpl::sortKey);
 
         //response 형태로 변환
-        List<BasicViewResponse> basicViewResponse = reviews.map(BasicViewResponse::of).toList();
-        Long cursorId = basicViewResponse.isEmpty() ? null : basicViewResponse.get(basicViewResponse.size()-1).getReviewId();
-
-        return CollectReviewsResponse.of(basicViewResponse, cursorId,checkNext);
+        List<BasicViewResponse> basicViewResponse = reviews.content().stream().map(BasicViewResponse::of).toList();
+        return CollectReviewsResponse.of(basicViewResponse, reviews.nextCursor(), reviews.hasNext());
     }
 
-    private Page<Review> pagingReview(User user, Long cursorId, int size){
-        //최신순 날짜로 정렬
-        Sort sort = Sort.by("visitedAt").descending().and(Sort.by("reviewId").descending());
-        PageRequest pageRequest = PageRequest.of(0, size, sort);
-
-        Page<Review> reviews;
-        //최초로 조회한 경우
-        if(cursorId==null){
-            reviews = reviewRepository.findAllByUserAndStatus(user, BaseEntity.Status.ACTIVE, pageRequest).orElse(Page.empty());
-        }else{ //최초가 아닌 경우
-            //커서 id를 기반으로 그보다 낮은 ID의 리뷰를 가져온다 => 최신 날짜가 이전의 데이터가 나타난다.
-            Review review = reviewRepository.findById(cursorId).orElse(null);
-            if(review == null) return Page.empty();
-            reviews = reviewRepository.pagingMyReview(user, cursorId, review.getVisitedAt(),pageRequest);
-        }
+    private CursorSlice<ReviewCardVO> pagingReview(User user, String cursor, int size){
+        //방문일, reviewId 최신순으로 커서 이후의 리뷰를 가져온다
+        String scope = MY_REVIEW_CURSOR + user.getUserId();
+        Cursor after = cursorCodec.decode(scope, cursor);
+        List<ReviewCardVO> fetched = after == null
+                ? reviewRepository.pagingMyReviewNoCursor(user, cursorCodec.limit(size))
+                : reviewRepository.pagingMyReview(user, after.getDate(0), after.getLong(1), cursorCodec.limit(size));
+        return cursorCodec.slice(scope, fetched, size, CollectReviewServiceImpl::sortKey);
+    }
 
-        return reviews;
+    private static Object[] sortKey(ReviewCardVO review) {
+        return new Object[]{review.getVisitedAt(), review.getReviewId()};
     }
 }
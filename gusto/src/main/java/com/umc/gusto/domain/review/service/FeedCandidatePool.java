@@ -0,0 +1,204 @@
+package com.umc.gusto.domain.review.service;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.review.event.ReviewImageVariantsReadyEvent;
+import com.umc.gusto.domain.review.event.ReviewReadModel;
+import com.umc.gusto.domain.review.model.FeedCandidateVO;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.domain.user.event.ReviewVisibilityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 랜덤 피드 후보(공개, 스킵하지 않은 ACTIVE 리뷰) 풀
+ * (reviewId, img1, 작성자) 를 배열로 들고 있고, 리뷰 변경 이벤트가 커밋되면 해당 리뷰만 넣거나 뺀다.
+ * 피드는 ORDER BY RAND() 대신 배열에서 Fisher–Yates 방식으로 뽑는다.
+ * 적재 중 커밋된 변경은 그 리뷰를 담은 chunk 가 반영된 뒤 다시 조회해, 먼저 읽힌 chunk 가 덮어쓰지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedCandidatePool implements ReviewReadModel {
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final ReviewRepository reviewRepository;
+
+    private long[] reviewIds = new long[1024];
+    private String[] images = new String[1024];
+    private UUID[] authors = new UUID[1024];
+    private int size = 0;
+    private final Map<Long, Integer> positions = new HashMap<>();      // reviewId → 배열 위치
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    // 아래는 쓰기 잠금 안에서만 사용
+    private long loadedUpTo = 0;                                        // 적재된 chunk 의 마지막 reviewId (적재가 끝나면 Long.MAX_VALUE)
+    private final Set<Long> changedDuringLoad = new HashSet<>();        // 아직 chunk 가 반영되지 않은 구간에서 변경된 리뷰
+    private final Set<UUID> usersChangedDuringLoad = new HashSet<>();   // 적재 중 공개 범위가 바뀐 유저
+
+    public record Candidate(Long reviewId, String image) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        Long lastReviewId = 0L;
+        List<FeedCandidateVO> chunk;
+        do {
+            chunk = reviewRepository.findFeedCandidatesAfter(lastReviewId, Pageable.ofSize(LOAD_CHUNK_SIZE));
+            Set<Long> covered = new HashSet<>();
+            lock.writeLock().lock();
+            try {
+                chunk.forEach(this::put);
+                if (!chunk.isEmpty()) {
+                    lastReviewId = chunk.get(chunk.size() - 1).getReviewId();
+                }
+                loadedUpTo = chunk.size() == LOAD_CHUNK_SIZE ? lastReviewId : Long.MAX_VALUE;
+                changedDuringLoad.removeIf(reviewId -> reviewId <= loadedUpTo && covered.add(reviewId));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // chunk 를 읽은 뒤 커밋된 변경이 chunk 에 덮였을 수 있으므로 다시 반영
+            covered.forEach(this::refresh);
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        Set<UUID> users;
+        lock.writeLock().lock();
+        try {
+            users = new HashSet<>(usersChangedDuringLoad);
+            usersChangedDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        users.forEach(this::refreshUser);
+
+        ready = true;
+        log.info("feed candidate pool loaded : {} reviews", size);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.type() == ReviewChangedEvent.Type.LIKED || event.type() == ReviewChangedEvent.Type.UNLIKED) {
+            return;
+        }
+        refresh(event.reviewId());
+    }
+
+    // 피드 타일은 중간 크기 변환본을 쓰므로 다시 읽음
+    @Override
+    @TransactionalEventListener
+    public void onReviewImageVariantsReady(ReviewImageVariantsReadyEvent event) {
+        refresh(event.reviewId());
+    }
+
+    @Override
+    @TransactionalEventListener
+    public void onReviewVisibilityChanged(ReviewVisibilityChangedEvent event) {
+        refreshUser(event.userId());
+    }
+
+    private void refresh(Long reviewId) {
+        Optional<FeedCandidateVO> candidate = reviewRepository.findFeedCandidate(reviewId);
+        lock.writeLock().lock();
+        try {
+            removeCandidate(reviewId);
+            candidate.ifPresent(this::put);
+            if (reviewId > loadedUpTo) {
+                changedDuringLoad.add(reviewId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void refreshUser(UUID userId) {
+        List<FeedCandidateVO> candidates = reviewRepository.findFeedCandidatesByUser(userId);
+        lock.writeLock().lock();
+        try {
+            for (int i = size - 1; i >= 0; i--) {
+                if (userId.equals(authors[i])) {
+                    removeCandidate(reviewIds[i]);
+                }
+            }
+            candidates.forEach(this::put);
+            if (loadedUpTo != Long.MAX_VALUE) {
+                usersChangedDuringLoad.add(userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 본인 리뷰를 제외하고 중복 없이 최대 count 개를 무작위로 뽑음
+     * 배열을 직접 섞지 않고, 바뀐 위치만 기록하는 부분 Fisher–Yates 로 O(count) 에 뽑는다.
+     */
+    public List<Candidate> sample(UUID excludeUserId, int count) {
+        lock.readLock().lock();
+        try {
+            List<Candidate> result = new ArrayList<>(count);
+            Map<Integer, Integer> swapped = new HashMap<>();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < size && result.size() < count; i++) {
+                int j = random.nextInt(i, size);
+                int picked = swapped.getOrDefault(j, j);
+                swapped.put(j, swapped.getOrDefault(i, i));
+                if (!excludeUserId.equals(authors[picked])) {
+                    result.add(new Candidate(reviewIds[picked], images[picked]));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void put(FeedCandidateVO candidate) {
+        Integer position = positions.get(candidate.getReviewId());
+        if (position == null) {
+            if (size == reviewIds.length) {
+                int capacity = size * 2;
+                reviewIds = Arrays.copyOf(reviewIds, capacity);
+                images = Arrays.copyOf(images, capacity);
+                authors = Arrays.copyOf(authors, capacity);
+            }
+            position = size++;
+            positions.put(candidate.getReviewId(), position);
+        }
+        reviewIds[position] = candidate.getReviewId();
+        images[position] = candidate.getImage();
+        authors[position] = candidate.getUserId();
+    }
+
+    // 마지막 원소를 빈 자리로 옮겨 삭제 (쓰기 잠금 안에서 호출)
+    private void removeCandidate(long reviewId) {
+        Integer position = positions.remove(reviewId);
+        if (position == null) {
+            return;
+        }
+        int last = --size;
+        if (position != last) {
+            reviewIds[position] = reviewIds[last];
+            images[position] = images[last];
+            authors[position] = authors[last];
+            positions.put(reviewIds[position], position);
+        }
+        images[last] = null;
+        authors[last] = null;
+    }
+}
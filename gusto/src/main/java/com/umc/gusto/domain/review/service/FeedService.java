@@ -9,6 +9,6 @@ import java.util.List;
 
 public interface FeedService {
     List<RandomFeedResponse> getRandomFeed(User user);
-    SearchFeedResponse searchFeed(String keyword, List<Long> hashTags, Long cursorId);
+    SearchFeedResponse searchFeed(User user, String keyword, List<Long> hashTags, String match, String cursor);
     FeedDetailResponse getFeedDetail(User user, Long reviewId);
 }
@@ -1,73 +1,176 @@
 package com.umc.gusto.domain.review.service;
 
 import com.umc.gusto.domain.review.entity.Review;
+import com.umc.gusto.domain.review.index.HashTagIndex;
+import com.umc.gusto.domain.review.index.ReviewTextIndex;
 import com.umc.gusto.domain.review.model.FeedVO;
 import com.umc.gusto.domain.review.model.response.*;
-import com.umc.gusto.domain.review.repository.LikedRepository;
 import com.umc.gusto.domain.review.repository.ReviewRepository;
 import com.umc.gusto.domain.user.entity.User;
 import com.umc.gusto.global.common.BaseEntity;
 import com.umc.gusto.global.common.PublishStatus;
 import com.umc.gusto.global.exception.Code;
+import com.umc.gusto.global.exception.GeneralException;
 import com.umc.gusto.global.exception.customException.NotFoundException;
 import com.umc.gusto.global.exception.customException.PrivateItemException;
+import com.umc.gusto.global.util.CursorCodec;
+import com.umc.gusto.global.util.CursorCodec.Cursor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class FeedServiceImpl implements FeedService{
     private final ReviewRepository reviewRepository;
-    private final LikedRepository likedRepository;
+    private final LikedReviewSet likedReviewSet;
+    private final FeedCandidatePool feedCandidatePool;
+    private final SeenFeedFilter seenFeedFilter;
+    private final HashTagIndex hashTagIndex;
+    private final ReviewTextIndex reviewTextIndex;
+    private final CursorCodec cursorCodec;
+    private static final int RANDOM_FEED_SIZE = 33;
+    private static final int FEED_OVERSAMPLE = 3;
+    private static final int SEARCH_FEED_SIZE = 33;
+    // 최신순 커서는 (reviewId), 관련도순 커서는 (reviewId, 점수 비트, 문서 수, 전체 길이, 토큰별 문서 빈도...)
+    private static final String SEARCH_CURSOR = "feed:search:";
 
     @Override
     @Transactional(readOnly = true)
     public List<RandomFeedResponse> getRandomFeed(User user) {
-//        List<Review> feedList = reviewRepository.findRandomFeedByUser(user.getUserId());
+        if (feedCandidatePool.isReady()) {
+            // 넉넉히 뽑은 뒤 이미 본 리뷰를 걸러냄
+            Map<Long, String> candidates = new LinkedHashMap<>();
+            feedCandidatePool.sample(user.getUserId(), RANDOM_FEED_SIZE * FEED_OVERSAMPLE)
+                    .forEach(candidate -> candidates.put(candidate.reviewId(), candidate.image()));
+            List<Long> picked = seenFeedFilter.pickUnseen(user.getUserId(), new ArrayList<>(candidates.keySet()), RANDOM_FEED_SIZE);
+            seenFeedFilter.markSeen(user.getUserId(), picked);
+            Map<Long, Boolean> liked = likedReviewSet.isLiked(user, picked);
+            return picked.stream()
+                    .map(reviewId -> RandomFeedResponse.builder()
+                            .reviewId(reviewId)
+                            .images(candidates.get(reviewId))
+                            .liked(liked.get(reviewId))
+                            .build())
+                    .toList();
+        }
+        // 후보 풀 적재 전에는 DB 에서 조회
         List<FeedVO> feedList = reviewRepository.findRandomFeedByUser(user.getUserId());
-        return feedList.stream().map(RandomFeedResponse::of).collect(Collectors.toList());
+        Map<Long, Boolean> liked = likedReviewSet.isLiked(user, feedList.stream().map(FeedVO::getReviewId).toList());
+        return feedList.stream().map(feed -> RandomFeedResponse.of(feed, liked.get(feed.getReviewId()))).collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public SearchFeedResponse searchFeed(String keyword, List<Long> hashTags, Long cursor) { //TODO: 검색 결과가 랜덤으로 다시 정렬되야 할듯 & 자기 리뷰가 아니여야함
-        Page<Review> searchResult = null;
-        PageRequest pageRequest = PageRequest.of(0,33);
-
-        if(cursor == null){
-            cursor = Long.MAX_VALUE;
-        }
+    public SearchFeedResponse searchFeed(User user, String keyword, List<Long> hashTags, String match, String cursor) { //TODO: 검색 결과가 랜덤으로 다시 정렬되야 할듯 & 자기 리뷰가 아니여야함
+        boolean matchAll = switch (match) {
+            case "and" -> true;
+            case "or" -> false;
+            default -> throw new GeneralException(Code.INVALID_REQUEST);
+        };
+        Cursor after = cursorCodec.decode(SEARCH_CURSOR, cursor);
+        Long afterId = after == null ? null : after.getLong(0);
 
-        //맛집과 해시태그를 함께 검색하는 경우
-        if(keyword!=null && hashTags!=null){
-            for(Long hashTagId: hashTags){
-//                searchResult.addAll(reviewRepository.searchByStoreAndHashTagContains(keyword, hashTagId, pageRequest));
-                searchResult = reviewRepository.searchByStoreAndHashTagContains(keyword, hashTagId, cursor, pageRequest);
+        //해시태그만으로 검색하는 경우
+        if(keyword == null){
+            if(hashTags == null || hashTags.isEmpty()){
+                return SearchFeedResponse.builder().build();
             }
-        } else if(keyword!=null){ //맛집을 검색하는 경우
-            searchResult = reviewRepository.searchByStoreContains(keyword, cursor, pageRequest);
-        } else if(hashTags!=null){
-            for(Long hashTagId: hashTags){
-                searchResult = reviewRepository.searchByHashTagContains(hashTagId, cursor, pageRequest);
+            if(!hashTagIndex.isReady()){
+                throw new GeneralException(Code.REVIEW_INDEX_NOT_READY);
             }
+            return searchByHashTags(user, hashTags, matchAll, afterId);
         }
 
-        if(searchResult == null){
-            return SearchFeedResponse.builder().build();
+        //맛집/메뉴/내용을 검색하는 경우 (해시태그가 함께 오면 해당 태그를 가진 리뷰만) 관련도 순
+        //색인 적재 전에 시작한 최신순 검색(커서에 점수가 없음)은 끝까지 최신순으로 이어간다
+        boolean withHashTags = hashTags != null && !hashTags.isEmpty();
+        boolean byRelevance = after == null || after.size() >= 2;
+        if(byRelevance && reviewTextIndex.isReady() && (!withHashTags || hashTagIndex.isReady())){
+            ReviewTextIndex.Position position = after == null ? null : toPosition(after);
+            ReviewTextIndex.SearchResult result = reviewTextIndex.search(keyword, position, SEARCH_FEED_SIZE,
+                    reviewId -> !withHashTags || hashTagIndex.matches(hashTags, matchAll, reviewId));
+            ReviewTextIndex.Position last = result.last();
+            String nextCursor = !result.hasNext() || last == null ? null
+                    : cursorCodec.encode(SEARCH_CURSOR, toCursorKeys(last));
+            return SearchFeedResponse.of(loadInOrder(user, result.reviewIds()), result.hasNext(), nextCursor);
+        }
+        if(withHashTags){
+            throw new GeneralException(Code.REVIEW_INDEX_NOT_READY);
         }
 
+        //색인 적재 전에는 DB 에서 최신순으로 조회
+        Slice<FeedVO> searchResult = reviewRepository.searchByStoreContains(keyword, afterId == null ? Long.MAX_VALUE : afterId, Pageable.ofSize(SEARCH_FEED_SIZE));
         boolean checkNext = searchResult.hasNext();
-        List<BasicViewResponse> basicViewResponse = searchResult.stream().map(BasicViewResponse::of).toList();
-        Long cursorId = basicViewResponse.isEmpty() || !checkNext ? null : basicViewResponse.get(basicViewResponse.size()-1).getReviewId();
+        List<BasicViewResponse> basicViewResponse = toBasicViews(user, searchResult.getContent());
+        String nextCursor = basicViewResponse.isEmpty() || !checkNext ? null
+                : cursorCodec.encode(SEARCH_CURSOR, basicViewResponse.get(basicViewResponse.size()-1).getReviewId());
+
+        return SearchFeedResponse.of(basicViewResponse, checkNext, nextCursor);
+    }
+
+    private static ReviewTextIndex.Position toPosition(Cursor after) {
+        ReviewTextIndex.Stats stats = null;
+        if (after.size() >= 4) {
+            long[] documentFrequencies = new long[after.size() - 4];
+            for (int i = 0; i < documentFrequencies.length; i++) {
+                documentFrequencies[i] = after.getLong(i + 4);
+            }
+            stats = new ReviewTextIndex.Stats(after.getLong(2), after.getLong(3), documentFrequencies);
+        }
+        return new ReviewTextIndex.Position(Double.longBitsToDouble(after.getLong(1)), after.getLong(0), stats);
+    }
 
-        return SearchFeedResponse.of(basicViewResponse, checkNext, cursorId);
+    private static Object[] toCursorKeys(ReviewTextIndex.Position last) {
+        long[] documentFrequencies = last.stats().documentFrequencies();
+        Object[] keys = new Object[4 + documentFrequencies.length];
+        keys[0] = last.reviewId();
+        keys[1] = Double.doubleToLongBits(last.score());
+        keys[2] = last.stats().documentCount();
+        keys[3] = last.stats().totalLength();
+        for (int i = 0; i < documentFrequencies.length; i++) {
+            keys[i + 4] = documentFrequencies[i];
+        }
+        return keys;
+    }
+
+    private SearchFeedResponse searchByHashTags(User user, List<Long> hashTags, boolean matchAll, Long cursor) {
+        List<Long> reviewIds = hashTagIndex.search(hashTags, matchAll, cursor, SEARCH_FEED_SIZE + 1, reviewId -> true);
+        boolean checkNext = reviewIds.size() > SEARCH_FEED_SIZE;
+        List<Long> page = checkNext ? reviewIds.subList(0, SEARCH_FEED_SIZE) : reviewIds;
+
+        String nextCursor = page.isEmpty() || !checkNext ? null : cursorCodec.encode(SEARCH_CURSOR, page.get(page.size()-1));
+        return SearchFeedResponse.of(loadInOrder(user, page), checkNext, nextCursor);
+    }
+
+    private List<BasicViewResponse> loadInOrder(User user, List<Long> reviewIds) {
+        Map<Long, FeedVO> reviews = reviewRepository.findFeedViewsByIds(reviewIds).stream()
+                .collect(Collectors.toMap(FeedVO::getReviewId, Function.identity()));
+        return toBasicViews(user, reviewIds.stream()
+                .map(reviews::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    // 비로그인 검색은 좋아요 여부 없이 내려준다
+    private List<BasicViewResponse> toBasicViews(User user, List<FeedVO> feeds) {
+        if (user == null) {
+            return feeds.stream().map(BasicViewResponse::of).toList();
+        }
+        Map<Long, Boolean> liked = likedReviewSet.isLiked(user, feeds.stream().map(FeedVO::getReviewId).toList());
+        return feeds.stream()
+                .map(feed -> BasicViewResponse.of(feed, liked.get(feed.getReviewId())))
+                .toList();
     }
 
     //TODO: 해당 함수도 이미 피드에서 보인 리뷰임. 그래서 디테일이 안보이면 안됨 사용자 공개 체크를 할 필요가 없음
@@ -84,8 +187,8 @@ public class FeedServiceImpl implements FeedService{
         List<Long> hashTags = new ArrayList<>();
         review.getTaggingSet().stream().map(r-> r.getHashTag().getHasTagId()).forEach(hashTags::add);
 
-        //이 리뷰를 보는 유저가 해당 리뷰를 좋아요했는지 체크
-        boolean likeCheck = likedRepository.existsByUserAndReview(user, review);
+        //이 리뷰를 보는 유저가 해당 리뷰를 좋아요했는지 체크 (좋아요 집합 캐시)
+        boolean likeCheck = likedReviewSet.contains(user, reviewId);
 
         //리뷰에 해시태그가 없다면 response에 해시태그 없이 반환
         if(hashTags.isEmpty()) return FeedDetailResponse.of(review, null, likeCheck);
@@ -0,0 +1,70 @@
+package com.umc.gusto.domain.review.service;
+
+import com.umc.gusto.domain.review.entity.HashTag;
+import com.umc.gusto.domain.review.repository.HashTagRepository;
+import com.umc.gusto.global.exception.Code;
+import com.umc.gusto.global.exception.customException.NotFoundException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 해시태그 id 목록
+ * 관리자가 넣는 참조 데이터라 시작 시 한 번 읽어 불변 Set 으로 들고 있고, reload() 시 통째로 교체한다.
+ * 목록에 없는 id 가 들어오면 새로 추가된 태그일 수 있으므로 다시 읽은 뒤 판단한다.
+ * 없는 id 로 반복 요청해도 전체 조회가 몰리지 않도록, 이때의 재조회는 MIN_RELOAD_INTERVAL 에 한 번까지만 한다.
+ * 다른 인스턴스에서 이름이 바뀌거나 삭제된 태그도 반영되도록 10분마다 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashTagCatalog {
+    private static final long MIN_RELOAD_INTERVAL = 10_000L;
+
+    private final HashTagRepository hashTagRepository;
+
+    private volatile Set<Long> knownIds = Set.of();
+    private final AtomicLong lastMissReload = new AtomicLong();
+
+    @PostConstruct
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void reload() {
+        Set<Long> loaded = hashTagRepository.findAll().stream()
+                .map(HashTag::getHasTagId)
+                .collect(Collectors.toUnmodifiableSet());
+        knownIds = loaded;
+        log.info("hashtag catalog loaded : {} tags", loaded.size());
+    }
+
+    public boolean exists(Long hashTagId) {
+        return hashTagId != null && knownIds.contains(hashTagId);
+    }
+
+    /**
+     * 모두 존재하는 해시태그인지 확인 (없으면 HASHTAG_NOT_FOUND)
+     */
+    public void validate(Collection<Long> hashTagIds) {
+        if (hashTagIds.stream().allMatch(this::exists)) {
+            return;
+        }
+        reloadOnMiss();
+        if (!hashTagIds.stream().allMatch(this::exists)) {
+            throw new NotFoundException(Code.HASHTAG_NOT_FOUND);
+        }
+    }
+
+    private void reloadOnMiss() {
+        long now = System.currentTimeMillis();
+        long last = lastMissReload.get();
+        if (now - last >= MIN_RELOAD_INTERVAL && lastMissReload.compareAndSet(last, now)) {
+            reload();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.umc.gusto.domain.review.service;
+
+import com.umc.gusto.domain.review.repository.LikedRepository;
+import com.umc.gusto.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저가 좋아요한 리뷰 id 집합 (Redis set)
+ * 처음 접근할 때 DB 에서 한 번 채우고, 이후 중복 확인은 SADD / SREM 결과로 판단한다.
+ * 피드 목록/상세의 좋아요 여부도 DB 대신 이 집합으로 확인한다. (목록은 SMISMEMBER 한 번)
+ */
+@Component
+@RequiredArgsConstructor
+public class LikedReviewSet {
+    private static final String KEY_PREFIX = "liked:";
+    private static final String LOADED = "loaded";              // 좋아요가 하나도 없어도 적재되었음을 표시
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LikedRepository likedRepository;
+
+    /**
+     * 새로 추가되었으면 true, 이미 좋아요한 리뷰면 false
+     */
+    public boolean add(User user, Long reviewId) {
+        Long added = redisTemplate.opsForSet().add(load(user), String.valueOf(reviewId));
+        return added != null && added > 0;
+    }
+
+    /**
+     * 제거되었으면 true, 좋아요한 적 없는 리뷰면 false
+     */
+    public boolean remove(User user, Long reviewId) {
+        Long removed = redisTemplate.opsForSet().remove(load(user), String.valueOf(reviewId));
+        return removed != null && removed > 0;
+    }
+
+    public boolean contains(User user, Long reviewId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(load(user), String.valueOf(reviewId)));
+    }
+
+    /**
+     * 리뷰별 좋아요 여부 (reviewId -> liked)
+     */
+    public Map<Long, Boolean> isLiked(User user, List<Long> reviewIds) {
+        Map<Long, Boolean> liked = new HashMap<>();
+        if (reviewIds.isEmpty()) {
+            return liked;
+        }
+
+        Object[] members = reviewIds.stream().map(String::valueOf).toArray();
+        Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(load(user), members);
+        for (Long reviewId : reviewIds) {
+            liked.put(reviewId, result != null && Boolean.TRUE.equals(result.get(String.valueOf(reviewId))));
+        }
+        return liked;
+    }
+
+    // 키가 있으면 만료 시간만 연장, 없으면 DB 에서 채움
+    private String load(User user) {
+        String key = KEY_PREFIX + user.getUserId();
+        if (Boolean.TRUE.equals(redisTemplate.expire(key, TTL))) {
+            return key;
+        }
+
+        List<Long> reviewIds = likedRepository.findReviewIdsByUser(user);
+        String[] members = new String[reviewIds.size() + 1];
+        members[0] = LOADED;
+        for (int i = 0; i < reviewIds.size(); i++) {
+            members[i + 1] = String.valueOf(reviewIds.get(i));
+        }
+        redisTemplate.opsForSet().add(key, members);
+        redisTemplate.expire(key, TTL);
+        return key;
+    }
+}
@@ -0,0 +1,141 @@
+package com.umc.gusto.domain.review.service;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.review.event.ReviewImageVariantsReadyEvent;
+import com.umc.gusto.domain.review.event.ReviewReadModel;
+import com.umc.gusto.domain.review.model.response.CalendarViewResponse;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * (유저, 월) 별 캘린더 항목 캐시
+ * 최근에 조회한 유저 MAX_CACHED_USERS 명, 유저마다 최근에 조회한 월 MAX_CACHED_MONTHS 개까지 들고 있고,
+ * 리뷰 작성/수정(방문일 변경 포함)/삭제가 커밋되면 해당 유저를 통째로 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewCalendarCache implements ReviewReadModel {
+    private static final int MAX_CACHED_USERS = 10_000;
+    private static final int MAX_CACHED_MONTHS = 24;
+
+    private final ReviewRepository reviewRepository;
+
+    private final Map<UUID, Map<YearMonth, List<CalendarViewResponse>>> months = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Map<YearMonth, List<CalendarViewResponse>>> eldest) {
+            return size() > MAX_CACHED_USERS;
+        }
+    };
+    // 조회 도중 그 유저가 무효화됐는지 확인용 (모두 months 로 동기화)
+    // 무효화마다 sequence 를 올리고, DB 에서 읽는 중인 유저에 대해서만 마지막 무효화 시점을 남긴다
+    private long sequence = 0;
+    private final Map<UUID, Integer> loading = new HashMap<>();        // userId -> 읽는 중인 요청 수
+    private final Map<UUID, Long> evictedAt = new HashMap<>();         // 읽는 중에 무효화된 userId -> sequence
+
+    /**
+     * from ~ to 월의 캘린더 항목 (reviewId 오름차순)
+     * 캐시에 없는 월은 한 번의 쿼리로 함께 채운다.
+     */
+    public Map<YearMonth, List<CalendarViewResponse>> getMonths(UUID userId, YearMonth from, YearMonth to) {
+        Map<YearMonth, List<CalendarViewResponse>> result = new TreeMap<>();
+        List<YearMonth> misses = new ArrayList<>();
+        long loadStartedAt;
+        synchronized (months) {
+            Map<YearMonth, List<CalendarViewResponse>> cached = months.getOrDefault(userId, Map.of());
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                List<CalendarViewResponse> entries = cached.get(month);
+                if (entries != null) {
+                    result.put(month, entries);
+                } else {
+                    misses.add(month);
+                }
+            }
+            if (misses.isEmpty()) {
+                return result;
+            }
+            loading.merge(userId, 1, Integer::sum);
+            loadStartedAt = sequence;
+        }
+
+        YearMonth firstMiss = misses.get(0);
+        YearMonth lastMiss = misses.get(misses.size() - 1);
+        Map<YearMonth, List<CalendarViewResponse>> loaded = new HashMap<>();
+        misses.forEach(month -> loaded.put(month, new ArrayList<>()));
+        boolean fetched = false;
+        try {
+            reviewRepository.findCalendarByUser(userId, firstMiss.atDay(1), lastMiss.atEndOfMonth()).forEach(calendar -> {
+                List<CalendarViewResponse> entries = loaded.get(YearMonth.from(calendar.getVisitedAt()));
+                if (entries != null) {
+                    entries.add(CalendarViewResponse.of(calendar));
+                }
+            });
+            fetched = true;
+        } finally {
+            // 읽는 사이에 그 유저가 무효화됐다면 오래된 값일 수 있으므로 저장하지 않음 (다른 유저의 변경은 상관없음)
+            synchronized (months) {
+                boolean cacheable = fetched && evictedAt.getOrDefault(userId, 0L) <= loadStartedAt;
+                if (fetched) {
+                    loaded.forEach((month, entries) -> {
+                        List<CalendarViewResponse> immutable = List.copyOf(entries);
+                        if (cacheable) {
+                            months.computeIfAbsent(userId, id -> newMonthMap()).put(month, immutable);
+                        }
+                        result.put(month, immutable);
+                    });
+                }
+                if (loading.merge(userId, -1, Integer::sum) == 0) {
+                    loading.remove(userId);
+                    evictedAt.remove(userId);
+                }
+            }
+        }
+        return result;
+    }
+
+    // 한 유저가 먼 과거/미래 월까지 훑어도 최근에 조회한 월만 남도록
+    private static Map<YearMonth, List<CalendarViewResponse>> newMonthMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, List<CalendarViewResponse>> eldest) {
+                return size() > MAX_CACHED_MONTHS;
+            }
+        };
+    }
+
+    public List<CalendarViewResponse> getMonth(UUID userId, LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        return getMonths(userId, month, month).get(month);
+    }
+
+    @Override
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.type() == ReviewChangedEvent.Type.LIKED || event.type() == ReviewChangedEvent.Type.UNLIKED) {
+            return;
+        }
+        evict(event.userId());
+    }
+
+    // 캘린더 항목은 썸네일 변환본을 쓰므로 비움
+    @Override
+    @TransactionalEventListener
+    public void onReviewImageVariantsReady(ReviewImageVariantsReadyEvent event) {
+        evict(event.userId());
+    }
+
+    private void evict(UUID userId) {
+        synchronized (months) {
+            sequence++;
+            months.remove(userId);
+            if (loading.containsKey(userId)) {
+                evictedAt.put(userId, sequence);
+            }
+        }
+    }
+}
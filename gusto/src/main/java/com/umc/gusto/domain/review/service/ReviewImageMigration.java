@@ -0,0 +1,73 @@
+package com.umc.gusto.domain.review.service;
+
+import com.umc.gusto.domain.review.repository.ReviewImageRepository;
+import com.umc.gusto.global.util.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * review.img1..img4 컬럼을 review_image 행으로 이관
+ * reviewId 구간을 CHUNK_SIZE 씩 나눠 구간마다 짧은 트랜잭션으로 옮기고, 구간 사이에 쉬어 테이블을 오래 잡지 않는다.
+ * 마지막으로 옮긴 reviewId 를 Redis 에 기록해 재시작하면 이어서 진행하며, 같은 구간을 다시 실행해도 중복되지 않는다.
+ * 여러 인스턴스가 동시에 떠도 잠금을 잡은 한 곳만 진행하고, 끝나기 전까지 Review 는 이관되지 않은 리뷰의 이미지를 컬럼에서 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewImageMigration {
+    private static final int CHUNK_SIZE = 1000;
+    private static final long PAUSE_MILLIS = 50;
+    private static final String CHECKPOINT_KEY = "migration:review-image";
+    private static final String DONE = "done";
+    private static final String LOCK_KEY = "lock:review-image-migration";
+    private static final long LOCK_TIMEOUT = 6 * 60 * 60 * 1000L;
+
+    private final ReviewImageRepository reviewImageRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisService redisService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (DONE.equals(redisTemplate.opsForValue().get(CHECKPOINT_KEY)) || reviewImageRepository.countLegacyImageColumns() == 0) {
+            return;
+        }
+        redisService.tryLock(LOCK_KEY, LOCK_TIMEOUT).ifPresent(token -> {
+            Thread worker = new Thread(() -> {
+                try {
+                    // 처음 확인한 뒤 다른 인스턴스가 끝냈을 수 있으므로 잠금을 잡은 뒤 체크포인트를 다시 읽음
+                    String checkpoint = redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+                    if (!DONE.equals(checkpoint)) {
+                        migrate(checkpoint != null ? Long.parseLong(checkpoint) : 0L);
+                    }
+                } finally {
+                    redisService.unlock(LOCK_KEY, token);
+                }
+            }, "review-image-migration");
+            worker.setDaemon(true);
+            worker.start();
+        });
+    }
+
+    private void migrate(long fromId) {
+        long maxId = reviewImageRepository.findMaxReviewId();
+        long migrated = 0;
+        try {
+            for (long from = fromId; from < maxId; from += CHUNK_SIZE) {
+                long to = Math.min(from + CHUNK_SIZE, maxId);
+                migrated += reviewImageRepository.migrateLegacyImages(from, to);
+                redisTemplate.opsForValue().set(CHECKPOINT_KEY, String.valueOf(to));
+                Thread.sleep(PAUSE_MILLIS);
+            }
+            redisTemplate.opsForValue().set(CHECKPOINT_KEY, DONE);
+            log.info("review image migration done : {} rows", migrated);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("review image migration stopped ({} rows so far)", migrated, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.umc.gusto.domain.review.service;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.review.event.ReviewImageVariantsReadyEvent;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.global.util.ImageVariant;
+import com.umc.gusto.global.util.ImageVariantGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * 리뷰 대표 이미지(img1)의 썸네일/중간 크기 변환본 생성
+ * 리뷰 작성/수정이 커밋된 뒤 변환본이 없으면 생성을 요청하고, 완료되면 컬럼에 반영한 뒤 ReviewImageVariantsReadyEvent 를 발행한다.
+ * (리뷰 내용은 바뀌지 않았으므로 UPDATED 로 색인/대표 이미지를 다시 만들지 않음)
+ */
+@Component
+public class ReviewImageVariantUpdater {
+    private final ReviewRepository reviewRepository;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${default.img.url}")
+    private String DEFAULT_IMG;
+
+    public ReviewImageVariantUpdater(ReviewRepository reviewRepository, ImageVariantGenerator imageVariantGenerator,
+                                     ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.type() != ReviewChangedEvent.Type.CREATED && event.type() != ReviewChangedEvent.Type.UPDATED) {
+            return;
+        }
+        reviewRepository.findImg1WithoutVariants(event.reviewId())
+                .filter(img1 -> !img1.equals(DEFAULT_IMG))
+                .ifPresent(img1 -> generate(event.reviewId(), event.userId(), img1));
+    }
+
+    /**
+     * 변환본 생성을 요청 (대기열이 가득 차 버려졌으면 false)
+     */
+    public boolean generate(Long reviewId, UUID userId, String img1) {
+        return imageVariantGenerator.generate(img1, variants -> transactionTemplate.executeWithoutResult(status -> {
+            int updated = reviewRepository.updateImg1Variants(reviewId, img1,
+                    variants.get(ImageVariant.THUMB), variants.get(ImageVariant.MEDIUM));
+            if (updated > 0) {
+                eventPublisher.publishEvent(new ReviewImageVariantsReadyEvent(reviewId, userId));
+            }
+        }));
+    }
+}
@@ -0,0 +1,111 @@
+package com.umc.gusto.domain.review.service;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.review.event.ReviewLikesFlushedEvent;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.global.util.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 리뷰 좋아요 수 증감 누적기
+ * 좋아요/취소가 커밋되면 Redis hash 에 리뷰별 증감만 HINCRBY 로 쌓고, 주기적으로 Review.liked 에 한 번에 더한다.
+ * 리뷰 행을 읽고 다시 쓰지 않으므로 동시에 눌러도 갱신이 유실되거나 행 잠금을 기다리지 않고, 프로세스가 죽어도 증감이 남는다.
+ */
+@Slf4j
+@Component
+public class ReviewLikeCounter {
+    private static final String PENDING_KEY = "like:pending";       // hash : "reviewId:storeId" -> 반영 전 증감
+    private static final String FLUSHING_KEY = "like:flushing";     // DB 에 반영 중인 증감 (반영에 실패하면 다음 flush 가 다시 반영)
+    private static final String FLUSH_LOCK_KEY = "lock:like-flush";
+    private static final long FLUSH_LOCK_TIMEOUT = 60 * 1000L;
+
+    private final ReviewRepository reviewRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisService redisService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReviewLikeCounter(ReviewRepository reviewRepository, RedisTemplate<String, String> redisTemplate,
+                             RedisService redisService, ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        switch (event.type()) {
+            case LIKED -> add(event.reviewId(), event.storeId(), 1);
+            case UNLIKED -> add(event.reviewId(), event.storeId(), -1);
+            default -> {
+            }
+        }
+    }
+
+    public void add(Long reviewId, Long storeId, int delta) {
+        redisTemplate.opsForHash().increment(PENDING_KEY, reviewId + ":" + storeId, delta);
+    }
+
+    /**
+     * 쌓인 증감을 FLUSHING_KEY 로 옮겨(RENAME) 반영하고, 반영이 커밋되면 지운다.
+     * 옮긴 이후의 증감은 새 PENDING_KEY 에 쌓여 다음 flush 로 넘어간다. (여러 인스턴스 중 잠금을 잡은 한 곳만 실행)
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void flush() {
+        redisService.tryLock(FLUSH_LOCK_KEY, FLUSH_LOCK_TIMEOUT).ifPresent(token -> {
+            try {
+                flushPending();
+            } catch (RuntimeException e) {
+                log.warn("failed to flush review likes, retry next time", e);
+            } finally {
+                redisService.unlock(FLUSH_LOCK_KEY, token);
+            }
+        });
+    }
+
+    private void flushPending() {
+        // 이전 flush 가 반영하지 못한 증감이 남아 있으면 그것부터
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(FLUSHING_KEY))) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) {
+                return;
+            }
+            redisTemplate.rename(PENDING_KEY, FLUSHING_KEY);
+        }
+
+        // 리뷰 id 순으로 갱신해 교착 방지
+        Map<Long, Integer> deltas = new TreeMap<>();
+        Set<Long> storeIds = new HashSet<>();
+        redisTemplate.<String, String>opsForHash().entries(FLUSHING_KEY).forEach((field, value) -> {
+            int delta = Integer.parseInt(value);
+            if (delta == 0) {
+                return;
+            }
+            String[] ids = field.split(":");
+            deltas.merge(Long.valueOf(ids[0]), delta, Integer::sum);
+            storeIds.add(Long.valueOf(ids[1]));
+        });
+
+        if (!deltas.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach(reviewRepository::addLiked));
+        }
+        redisTemplate.delete(FLUSHING_KEY);
+        if (!storeIds.isEmpty()) {
+            eventPublisher.publishEvent(new ReviewLikesFlushedEvent(storeIds));
+        }
+    }
+}
@@ -16,5 +16,4 @@ public interface ReviewService {
     ReviewDetailResponse getReview(Long reviewId);
     void likeReview(User user, Long reviewId);
     void unlikeReview(User user, Long reviewId);
-    void hardDeleteAllSoftDeleted();
 }
@@ -1,15 +1,15 @@
 package com.umc.gusto.domain.review.service;
 
-import com.umc.gusto.domain.review.entity.HashTag;
 import com.umc.gusto.domain.review.entity.Liked;
 import com.umc.gusto.domain.review.entity.Review;
-import com.umc.gusto.domain.review.entity.Tagging;
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
 import com.umc.gusto.domain.review.model.request.CreateReviewRequest;
 import com.umc.gusto.domain.review.model.request.UpdateReviewRequest;
 import com.umc.gusto.domain.review.model.response.ReviewDetailResponse;
-import com.umc.gusto.domain.review.repository.HashTagRepository;
 import com.umc.gusto.domain.review.repository.LikedRepository;
 import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.domain.review.repository.TaggingBatchRepository;
+import com.umc.gusto.domain.review.repository.TaggingRepository;
 import com.umc.gusto.domain.store.entity.Store;
 import com.umc.gusto.domain.store.repository.StoreRepository;
 import com.umc.gusto.domain.user.entity.User;
@@ -20,16 +20,25 @@ import com.umc.gusto.global.exception.Code;
 import com.umc.gusto.global.exception.GeneralException;
 import com.umc.gusto.global.exception.customException.NoPermission;
 import com.umc.gusto.global.exception.customException.NotFoundException;
+import com.umc.gusto.global.util.ImageVariant;
 import com.umc.gusto.global.util.S3Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -38,10 +47,16 @@ public class ReviewServiceImpl implements ReviewService{
     private String DEFAULT_IMG;
     private final ReviewRepository reviewRepository;
     private final StoreRepository storeRepository;
-    private final HashTagRepository hashTagRepository;
+    private final HashTagCatalog hashTagCatalog;
+    private final TaggingRepository taggingRepository;
+    private final TaggingBatchRepository taggingBatchRepository;
     private final LikedRepository likedRepository;
     private final S3Service s3Service;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StoreVisitLedger storeVisitLedger;
+    private final LikedReviewSet likedReviewSet;
+    private final TransactionTemplate transactionTemplate;
 
     public void validateReviewByUser(final User user, final Long reviewId){
         if(!reviewRepository.existsByReviewIdAndUser(reviewId, user)){
@@ -49,9 +64,14 @@ public class ReviewServiceImpl implements ReviewService{
         }
     }
 
+    // 이미지는 트랜잭션을 열기 전에 올리고, DB 반영이 실패하면 올린 이미지를 지움
     @Override
-    @Transactional
     public void createReview(User user, List<MultipartFile> images, CreateReviewRequest createReviewRequest) {
+        List<String> imageUrls = images != null ? s3Service.uploadImages(images) : List.of();
+        inTransaction(imageUrls, () -> saveReview(user, imageUrls, createReviewRequest));
+    }
+
+    private void saveReview(User user, List<String> imageUrls, CreateReviewRequest createReviewRequest) {
         Store store= storeRepository.findById(createReviewRequest.getStoreId()).orElseThrow(()-> new NotFoundException(Code.STORE_NOT_FOUND));
         LocalDate visitedAt = createReviewRequest.getVisitedAt();
         if(createReviewRequest.getVisitedAt()==null){
@@ -70,26 +90,34 @@ public class ReviewServiceImpl implements ReviewService{
                 .build();
 
         //TODO: review 엔티티에서 이미지를 분리하거나 monogoDB를 쓰는게 나을 듯, 나머지 기능 개발 후 바꿀 예정
-        //s3에 이미지 저장
-        if(images!=null){
-            updateImages(images, review);
+        //s3에 올린 이미지 저장
+        if(!imageUrls.isEmpty()){
+            updateImages(imageUrls, review);
         }else{ //이미지가 null인 경우 디폴트 이미지로 저장
             review.updateImg1(DEFAULT_IMG);
         }
 
-        //리뷰와 해시태그 연결
+        reviewRepository.save(review);
+
+        //리뷰와 해시태그 연결 (리뷰 id 가 생긴 뒤 한 번에)
         if(createReviewRequest.getHashTagId()!=null){
-            createReviewRequest.getHashTagId().forEach(hashTag -> connectHashTag(review, hashTag));
+            Set<Long> hashTagIds = new LinkedHashSet<>(createReviewRequest.getHashTagId());
+            hashTagCatalog.validate(hashTagIds);
+            taggingBatchRepository.insertAll(review.getReviewId(), hashTagIds);
         }
-
-        reviewRepository.save(review);
+        storeVisitLedger.recordVisit(user, store);
         user.updateCountReview(true);
         userRepository.save(user);
+        publishChanged(review, ReviewChangedEvent.Type.CREATED);
     }
 
     @Override
-    @Transactional
     public void updateReview(Long reviewId, List<MultipartFile> images, UpdateReviewRequest updateReviewRequest) {
+        List<String> imageUrls = images != null ? s3Service.uploadImages(images) : List.of();
+        inTransaction(imageUrls, () -> modifyReview(reviewId, imageUrls, updateReviewRequest));
+    }
+
+    private void modifyReview(Long reviewId, List<String> imageUrls, UpdateReviewRequest updateReviewRequest) {
         Review review = reviewRepository.findByReviewIdAndStatus(reviewId, BaseEntity.Status.ACTIVE).orElseThrow(()->new NotFoundException(Code.REVIEW_NOT_FOUND));
 
         //방문일자 변경
@@ -101,15 +129,11 @@ public class ReviewServiceImpl implements ReviewService{
         if(updateReviewRequest.getMenuName()!=null){
             review.updateMenu(updateReviewRequest.getMenuName());
         }
-        //해시태그 변경
+        //해시태그 변경 (기존 해시태그와 비교해 빠진 것만 지우고 새로 들어온 것만 추가)
         if(updateReviewRequest.getHashTagId()!=null){
-            //두가지 방법이 있음 => 1. 기존의 해시태그 다 지우고 다시 생성 / 2. 기존의 해시태그와 현재 해시태그 값을 비교해서 지우고 생성
-            //TODO: 어떤게 더 빠른지 성능 측정 하기
-//            List<HashTag> originalHashTag = review.getTaggingSet().stream().map(Tagging::getHashTag).toList();
-            //기존 해시태그 지우기
-            review.getTaggingSet().clear();
-            //새로운 해시태그로 생성
-            updateReviewRequest.getHashTagId().forEach(changeHashTag -> connectHashTag(review, changeHashTag));
+            Set<Long> hashTagIds = new LinkedHashSet<>(updateReviewRequest.getHashTagId());
+            hashTagCatalog.validate(hashTagIds);
+            updateTagging(review.getReviewId(), hashTagIds);
         }
         if(updateReviewRequest.getTaste()!=null){
             review.updateTaste(updateReviewRequest.getTaste());
@@ -117,9 +141,9 @@ public class ReviewServiceImpl implements ReviewService{
         if(updateReviewRequest.getComment()!=null){
             review.updateComment(updateReviewRequest.getComment());
         }
-        if(images!=null){
+        if(!imageUrls.isEmpty()){
             //TODO: review 엔티티에서 이미지를 분리하거나 monogoDB를 쓰는게 나을 듯, 나머지 기능 개발 후 바꿀 예정
-            updateImages(images, review);
+            updateImages(imageUrls, review);
         }
 
         if(updateReviewRequest.getPublicCheck() != null){
@@ -127,6 +151,7 @@ public class ReviewServiceImpl implements ReviewService{
         }
 
         reviewRepository.save(review);
+        publishChanged(review, ReviewChangedEvent.Type.UPDATED);
     }
 
     @Override
@@ -135,8 +160,10 @@ public class ReviewServiceImpl implements ReviewService{
         Review review = reviewRepository.findByReviewIdAndStatus(reviewId, BaseEntity.Status.ACTIVE).orElseThrow(()->new NotFoundException(Code.REVIEW_NOT_FOUND));
         review.updateStatus(BaseEntity.Status.INACTIVE);
         reviewRepository.save(review);
+        storeVisitLedger.cancelVisit(review.getUser(), review.getStore());
         user.updateCountReview(false);
         userRepository.save(user);
+        publishChanged(review, ReviewChangedEvent.Type.DELETED, review.getCreatedAt());
     }
 
     @Override
@@ -162,16 +189,15 @@ public class ReviewServiceImpl implements ReviewService{
             throw new GeneralException(Code.NO_ONESELF_LIKE);
         }
 
-        //이미 리뷰를 했었는지 확인
-        if(likedRepository.existsByUserAndReview(user, review)){
+        //이미 리뷰를 했었는지 확인 (좋아요 수는 커밋 후 ReviewLikeCounter 가 반영)
+        if(!likedReviewSet.add(user, reviewId)){
             throw new GeneralException(Code.ALREADY_LIKED_REVIEW);
         }
-
-        review.updateLiked("like");
-        reviewRepository.save(review);
+        afterRollback(() -> likedReviewSet.remove(user, reviewId));
 
         Liked liked = Liked.builder().user(user).review(review).build();
         likedRepository.save(liked);
+        publishChanged(review, ReviewChangedEvent.Type.LIKED);
     }
 
     @Override
@@ -180,33 +206,78 @@ public class ReviewServiceImpl implements ReviewService{
         Review review = reviewRepository.findByReviewIdAndStatus(reviewId, BaseEntity.Status.ACTIVE).orElseThrow(()->new NotFoundException(Code.REVIEW_NOT_FOUND));
 
         //해당 리뷰를 좋아요 클릭한 적이 있는지 확인
-        Liked liked = likedRepository.findByUserAndReview(user, review).orElseThrow(()->new GeneralException(Code.NO_LIKE_REVIEW));
+        if(!likedReviewSet.remove(user, reviewId)){
+            throw new GeneralException(Code.NO_LIKE_REVIEW);
+        }
+        afterRollback(() -> likedReviewSet.add(user, reviewId));
 
-        likedRepository.delete(liked);
-        review.updateLiked("unlike");
-        reviewRepository.save(review);
+        LocalDateTime likedAt = likedRepository.findByUserAndReview(user, review).map(Liked::getCreatedAt).orElse(null);
+        likedRepository.deleteByUserAndReview(user, review);
+        publishChanged(review, ReviewChangedEvent.Type.UNLIKED, likedAt);
     }
 
-    private void connectHashTag(Review review, Long hashTagId){
-        HashTag hashTag = hashTagRepository.findById(hashTagId).orElseThrow(()-> new NotFoundException(Code.HASHTAG_NOT_FOUND));
-        Tagging tagging = Tagging.builder()
-                .hashTag(hashTag)
-                .review(review)
-                .build();
-        review.connectHashTag(tagging);
+    // 바뀐 태그만 배치로 지우고 넣음 (이전에는 모두 지운 뒤 한 행씩 다시 넣었음)
+    private void updateTagging(Long reviewId, Set<Long> hashTagIds){
+        Set<Long> current = new HashSet<>(taggingRepository.findHashTagIdsByReviewId(reviewId));
+
+        Set<Long> removed = new HashSet<>(current);
+        removed.removeAll(hashTagIds);
+        Set<Long> added = new LinkedHashSet<>(hashTagIds);
+        added.removeAll(current);
+
+        taggingBatchRepository.deleteAll(reviewId, removed);
+        taggingBatchRepository.insertAll(reviewId, added);
     }
 
-    private void updateImages(List<MultipartFile> images, Review review){
-        List<String> imageUrls = s3Service.uploadImages(images);
-        review.updateImg1(imageUrls.get(0));
-        if(imageUrls.size()>1) review.updateImg2(imageUrls.get(1));
-        if(imageUrls.size()>2) review.updateImg3(imageUrls.get(2));
-        if(imageUrls.size()>3) review.updateImg4(imageUrls.get(3));
+    private void inTransaction(List<String> uploadedImageUrls, Runnable work) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> work.run());
+        } catch (RuntimeException e) {
+            s3Service.deleteImagesQuietly(uploadedImageUrls);
+            throw e;
+        }
     }
 
-    @Transactional
-    public void hardDeleteAllSoftDeleted() {
-        reviewRepository.deleteAllInActive();
+    // 트랜잭션이 롤백되면 Redis 에 먼저 반영한 내용을 되돌림
+    private void afterRollback(Runnable compensation) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 커밋 이후 리뷰 기반 조회 데이터 갱신
+    private void publishChanged(Review review, ReviewChangedEvent.Type type) {
+        publishChanged(review, type, null);
+    }
+
+    // activityAt : 취소된 활동(리뷰 작성, 좋아요)이 원래 일어난 시각
+    private void publishChanged(Review review, ReviewChangedEvent.Type type, LocalDateTime activityAt) {
+        Store store = review.getStore();
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getReviewId(), store.getStoreId(),
+                store.getTownCode(), store.getCategoryString(), review.getUser().getUserId(), type, activityAt));
+    }
+
+    // 교체된 이전 이미지는 커밋 이후 S3 에서 삭제
+    private void updateImages(List<String> imageUrls, Review review){
+        List<String> replaced = review.replaceImages(imageUrls);
+        replaced.remove(DEFAULT_IMG);
+        if(!replaced.isEmpty()){
+            afterCommit(() -> s3Service.deleteImagesQuietly(replaced, ImageVariant.values()));
+        }
     }
 
 }
@@ -0,0 +1,156 @@
+package com.umc.gusto.domain.review.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 "이미 본 피드" Bloom filter (Redis bitmap)
+ * GENERATION_DAYS 일마다 새 세대를 쓰고 직전 세대까지만 확인하므로, 본 기록은 최대 2세대 뒤에 사라진다.
+ * 유저당 메모리는 세대당 FILTER_BITS / 8 바이트 x 2 로 고정이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeenFeedFilter {
+    private static final String KEY_PREFIX = "feed:seen:";
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int FILTER_BITS = 1 << 16;             // 세대당 8KB, 약 6,800개까지 오탐률 1% 이하
+    private static final int HASH_COUNT = 5;
+    private static final int GENERATION_DAYS = 3;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 지표: 내려준 피드 수, 그중 이미 본 리뷰 수, 이미 봐서 걸러낸 후보 수
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong filtered = new AtomicLong();
+
+    /**
+     * 후보 중 본 적 없는 리뷰를 우선해 count 개 선택 (모자라면 본 리뷰로 채움)
+     */
+    public List<Long> pickUnseen(UUID userId, List<Long> candidates, int count) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        byte[][] keys = generationKeys(userId);
+        List<Object> bits;
+        try {
+            bits = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long reviewId : candidates) {
+                    for (byte[] key : keys) {
+                        for (long offset : offsets(reviewId)) {
+                            connection.stringCommands().getBit(key, offset);
+                        }
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 필터를 못 읽어도 피드는 내려줌
+            log.warn("failed to read seen feed filter : userId={}", userId, e);
+            return candidates.subList(0, Math.min(count, candidates.size()));
+        }
+
+        List<Long> unseen = new ArrayList<>();
+        List<Long> seen = new ArrayList<>();
+        int perCandidate = keys.length * HASH_COUNT;
+        for (int i = 0; i < candidates.size(); i++) {
+            (isSeen(bits, i * perCandidate, perCandidate) ? seen : unseen).add(candidates.get(i));
+        }
+        filtered.addAndGet(seen.size());
+
+        List<Long> picked = new ArrayList<>(unseen.subList(0, Math.min(count, unseen.size())));
+        int refill = Math.min(count - picked.size(), seen.size());
+        picked.addAll(seen.subList(0, refill));
+        served.addAndGet(picked.size());
+        duplicates.addAndGet(refill);
+        return picked;
+    }
+
+    /**
+     * 현재 세대 필터에 본 리뷰로 기록
+     */
+    public void markSeen(UUID userId, Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return;
+        }
+        byte[] key = generationKeys(userId)[0];
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long reviewId : reviewIds) {
+                    for (long offset : offsets(reviewId)) {
+                        connection.stringCommands().setBit(key, offset, true);
+                    }
+                }
+                connection.keyCommands().expire(key, 2L * GENERATION_DAYS * 24 * 60 * 60);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("failed to update seen feed filter : userId={}", userId, e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void logMetrics() {
+        long servedCount = served.getAndSet(0);
+        long duplicateCount = duplicates.getAndSet(0);
+        long filteredCount = filtered.getAndSet(0);
+        if (servedCount == 0) {
+            return;
+        }
+        log.info("feed seen filter : served={}, duplicateRate={}%, filteredCandidates={}, bytesPerUser<={}",
+                servedCount, String.format("%.2f", duplicateCount * 100.0 / servedCount), filteredCount, 2 * FILTER_BITS / 8);
+    }
+
+    // 모든 비트가 켜져 있는 세대가 하나라도 있으면 본 리뷰
+    private static boolean isSeen(List<Object> bits, int from, int length) {
+        for (int generation = 0; generation < length / HASH_COUNT; generation++) {
+            boolean all = true;
+            for (int h = 0; h < HASH_COUNT && all; h++) {
+                all = Boolean.TRUE.equals(bits.get(from + generation * HASH_COUNT + h));
+            }
+            if (all) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // [현재 세대, 직전 세대]
+    private static byte[][] generationKeys(UUID userId) {
+        long generation = LocalDate.now(SERVICE_ZONE).toEpochDay() / GENERATION_DAYS;
+        return new byte[][]{
+                (KEY_PREFIX + userId + ":" + generation).getBytes(StandardCharsets.UTF_8),
+                (KEY_PREFIX + userId + ":" + (generation - 1)).getBytes(StandardCharsets.UTF_8)
+        };
+    }
+
+    // double hashing 으로 HASH_COUNT 개의 비트 위치
+    private static long[] offsets(long reviewId) {
+        long h1 = mix(reviewId);
+        long h2 = mix(h1) | 1;
+        long[] offsets = new long[HASH_COUNT];
+        for (int i = 0; i < HASH_COUNT; i++) {
+            offsets[i] = Math.floorMod(h1 + i * h2, FILTER_BITS);
+        }
+        return offsets;
+    }
+
+    // splitmix64
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
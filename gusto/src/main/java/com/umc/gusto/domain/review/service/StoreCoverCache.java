@@ -0,0 +1,122 @@
+package com.umc.gusto.domain.review.service;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.review.event.ReviewLikesFlushedEvent;
+import com.umc.gusto.domain.review.event.ReviewReadModel;
+import com.umc.gusto.domain.review.model.StoreImageVO;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.domain.user.event.ReviewVisibilityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 가게 대표 이미지(좋아요 상위 공개 리뷰 이미지) 조회 모델
+ * 없는 가게만 한 번의 쿼리로 채우고, 리뷰 변경 이벤트가 커밋되면 해당 가게만 비운다.
+ * 좋아요 순서는 Review.liked 에 증감이 반영된 뒤(ReviewLikesFlushedEvent)에 비운다.
+ * 최근에 조회한 가게 MAX_CACHED_STORES 개만 LRU 로 유지한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreCoverCache implements ReviewReadModel {
+    public static final int MAX_COVER_SIZE = 4;
+    private static final int MAX_CACHED_STORES = 100_000;
+
+    private final ReviewRepository reviewRepository;
+
+    // 접근 순서 LinkedHashMap 이라 조회도 구조를 바꾸므로, 모든 접근은 covers 로 동기화
+    private final Map<Long, List<String>> covers = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, List<String>> eldest) {
+            return size() > MAX_CACHED_STORES;
+        }
+    };
+    // 조회 도중 그 가게가 무효화됐는지 확인용 (모두 covers 로 동기화)
+    // 무효화마다 sequence 를 올리고, DB 에서 읽는 중인 가게에 대해서만 마지막 무효화 시점을 남긴다
+    private long sequence = 0;
+    private final Map<Long, Integer> loading = new HashMap<>();        // storeId -> 읽는 중인 요청 수
+    private final Map<Long, Long> evictedAt = new HashMap<>();         // 읽는 중에 무효화된 storeId -> sequence
+
+    /**
+     * 가게별 대표 이미지 최대 limit 개 (이미지가 없는 리뷰는 빈 문자열)
+     */
+    public Map<Long, List<String>> getCovers(Collection<Long> storeIds, int limit) {
+        Map<Long, List<String>> result = new HashMap<>();
+        Set<Long> misses = new HashSet<>();
+        long loadStartedAt;
+        synchronized (covers) {
+            for (Long storeId : storeIds) {
+                List<String> cover = covers.get(storeId);
+                if (cover != null) {
+                    result.put(storeId, cover.size() > limit ? cover.subList(0, limit) : cover);
+                } else {
+                    misses.add(storeId);
+                }
+            }
+            misses.forEach(storeId -> loading.merge(storeId, 1, Integer::sum));
+            loadStartedAt = sequence;
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, List<String>> loaded = new HashMap<>();
+            misses.forEach(storeId -> loaded.put(storeId, new ArrayList<>()));
+            boolean fetched = false;
+            try {
+                for (StoreImageVO image : reviewRepository.findTopImagesByStoreIds(misses, MAX_COVER_SIZE)) {
+                    loaded.get(image.getStoreId()).add(Optional.ofNullable(image.getImage()).orElse(""));
+                }
+                loaded.forEach((storeId, cover) -> result.put(storeId, cover.size() > limit ? cover.subList(0, limit) : cover));
+                fetched = true;
+            } finally {
+                // 읽는 사이에 그 가게가 무효화됐다면 오래된 값일 수 있으므로 그 가게만 저장하지 않음 (확인과 저장은 evict 와 같은 잠금 안에서)
+                synchronized (covers) {
+                    for (Long storeId : misses) {
+                        if (fetched && evictedAt.getOrDefault(storeId, 0L) <= loadStartedAt) {
+                            covers.put(storeId, List.copyOf(loaded.get(storeId)));
+                        }
+                        if (loading.merge(storeId, -1, Integer::sum) == 0) {
+                            loading.remove(storeId);
+                            evictedAt.remove(storeId);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public void evict(Long storeId) {
+        synchronized (covers) {
+            sequence++;
+            covers.remove(storeId);
+            if (loading.containsKey(storeId)) {
+                evictedAt.put(storeId, sequence);
+            }
+        }
+    }
+
+    @Override
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        // 좋아요/취소 시점에는 아직 liked 컬럼이 그대로라 다시 읽어도 같은 값
+        if (event.type() == ReviewChangedEvent.Type.LIKED || event.type() == ReviewChangedEvent.Type.UNLIKED) {
+            return;
+        }
+        evict(event.storeId());
+    }
+
+    @Override
+    @EventListener
+    public void onReviewLikesFlushed(ReviewLikesFlushedEvent event) {
+        event.storeIds().forEach(this::evict);
+    }
+
+    @Override
+    @TransactionalEventListener
+    public void onReviewVisibilityChanged(ReviewVisibilityChangedEvent event) {
+        reviewRepository.findStoreIdsByUserId(event.userId()).forEach(this::evict);
+    }
+}
@@ -0,0 +1,89 @@
+package com.umc.gusto.domain.review.service;
+
+import com.umc.gusto.domain.review.entity.StoreVisit;
+import com.umc.gusto.domain.review.repository.StoreVisitRepository;
+import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.user.entity.User;
+import com.umc.gusto.global.util.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 가게 방문 횟수 장부
+ * 리뷰 생성/삭제와 같은 트랜잭션에서 갱신되며, 한 페이지 분량의 가게를 한 번에 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreVisitLedger {
+    private static final String BACKFILL_LOCK_KEY = "lock:store-visit-backfill";
+    private static final long BACKFILL_LOCK_TIMEOUT = 10 * 60 * 1000L;
+    private static final String SYNCED_AT_KEY = "store-visit:synced-at";
+    private static final Duration SYNC_MARGIN = Duration.ofMinutes(5);
+
+    private final StoreVisitRepository storeVisitRepository;
+    private final RedisService redisService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional
+    public void recordVisit(User user, Store store) {
+        storeVisitRepository.upsertVisit(user.getUserId(), store.getStoreId());
+    }
+
+    @Transactional
+    public void cancelVisit(User user, Store store) {
+        storeVisitRepository.addVisitCount(user, store, -1);
+    }
+
+    /**
+     * storeId → 방문 횟수 (방문하지 않은 가게는 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getVisitCounts(User user, Collection<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+        return storeVisitRepository.findVisitedByUserAndStoreIds(user, storeIds).stream()
+                .collect(Collectors.toMap(visit -> visit.getStore().getStoreId(), StoreVisit::getVisitCount));
+    }
+
+    /**
+     * 기존 리뷰로 장부를 채우고, 이후 기동마다 지난 동기화 이후 바뀐 (유저, 가게) 를 다시 계산
+     * 리뷰로부터 횟수를 덮어쓰므로 몇 번을 실행해도 같고, 완료 시각은 Redis 에 남긴다.
+     * 배포 중 장부를 모르는 이전 버전 인스턴스가 쓴 리뷰도 다음 기동 때 반영된다. (여러 인스턴스가 동시에 뜨면 잠금을 잡은 한 곳만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        redisService.tryLock(BACKFILL_LOCK_KEY, BACKFILL_LOCK_TIMEOUT).ifPresent(token -> {
+            try {
+                // 시계 차이와 진행 중이던 트랜잭션을 감안해 조금 앞에서부터 다시 계산
+                LocalDateTime startedAt = LocalDateTime.now().minus(SYNC_MARGIN);
+                Optional<LocalDateTime> syncedAt = redisService.getValues(SYNCED_AT_KEY).map(LocalDateTime::parse);
+                Integer rows = transactionTemplate.execute(status -> syncedAt
+                        .map(storeVisitRepository::resyncFromReviews)
+                        .orElseGet(storeVisitRepository::backfillFromReviews));
+                redisTemplate.opsForValue().set(SYNCED_AT_KEY, startedAt.toString());
+                log.info("store visit ledger synced since {} : {} rows", syncedAt.map(LocalDateTime::toString).orElse("beginning"), rows);
+            } catch (RuntimeException e) {
+                // 완료 시각을 남기지 않았으므로 다음 기동 때 같은 범위부터 다시 진행
+                log.warn("store visit ledger sync failed", e);
+            } finally {
+                redisService.unlock(BACKFILL_LOCK_KEY, token);
+            }
+        });
+    }
+}
@@ -61,25 +61,25 @@ public class RouteController {
 
     /**
      * 내 루트 조회
-     * [GET] /routes
+     * [GET] /routes?cursor={cursor}
      */
     @GetMapping("")
     public ResponseEntity<RoutePagingResponse> allMyRoute(
             @AuthenticationPrincipal AuthUser authUSer,
-            @RequestParam(required = false, name = "routeId") Long routeId
+            @RequestParam(required = false, name = "cursor") String cursor
     ){
-        RoutePagingResponse route = routeService.getRoute(authUSer.getUser(),routeId);
+        RoutePagingResponse route = routeService.getRoute(authUSer.getUser(),cursor);
         return ResponseEntity.ok().body(route);
     }
 
     /**
      * 그룹 내 루트 목록
-     * [GET] /routes/groups{groupId}
+     * [GET] /routes/groups/{groupId}?cursor={cursor}
      */
     @GetMapping("/groups/{groupId}")
     public ResponseEntity<RoutePagingResponse> allMyRoute(
-            @PathVariable Long groupId, @RequestParam(required = false, name = "routeId") Long routeId){
-        RoutePagingResponse route = routeService.getGroupRoute(groupId, routeId);
+            @PathVariable Long groupId, @RequestParam(required = false, name = "cursor") String cursor){
+        RoutePagingResponse route = routeService.getGroupRoute(groupId, cursor);
         return ResponseEntity.ok().body(route);
     }
 
@@ -95,14 +95,14 @@ public class RouteController {
 
     /**
      * 타인의 루트 조회
-     * [GET] /routes/{nickname}
+     * [GET] /routes/{nickname}?cursor={cursor}
      */
     @GetMapping("/{nickname}")
     public ResponseEntity<RoutePagingResponse> allUserRoute
     (@PathVariable String nickname,
-     @RequestParam(required = false, name = "routeId") Long routeId
+     @RequestParam(required = false, name = "cursor") String cursor
      ){
-        RoutePagingResponse route = routeService.getOtherRoute(nickname,routeId);
+        RoutePagingResponse route = routeService.getOtherRoute(nickname,cursor);
         return ResponseEntity.ok().body(route);
     }
 
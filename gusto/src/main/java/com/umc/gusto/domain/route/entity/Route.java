@@ -17,6 +17,10 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @RequiredArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_route_user_created", columnList = "userId, createdAt, routeId"),        // 루트 목록 keyset 페이징
+        @Index(name = "idx_route_group_created", columnList = "groupId, createdAt, routeId")
+})
 @DynamicInsert
 @DynamicUpdate
 public class Route extends BaseEntity {
@@ -0,0 +1,14 @@
+package com.umc.gusto.domain.route.model;
+
+import com.umc.gusto.global.common.PublishStatus;
+
+import java.time.LocalDateTime;
+
+public interface RouteVO {
+    Long getRouteId();
+    String getRouteName();
+    PublishStatus getPublishRoute();
+    LocalDateTime getCreatedAt();
+    Long getGroupId();
+    Long getNumStore();
+}
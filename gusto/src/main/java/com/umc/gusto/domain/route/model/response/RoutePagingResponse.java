@@ -10,5 +10,6 @@ import java.util.List;
 @AllArgsConstructor
 public class RoutePagingResponse {
     private Boolean hasNext;
+    private String cursor;
     private List<?> result;
 }
@@ -2,16 +2,15 @@ package com.umc.gusto.domain.route.repository;
 
 import com.umc.gusto.domain.group.entity.Group;
 import com.umc.gusto.domain.route.entity.Route;
+import com.umc.gusto.domain.route.model.RouteVO;
 import com.umc.gusto.domain.user.entity.User;
 import com.umc.gusto.global.common.BaseEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,36 +28,40 @@ public interface RouteRepository extends JpaRepository<Route,Long> {
     // rootId PK값으로 루트 찾기
     Optional<Route> findRouteByRouteIdAndStatus(Long routeId,BaseEntity.Status status);
 
-    // 유저=본인
+    // 목록 화면은 RouteVO projection (경로 수는 서브쿼리로 함께 조회)
+    // 유저=본인 (createdAt, routeId 최신순 keyset)
     // 가장 첫 페이징 유저의 루트 목록 조회, 그룹X
-    @Query("select r from Route r where r.user = :user AND r.status = 'ACTIVE' AND r.group.groupId IS NULL ORDER BY r.createdAt DESC")
-    Page<Route> findRouteByUserFirstId(@Param("user") User user , Pageable pageable);
+    @Query("select r.routeId as routeId, r.routeName as routeName, r.publishRoute as publishRoute, r.createdAt as createdAt, r.group.groupId as groupId, " +
+            "(select count(rl) from RouteList rl where rl.route = r) as numStore from Route r where r.user = :user AND r.status = 'ACTIVE' AND r.group.groupId IS NULL ORDER BY r.createdAt DESC, r.routeId DESC")
+    List<RouteVO> findRouteByUserFirstId(@Param("user") User user , Pageable pageable);
     // 유저의 루트 목록 조회 , 그룹X
-    @Query("select r from Route r where r.user = :user AND r.status = 'ACTIVE' AND r.routeId <:routeId AND r.group.groupId IS NULL ORDER BY r.createdAt DESC")
-    Page<Route> findRouteByAfterRouted(@Param("user") User user, @Param("routeId") Long routeId , Pageable pageable);
+    @Query("select r.routeId as routeId, r.routeName as routeName, r.publishRoute as publishRoute, r.createdAt as createdAt, r.group.groupId as groupId, " +
+            "(select count(rl) from RouteList rl where rl.route = r) as numStore from Route r where r.user = :user AND r.status = 'ACTIVE' AND r.group.groupId IS NULL " +
+            "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.routeId < :routeId) ORDER BY r.createdAt DESC, r.routeId DESC")
+    List<RouteVO> findRouteByAfterRouted(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt, @Param("routeId") Long routeId , Pageable pageable);
 
     // 유저= 타인
-    @Query("select r from Route r where r.user = :user AND r.user.publishRoute ='PUBLIC' AND r.status = 'ACTIVE' AND r.publishRoute ='PUBLIC' AND r.group.groupId IS NULL ORDER BY r.createdAt DESC")
-    Page<Route> findRouteByOtherFirstId(@Param("user") User user , Pageable pageable);
-    @Query("select r from Route r where r.user = :user AND r.status = 'ACTIVE'  AND r.publishRoute = 'PUBLIC' AND r.routeId <:routeId AND r.group.groupId IS NULL ORDER BY r.createdAt DESC")
-    Page<Route> findRouteByOtherAfterRouted(@Param("user") User user, @Param("routeId") Long routeId ,Pageable pageable);
+    @Query("select r.routeId as routeId, r.routeName as routeName, r.publishRoute as publishRoute, r.createdAt as createdAt, r.group.groupId as groupId, " +
+            "(select count(rl) from RouteList rl where rl.route = r) as numStore from Route r where r.user = :user AND r.user.publishRoute ='PUBLIC' AND r.status = 'ACTIVE' AND r.publishRoute ='PUBLIC' AND r.group.groupId IS NULL ORDER BY r.createdAt DESC, r.routeId DESC")
+    List<RouteVO> findRouteByOtherFirstId(@Param("user") User user , Pageable pageable);
+    @Query("select r.routeId as routeId, r.routeName as routeName, r.publishRoute as publishRoute, r.createdAt as createdAt, r.group.groupId as groupId, " +
+            "(select count(rl) from RouteList rl where rl.route = r) as numStore from Route r where r.user = :user AND r.user.publishRoute ='PUBLIC' AND r.status = 'ACTIVE' AND r.publishRoute = 'PUBLIC' AND r.group.groupId IS NULL " +
+            "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.routeId < :routeId) ORDER BY r.createdAt DESC, r.routeId DESC")
+    List<RouteVO> findRouteByOtherAfterRouted(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt, @Param("routeId") Long routeId ,Pageable pageable);
 
 
     // 그룹의 루트 개수 조회
     List<Route> findRoutesByGroupAndStatus(Group group, BaseEntity.Status status);
 
     // 그룹의 루트 목록 조회
-    @Query("select r from Route r where r.group =:group AND r.status ='ACTIVE' AND r.routeId <:routeId ORDER BY r.createdAt DESC ")
-    Page<Route> findRoutesByGroup(@Param("group") Group group, @Param("routeId") Long routeId , Pageable pageable);
+    @Query("select r.routeId as routeId, r.routeName as routeName, r.publishRoute as publishRoute, r.createdAt as createdAt, r.group.groupId as groupId, " +
+            "(select count(rl) from RouteList rl where rl.route = r) as numStore from Route r where r.group =:group AND r.status ='ACTIVE' " +
+            "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.routeId < :routeId) ORDER BY r.createdAt DESC, r.routeId DESC")
+    List<RouteVO> findRoutesByGroup(@Param("group") Group group, @Param("createdAt") LocalDateTime createdAt, @Param("routeId") Long routeId , Pageable pageable);
 
     // 그룹의 루트 첫번째 호출
-    @Query("select r from Route r where r.group =:group AND r.status = 'ACTIVE' ORDER BY r.createdAt DESC ")
-    Page<Route> findFirstRoutesByGroup(@Param("group") Group group, Pageable pageable);
-
-    // Hard delete
-    @Transactional
-    @Modifying(clearAutomatically = true)
-    @Query("DELETE FROM Route r WHERE r.status = 'INACTIVE'")
-    int deleteAllInActive();
+    @Query("select r.routeId as routeId, r.routeName as routeName, r.publishRoute as publishRoute, r.createdAt as createdAt, r.group.groupId as groupId, " +
+            "(select count(rl) from RouteList rl where rl.route = r) as numStore from Route r where r.group =:group AND r.status = 'ACTIVE' ORDER BY r.createdAt DESC, r.routeId DESC")
+    List<RouteVO> findFirstRoutesByGroup(@Param("group") Group group, Pageable pageable);
 
 }
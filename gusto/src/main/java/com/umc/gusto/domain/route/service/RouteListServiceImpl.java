@@ -10,6 +10,7 @@ import com.umc.gusto.domain.route.model.response.RouteListResponse;
 import com.umc.gusto.domain.route.model.response.RouteRouteListResponse;
 import com.umc.gusto.domain.route.repository.RouteListRepository;
 import com.umc.gusto.domain.route.repository.RouteRepository;
+import com.umc.gusto.domain.store.event.StoreActivityEvent;
 import com.umc.gusto.domain.store.repository.StoreRepository;
 import com.umc.gusto.domain.user.entity.User;
 import com.umc.gusto.domain.user.repository.UserRepository;
@@ -19,6 +20,7 @@ import com.umc.gusto.global.exception.Code;
 import com.umc.gusto.global.exception.GeneralException;
 import com.umc.gusto.global.exception.customException.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +37,7 @@ public class RouteListServiceImpl implements RouteListService{
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -55,6 +58,7 @@ public class RouteListServiceImpl implements RouteListService{
                         .ordinal(dto.getOrdinal())
                         .build();
                 routeListRepository.save(routeList);
+                publishRouteAdded(routeList);
             } else throw new GeneralException(Code.ROUTE_ORDINAL_BAD_REQUEST);
         });
     }
@@ -87,6 +91,7 @@ public class RouteListServiceImpl implements RouteListService{
                     .ordinal(ordinal)
                     .build();
             routeListRepository.save(routeList);
+            publishRouteAdded(routeList);
         });
     }
 
@@ -169,5 +174,7 @@ public class RouteListServiceImpl implements RouteListService{
 
     }
 
-
+    private void publishRouteAdded(RouteList routeList) {
+        eventPublisher.publishEvent(StoreActivityEvent.of(routeList.getStore(), StoreActivityEvent.Type.ROUTE_ADDED));
+    }
 }
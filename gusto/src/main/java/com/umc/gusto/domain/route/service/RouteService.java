@@ -14,20 +14,18 @@ public interface RouteService {
     void deleteRoute(Long routeId,User user);
 
     // 내 루트 조회
-    RoutePagingResponse getRoute(User user, Long routeId);
+    RoutePagingResponse getRoute(User user, String cursor);
 
     // 그룹 내 루트 조회
-    RoutePagingResponse getGroupRoute(Long groupId,Long routeId);
+    RoutePagingResponse getGroupRoute(Long groupId, String cursor);
 
     // 루트 상세 수정
     void modifyRouteList(Long routeId, ModifyRouteRequest request);
 
     // 타인의 루트 조회
-    RoutePagingResponse getOtherRoute(String nickname, Long routeId);
+    RoutePagingResponse getOtherRoute(String nickname, String cursor);
 
     // 루트 공개/비공개 수정
     void  modifyPublishingInfo(User user, Long routeId,boolean publishStatus);
 
-    //
-    void hardDeleteAllSoftDeleted();
 }
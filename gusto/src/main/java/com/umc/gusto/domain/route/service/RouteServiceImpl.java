@@ -4,6 +4,7 @@ import com.umc.gusto.domain.group.entity.Group;
 import com.umc.gusto.domain.group.repository.GroupMemberRepository;
 import com.umc.gusto.domain.group.repository.GroupRepository;
 import com.umc.gusto.domain.route.entity.Route;
+import com.umc.gusto.domain.route.model.RouteVO;
 import com.umc.gusto.domain.route.entity.RouteList;
 import com.umc.gusto.domain.route.model.request.ModifyRoueListRequest;
 import com.umc.gusto.domain.route.model.request.ModifyRouteRequest;
@@ -20,9 +21,10 @@ import com.umc.gusto.global.common.BaseEntity;
 import com.umc.gusto.global.common.PublishStatus;
 import com.umc.gusto.global.exception.Code;
 import com.umc.gusto.global.exception.GeneralException;
+import com.umc.gusto.global.util.CursorCodec;
+import com.umc.gusto.global.util.CursorCodec.Cursor;
+import com.umc.gusto.global.util.CursorCodec.CursorSlice;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,7 +46,11 @@ public class RouteServiceImpl implements RouteService{
 
     private final GroupMemberRepository groupMemberRepository;
 
+    private final CursorCodec cursorCodec;
     private static final int ROUTE_LIST_PAGE = 6;
+    private static final String MY_ROUTE_CURSOR = "route:mine:";
+    private static final String PUBLIC_ROUTE_CURSOR = "route:public:";
+    private static final String GROUP_ROUTE_CURSOR = "route:group:";
 
     @Transactional
     @Override
@@ -130,59 +136,61 @@ public class RouteServiceImpl implements RouteService{
     }
 
     @Override
-    public RoutePagingResponse getRoute(User user, Long routeId) {
+    public RoutePagingResponse getRoute(User user, String cursor) {
         userRepository.findByNicknameAndMemberStatusIs(user.getNickname(), User.MemberStatus.ACTIVE)
                 .orElseThrow(()->new GeneralException(Code.USER_NOT_FOUND));
 
-        Page<Route> routes;
-        if(routeId == null) {
-            routes = routeRepository.findRouteByUserFirstId(user, Pageable.ofSize(ROUTE_LIST_PAGE));
-        }else{
-            routes = routeRepository.findRouteByAfterRouted(user,routeId,Pageable.ofSize(ROUTE_LIST_PAGE));
-        }
-        List<RouteResponse> list = routes.getContent().stream()
+        String scope = MY_ROUTE_CURSOR + user.getUserId();
+        Cursor after = cursorCodec.decode(scope, cursor);
+        List<RouteVO> fetched = after == null
+                ? routeRepository.findRouteByUserFirstId(user, cursorCodec.limit(ROUTE_LIST_PAGE))
+                : routeRepository.findRouteByAfterRouted(user, after.getDateTime(0), after.getLong(1), cursorCodec.limit(ROUTE_LIST_PAGE));
+        CursorSlice<RouteVO> routes = cursorCodec.slice(scope, fetched, ROUTE_LIST_PAGE, RouteServiceImpl::sortKey);
+
+        List<RouteResponse> list = routes.content().stream()
                 .map(route -> RouteResponse.builder()
                         .routeId(route.getRouteId())
                         .routeName(route.getRouteName())
                         .publishRoute(route.getPublishRoute() == PublishStatus.PUBLIC ? true : false)
-                        .numStore(routeListRepository.countRouteListByRoute(route))
+                        .numStore(route.getNumStore().intValue())
                         .build())
                 .collect(Collectors.toList());
         return RoutePagingResponse.builder()
                 .hasNext(routes.hasNext())
+                .cursor(routes.nextCursor())
                 .result(list)
                 .build();
 
     }
 
     @Override
-    public  RoutePagingResponse getGroupRoute(Long groupId, Long routeId) {
+    public  RoutePagingResponse getGroupRoute(Long groupId, String cursor) {
         // 그룹 존재 여부 확인
         Group group = groupRepository.findGroupByGroupIdAndStatus(groupId, BaseEntity.Status.ACTIVE)
                 .orElseThrow(()->new GeneralException(Code.FIND_FAIL_GROUP));
 
-        Page<Route> routes;
-        if(routeId == null) {
-            routes = routeRepository.findFirstRoutesByGroup(group, Pageable.ofSize(ROUTE_LIST_PAGE));
-        }else{
-            //특정 그룹 내 루트 조회
-            routes = routeRepository.findRoutesByGroup(group, routeId, Pageable.ofSize(ROUTE_LIST_PAGE));
-        }
-        return getRoutePagingResponse(routes);
+        String scope = GROUP_ROUTE_CURSOR + groupId;
+        Cursor after = cursorCodec.decode(scope, cursor);
+        //특정 그룹 내 루트 조회
+        List<RouteVO> fetched = after == null
+                ? routeRepository.findFirstRoutesByGroup(group, cursorCodec.limit(ROUTE_LIST_PAGE))
+                : routeRepository.findRoutesByGroup(group, after.getDateTime(0), after.getLong(1), cursorCodec.limit(ROUTE_LIST_PAGE));
+        return getRoutePagingResponse(cursorCodec.slice(scope, fetched, ROUTE_LIST_PAGE, RouteServiceImpl::sortKey));
 
     }
 
-    private RoutePagingResponse getRoutePagingResponse(Page<Route> routes) {
-        List<RouteResponse> list = routes.stream().map(
-                        Route -> RouteResponse.builder()
-                                .routeId(Route.getRouteId())
-                                .routeName(Route.getRouteName())
-                                .numStore(routeListRepository.countRouteListByRoute(Route))
-                                .groupId(Route.getGroup().getGroupId())
+    private RoutePagingResponse getRoutePagingResponse(CursorSlice<RouteVO> routes) {
+        List<RouteResponse> list = routes.content().stream().map(
+                        route -> RouteResponse.builder()
+                                .routeId(route.getRouteId())
+                                .routeName(route.getRouteName())
+                                .numStore(route.getNumStore().intValue())
+                                .groupId(route.getGroupId())
                                 .build())
                 .collect(Collectors.toList());
         return RoutePagingResponse.builder()
                 .hasNext(routes.hasNext())
+                .cursor(routes.nextCursor())
                 .result(list)
                 .build();
     }
@@ -232,27 +240,28 @@ public class RouteServiceImpl implements RouteService{
     }
 
     @Override
-    public RoutePagingResponse getOtherRoute(String nickname,Long routeId) {
+    public RoutePagingResponse getOtherRoute(String nickname,String cursor) {
         User user = userRepository.findByNicknameAndMemberStatusIs(nickname, User.MemberStatus.ACTIVE)
                 .orElseThrow(() -> new GeneralException(Code.USER_NOT_FOUND));
 
-        Page<Route> routes;
-        if (routeId == null) {
-            routes = routeRepository.findRouteByOtherFirstId(user, Pageable.ofSize(ROUTE_LIST_PAGE));
-        } else {
-            routes = routeRepository.findRouteByOtherAfterRouted(user, routeId, Pageable.ofSize(ROUTE_LIST_PAGE));
-        }
+        String scope = PUBLIC_ROUTE_CURSOR + user.getUserId();
+        Cursor after = cursorCodec.decode(scope, cursor);
+        List<RouteVO> fetched = after == null
+                ? routeRepository.findRouteByOtherFirstId(user, cursorCodec.limit(ROUTE_LIST_PAGE))
+                : routeRepository.findRouteByOtherAfterRouted(user, after.getDateTime(0), after.getLong(1), cursorCodec.limit(ROUTE_LIST_PAGE));
+        CursorSlice<RouteVO> routes = cursorCodec.slice(scope, fetched, ROUTE_LIST_PAGE, RouteServiceImpl::sortKey);
 
 
-        List<RouteResponse> list = routes.stream()
+        List<RouteResponse> list = routes.content().stream()
                 .map(route -> RouteResponse.builder()
                             .routeId(route.getRouteId())
                             .routeName(route.getRouteName())
-                            .numStore(routeListRepository.countRouteListByRoute(route))
+                            .numStore(route.getNumStore().intValue())
                             .build())
                 .collect(Collectors.toList());
         return RoutePagingResponse.builder()
                 .hasNext(routes.hasNext())
+                .cursor(routes.nextCursor())
                 .result(list)
                 .build();
     }
@@ -269,9 +278,7 @@ public class RouteServiceImpl implements RouteService{
         route.updatePublishRoute(publishStatus? PublishStatus.PUBLIC: PublishStatus.PRIVATE);
     }
 
-
-    @Transactional
-    public void hardDeleteAllSoftDeleted() {
-        routeRepository.deleteAllInActive();
+    private static Object[] sortKey(RouteVO route) {
+        return new Object[]{route.getCreatedAt(), route.getRouteId()};
     }
 }
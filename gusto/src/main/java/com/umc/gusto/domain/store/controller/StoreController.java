@@ -6,14 +6,14 @@ import com.umc.gusto.domain.store.service.StoreService;
 import com.umc.gusto.domain.user.entity.User;
 import com.umc.gusto.global.auth.model.AuthUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -36,88 +36,161 @@ public class StoreController {
 
     /**
      * 가게 1건 상세 조회
-     * [GET] /stores/{storeId}/detail?reviewId={reviewId}
+     * [GET] /stores/{storeId}/detail?cursor={cursor}
      */
     @GetMapping("/{storeId}/detail")
     public ResponseEntity<GetStoreDetailResponse> getStoreDetail(
             @AuthenticationPrincipal AuthUser authUser,
             @PathVariable Long storeId,
-            @RequestParam(name = "visitedAt", required = false) LocalDate visitedAt,
-            @RequestParam(name = "reviewId", required = false) Long reviewId){
+            @RequestParam(name = "cursor", required = false) String cursor){
         User user = authUser != null ? authUser.getUser() : null;
         // 상점 세부 정보 가져오기
-        GetStoreDetailResponse getStoreDetail = storeService.getStoreDetail(user, storeId, visitedAt, reviewId);
+        GetStoreDetailResponse getStoreDetail = storeService.getStoreDetail(user, storeId, cursor);
         return ResponseEntity.status(HttpStatus.OK).body(getStoreDetail);
     }
 
     /**
      * 현 지역의 카테고리 별 찜한 가게 목록 조회(카테고리 다중 선택 가능)
-     * [GET] /stores/map?townCode={townCode}&visited={visitStatus}&myCategoryId={myCategoryId}&myCategoryId={myCategoryId}...
+     * [GET] /stores/map?townCode={townCode}&visited={visitStatus}&myCategoryId={myCategoryId}&myCategoryId={myCategoryId}...&openNow={openNow}&openAt={openAt}
      */
     @GetMapping("/map")
     public ResponseEntity<List<GetStoresInMapResponse>> getStoresInMap(
             @AuthenticationPrincipal AuthUser authUser,
             @RequestParam(name = "townCode") String townCode,
             @RequestParam(name = "myCategoryId", required = false) List<Long> myCategoryIds,
-            @RequestParam(name = "visited", required = false) Boolean visited
+            @RequestParam(name = "visited", required = false) Boolean visited,
+            @RequestParam(name = "openNow", required = false) Boolean openNow,
+            @RequestParam(name = "openAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt
             ) {
 
         User user = authUser.getUser();
-        List<GetStoresInMapResponse> getStoresInMaps = storeService.getStoresInMap(user, townCode, myCategoryIds, visited);
+        List<GetStoresInMapResponse> getStoresInMaps = storeService.getStoresInMap(user, townCode, myCategoryIds, visited, openNow, openAt);
         return  ResponseEntity.status(HttpStatus.OK).body(getStoresInMaps);
     }
 
     /**
      * 현재 지역의 찜한 식당 방문 여부 조회
-     * [GET] /stores/pins?myCategoryId={categoryId}&townCode={townCode}
+     * [GET] /stores/pins?myCategoryId={categoryId}&townCode={townCode}&openNow={openNow}&openAt={openAt}
      */
     @GetMapping("/pins")
     public ResponseEntity<List<GetPinStoreResponse>> getPinStoresByCategoryAndLocation(
             @AuthenticationPrincipal AuthUser authUser,
             @RequestParam(name = "myCategoryId", required = false) Long myCategoryId,
-            @RequestParam(name = "townCode") String townCode){
+            @RequestParam(name = "townCode") String townCode,
+            @RequestParam(name = "openNow", required = false) Boolean openNow,
+            @RequestParam(name = "openAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt){
         User user = authUser.getUser();
-        List<GetPinStoreResponse> storeList = storeService.getPinStoresByCategoryAndLocation(user, myCategoryId, townCode);
+        List<GetPinStoreResponse> storeList = storeService.getPinStoresByCategoryAndLocation(user, myCategoryId, townCode, openNow, openAt);
         return ResponseEntity.status(HttpStatus.OK).body(storeList);
     }
 
     /**
      * 현재 지역의 찜한 방문 식당 조회
-     * [GET] /stores/pins/visited?myCategoryId={categoryId}&townCode={townCode}
+     * [GET] /stores/pins/visited?myCategoryId={categoryId}&townCode={townCode}&cursor={cursor}&size={size}&openNow={openNow}&openAt={openAt}
      */
     @GetMapping("/pins/visited")
-    public ResponseEntity<Map<String, Object>> getVisitedPinStoresByCategoryAndLocation(
+    public ResponseEntity<PinStorePagingResponse> getVisitedPinStoresByCategoryAndLocation(
             @AuthenticationPrincipal AuthUser authUser,
             @RequestParam(name = "myCategoryId", required = false) Long myCategoryId,
             @RequestParam(name = "townCode") String townCode,
-            @RequestParam(name = "lastStoreId", required = false) Long lastStoreId,
-            @RequestParam(name = "size", defaultValue = "5") int size){
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "5") int size,
+            @RequestParam(name = "openNow", required = false) Boolean openNow,
+            @RequestParam(name = "openAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt){
         User user = authUser.getUser();
-        Map<String, Object> visitedStoreList = storeService.getVisitedPinStores(user, myCategoryId, townCode, lastStoreId, size);
+        PinStorePagingResponse visitedStoreList = storeService.getVisitedPinStores(user, myCategoryId, townCode, cursor, size, openNow, openAt);
         return ResponseEntity.status(HttpStatus.OK).body(visitedStoreList);
     }
 
     /**
      * 현재 지역의 찜한 미방문 식당 조회
-     * [GET] /stores/pins/unvisited?myCategoryId={categoryId}&townCode={townCode}
+     * [GET] /stores/pins/unvisited?myCategoryId={categoryId}&townCode={townCode}&cursor={cursor}&size={size}&openNow={openNow}&openAt={openAt}
      */
     @GetMapping("/pins/unvisited")
-    public ResponseEntity<Map<String, Object>> getUnvisitedPinStoresByCategoryAndLocation(
+    public ResponseEntity<PinStorePagingResponse> getUnvisitedPinStoresByCategoryAndLocation(
             @AuthenticationPrincipal AuthUser authUser,
             @RequestParam(name = "myCategoryId", required = false) Long myCategoryId,
             @RequestParam(name = "townCode") String townCode,
-            @RequestParam(name = "lastStoreId", required = false) Long lastStoreId,
-            @RequestParam(name = "size", defaultValue = "5") int size) {
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "5") int size,
+            @RequestParam(name = "openNow", required = false) Boolean openNow,
+            @RequestParam(name = "openAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt) {
         User user = authUser.getUser();
-        Map<String, Object> unvisitedStoreList = storeService.getUnvisitedPinStores(user, myCategoryId, townCode, lastStoreId, size);
+        PinStorePagingResponse unvisitedStoreList = storeService.getUnvisitedPinStores(user, myCategoryId, townCode, cursor, size, openNow, openAt);
         return ResponseEntity.status(HttpStatus.OK).body(unvisitedStoreList);
     }
 
+    /**
+     * 현재 위치에서 가까운 가게 조회 (pinned=true 이면 찜한 가게만)
+     * [GET] /stores/nearby?latitude={latitude}&longitude={longitude}&size={size}&pinned={pinned}&openNow={openNow}&openAt={openAt}
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<GetStoresInMapResponse>> getNearbyStores(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(name = "latitude") double latitude,
+            @RequestParam(name = "longitude") double longitude,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "pinned", defaultValue = "false") boolean pinned,
+            @RequestParam(name = "openNow", required = false) Boolean openNow,
+            @RequestParam(name = "openAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt) {
+        User user = authUser != null ? authUser.getUser() : null;
+        List<GetStoresInMapResponse> nearbyStores = storeService.getNearbyStores(user, latitude, longitude, size, pinned, openNow, openAt);
+        return ResponseEntity.status(HttpStatus.OK).body(nearbyStores);
+    }
+
+    /**
+     * 지도 화면 영역 안의 가게 조회 (pinned=true 이면 찜한 가게만)
+     * [GET] /stores/bounds?minLatitude={minLatitude}&minLongitude={minLongitude}&maxLatitude={maxLatitude}&maxLongitude={maxLongitude}&pinned={pinned}&openNow={openNow}&openAt={openAt}
+     */
+    @GetMapping("/bounds")
+    public ResponseEntity<List<GetStoresInMapResponse>> getStoresInBounds(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(name = "minLatitude") double minLatitude,
+            @RequestParam(name = "minLongitude") double minLongitude,
+            @RequestParam(name = "maxLatitude") double maxLatitude,
+            @RequestParam(name = "maxLongitude") double maxLongitude,
+            @RequestParam(name = "pinned", defaultValue = "false") boolean pinned,
+            @RequestParam(name = "openNow", required = false) Boolean openNow,
+            @RequestParam(name = "openAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt) {
+        User user = authUser != null ? authUser.getUser() : null;
+        List<GetStoresInMapResponse> stores = storeService.getStoresInBounds(user, minLatitude, minLongitude, maxLatitude, maxLongitude, pinned, openNow, openAt);
+        return ResponseEntity.status(HttpStatus.OK).body(stores);
+    }
+
     /**
      * 맛집 검색 엔진
+     * [GET] /stores/search?keyword={keyword}&cursorId={cursorId}&openNow={openNow}&openAt={openAt}
      */
     @GetMapping("/search")
-    public ResponseEntity<SearchStoreResponse> searchStore(@RequestParam(name = "keyword") String keyword, @RequestParam(name = "cursorId", required = false) Long cursorId){
-        return ResponseEntity.status(HttpStatus.OK).body(storeService.searchStore(keyword, cursorId));
+    public ResponseEntity<SearchStoreResponse> searchStore(
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam(name = "openNow", required = false) Boolean openNow,
+            @RequestParam(name = "openAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt){
+        return ResponseEntity.status(HttpStatus.OK).body(storeService.searchStore(keyword, cursorId, openNow, openAt));
+    }
+
+    /**
+     * 가게명 자동완성 (초성 입력 가능)
+     * [GET] /stores/autocomplete?keyword={keyword}&size={size}
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteStoreResponse>> autocompleteStore(
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "size", defaultValue = "5") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(storeService.autocompleteStore(keyword, size));
+    }
+
+    /**
+     * 지역 또는 카테고리별 인기 급상승 가게 조회 (window = day | week)
+     * [GET] /stores/trending?townCode={townCode}&category={category}&window={window}&size={size}
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<GetStoreInfoResponse>> getTrendingStores(
+            @RequestParam(name = "townCode", required = false) String townCode,
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "window", defaultValue = "day") String window,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(storeService.getTrendingStores(townCode, category, window, size));
     }
 }
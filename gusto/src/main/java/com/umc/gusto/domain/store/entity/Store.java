@@ -32,17 +32,15 @@ public class Store extends BaseTime {
     @Column(columnDefinition = "VARCHAR(20)")
     private String categoryString;
 
-    @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(name = "stateCode", nullable = false)
-    private State state;
+    // 지역 이름은 RegionDictionary 에서 코드로 조회
+    @Column(name = "stateCode", nullable = false, columnDefinition = "VARCHAR(2)")
+    private String stateCode;
 
-    @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(name = "cityCode", nullable = false)
-    private City city;
+    @Column(name = "cityCode", nullable = false, columnDefinition = "VARCHAR(5)")
+    private String cityCode;
 
-    @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(name = "townCode", nullable = false)
-    private Town town;
+    @Column(name = "townCode", nullable = false, columnDefinition = "VARCHAR(8)")
+    private String townCode;
 
     @Column(nullable = false, columnDefinition = "VARCHAR(60)")
     private String address;
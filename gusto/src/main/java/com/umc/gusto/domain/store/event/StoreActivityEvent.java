@@ -0,0 +1,24 @@
+package com.umc.gusto.domain.store.event;
+
+import com.umc.gusto.domain.store.entity.Store;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가게에 대한 사용자 활동(찜, 찜 취소, 루트 추가) 이벤트
+ * 리뷰 작성/좋아요는 ReviewChangedEvent 로 전달된다.
+ * activityAt 은 취소된 활동이 원래 일어난 시각이다. (UNPINNED : 찜, 그 외에는 null)
+ */
+public record StoreActivityEvent(Long storeId, String townCode, String category, Type type, LocalDateTime activityAt) {
+    public enum Type {
+        PINNED, UNPINNED, ROUTE_ADDED
+    }
+
+    public static StoreActivityEvent of(Store store, Type type) {
+        return of(store, type, null);
+    }
+
+    public static StoreActivityEvent of(Store store, Type type, LocalDateTime activityAt) {
+        return new StoreActivityEvent(store.getStoreId(), store.getTownCode(), store.getCategoryString(), type, activityAt);
+    }
+}
@@ -0,0 +1,103 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.store.model.OpeningHoursVO;
+import com.umc.gusto.domain.store.repository.OpeningHoursRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게별 주간 영업시간 비트 인덱스
+ * "T 시각에 영업 중인가"를 DB 조회 없이 비트 하나로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpeningHoursIndex {
+    private static final int LOAD_CHUNK_SIZE = 5000;
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    private final OpeningHoursRepository openingHoursRepository;
+
+    private final Map<Long, long[]> schedules = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Long lastStoreId = 0L;
+        Long lastOpHoursId = 0L;
+        List<OpeningHoursVO> pending = new ArrayList<>();
+
+        List<OpeningHoursVO> chunk;
+        do {
+            chunk = openingHoursRepository.findChunkOrderByStore(lastStoreId, lastOpHoursId, Pageable.ofSize(LOAD_CHUNK_SIZE));
+            for (OpeningHoursVO hours : chunk) {
+                // storeId 순으로 오므로 가게가 바뀌는 시점에 이전 가게를 변환
+                if (!pending.isEmpty() && !pending.get(0).getStoreId().equals(hours.getStoreId())) {
+                    compile(pending);
+                    pending.clear();
+                }
+                pending.add(hours);
+                lastStoreId = hours.getStoreId();
+                lastOpHoursId = hours.getOpHoursId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+        if (!pending.isEmpty()) {
+            compile(pending);
+        }
+
+        lastSyncedAt = startedAt;
+        ready = true;
+        log.info("opening hours index loaded : {} stores", schedules.size());
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void syncChanges() {
+        if (!ready) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Long> changedStoreIds = openingHoursRepository.findStoreIdsByUpdatedAtAfter(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+        if (!changedStoreIds.isEmpty()) {
+            Map<Long, List<OpeningHoursVO>> byStore = new HashMap<>();
+            changedStoreIds.forEach(storeId -> byStore.put(storeId, new ArrayList<>()));
+            openingHoursRepository.findByStoreIds(changedStoreIds)
+                    .forEach(hours -> byStore.get(hours.getStoreId()).add(hours));
+            byStore.forEach((storeId, hours) -> {
+                if (hours.isEmpty()) {
+                    schedules.remove(storeId);
+                } else {
+                    compile(hours);
+                }
+            });
+        }
+        lastSyncedAt = startedAt;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 영업시간 정보가 없는 가게는 영업 중이 아닌 것으로 본다.
+     */
+    public boolean isOpenAt(Long storeId, LocalDateTime at) {
+        long[] slots = schedules.get(storeId);
+        return slots != null && OpeningSchedule.isOpenAt(slots, at);
+    }
+
+    private void compile(List<OpeningHoursVO> hours) {
+        schedules.put(hours.get(0).getStoreId(), OpeningSchedule.compile(hours));
+    }
+}
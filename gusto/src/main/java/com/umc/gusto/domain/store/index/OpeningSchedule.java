@@ -0,0 +1,81 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.store.model.OpeningHoursVO;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 주간 영업시간을 15분 단위 slot 비트(7일 x 96칸 = 672비트)로 변환
+ * 자정을 넘기는 영업(마감 <= 오픈)은 다음 날로 이어지고, 브레이크타임은 비트를 지운다.
+ * 경계가 15분 단위가 아니면 영업 중인 칸만 남도록 오픈은 올림, 마감은 내림한다.
+ */
+public final class OpeningSchedule {
+    private static final int SLOT_MINUTES = 15;
+    private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int SLOTS_PER_WEEK = 7 * SLOTS_PER_DAY;
+    private static final int WORDS = (SLOTS_PER_WEEK + 63) / 64;
+
+    private OpeningSchedule() {
+    }
+
+    public static long[] compile(List<OpeningHoursVO> openingHours) {
+        long[] slots = new long[WORDS];
+        for (OpeningHoursVO hours : openingHours) {
+            if (hours.getOpenedAt() == null || hours.getClosedAt() == null) {
+                continue;
+            }
+            int dayStart = hours.getBusinessDay().ordinal() * SLOTS_PER_DAY;
+            int open = dayStart + ceilSlot(hours.getOpenedAt());
+            int close = dayStart + floorSlot(hours.getClosedAt());
+            if (!hours.getClosedAt().isAfter(hours.getOpenedAt())) {
+                close += SLOTS_PER_DAY;     // 다음 날 새벽까지 영업 (오픈 == 마감 이면 24시간)
+            }
+            setRange(slots, open, close, true);
+        }
+
+        for (OpeningHoursVO hours : openingHours) {
+            if (hours.getBreakStart() == null || hours.getBreakEnd() == null) {
+                continue;
+            }
+            int dayStart = hours.getBusinessDay().ordinal() * SLOTS_PER_DAY;
+            int breakStart = dayStart + floorSlot(hours.getBreakStart());
+            int breakEnd = dayStart + ceilSlot(hours.getBreakEnd());
+            if (breakEnd < breakStart) {
+                breakEnd += SLOTS_PER_DAY;
+            }
+            setRange(slots, breakStart, breakEnd, false);
+        }
+        return slots;
+    }
+
+    public static boolean isOpenAt(long[] slots, LocalDateTime at) {
+        int slot = slotOf(at);
+        return (slots[slot >>> 6] & (1L << (slot & 63))) != 0;
+    }
+
+    public static int slotOf(LocalDateTime at) {
+        return (at.getDayOfWeek().getValue() - 1) * SLOTS_PER_DAY + floorSlot(at.toLocalTime());
+    }
+
+    // [from, to) 구간을 주 단위로 감아서 설정
+    private static void setRange(long[] slots, int from, int to, boolean open) {
+        for (int i = from; i < to; i++) {
+            int slot = i % SLOTS_PER_WEEK;
+            if (open) {
+                slots[slot >>> 6] |= 1L << (slot & 63);
+            } else {
+                slots[slot >>> 6] &= ~(1L << (slot & 63));
+            }
+        }
+    }
+
+    private static int floorSlot(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    private static int ceilSlot(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute() + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    }
+}
@@ -0,0 +1,429 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.review.model.StoreCountVO;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.domain.store.entity.Store;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가게명 자동완성용 trie
+ * 완성형 음절 접두어("감자")와 초성("ㄱㅈ"), 그리고 둘을 섞은 입력("감ㅈ")을 지원한다.
+ * 음절/초성 입력은 가게명 맨 앞부터 한 음절씩 맞춘다. ("ㄱㅈ" -> "감자탕")
+ * 초성만으로 된 입력은 단어 첫 글자의 초성을 이은 문자열로도 찾는다. ("ㄱㅁ" -> "감자탕 맛집", 두 단어 이상인 가게명만)
+ * 인기도는 활성 리뷰 수이며, 얕은 노드(TOP_DEPTH 이하)는 인기 상위 TOP_SIZE 개를 미리 들고 있는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreAutocompleteIndex implements StoreIndex {
+    public static final int TOP_SIZE = 10;
+    private static final int TOP_DEPTH = 3;
+    private static final int MAX_FRONTIER = 2000;              // 초성 입력 시 한 번에 따라갈 최대 노드 수
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final ReviewRepository reviewRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Trie trie = new Trie();
+    private volatile Trie initialsTrie = new Trie();            // key 가 단어 첫 글자 초성 문자열인 trie
+    private Map<Long, Long> popularity;
+    private Set<Long> changedDuringRefresh;        // 인기도 재구성 중 put/remove 된 가게 (새 trie 에 다시 반영)
+
+    public record Entry(Long storeId, String storeName, String categoryString, String key, long score) {
+    }
+
+    @Override
+    public void put(Store store) {
+        lock.writeLock().lock();
+        try {
+            if (popularity == null) {
+                popularity = loadPopularity();
+            }
+            put(trie, initialsTrie, new Entry(store.getStoreId(), store.getStoreName(), store.getCategoryString(),
+                    StoreSearchIndex.normalize(store.getStoreName()), popularity.getOrDefault(store.getStoreId(), 0L)));
+            if (changedDuringRefresh != null) {
+                changedDuringRefresh.add(store.getStoreId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        lock.writeLock().lock();
+        try {
+            trie.remove(storeId);
+            initialsTrie.remove(storeId);
+            if (changedDuringRefresh != null) {
+                changedDuringRefresh.add(storeId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기도를 다시 읽어 trie 를 새로 구성
+     * 새 trie 는 잠금 밖에서 만들고, 그 사이 바뀐 가게만 반영한 뒤 참조를 교체한다. (조회는 기존 trie 로 계속 응답)
+     */
+    @Scheduled(fixedDelay = 3600000, initialDelay = 3600000)
+    public void refreshPopularity() {
+        Map<Long, Long> loaded = loadPopularity();
+        List<Entry> current;
+        lock.writeLock().lock();
+        try {
+            current = List.copyOf(trie.entries.values());
+            changedDuringRefresh = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Trie rebuilt = new Trie();
+        Trie rebuiltInitials = new Trie();
+        for (Entry entry : current) {
+            put(rebuilt, rebuiltInitials, rescore(entry, loaded));
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Long storeId : changedDuringRefresh) {
+                Entry entry = trie.entries.get(storeId);
+                if (entry != null) {
+                    put(rebuilt, rebuiltInitials, rescore(entry, loaded));
+                } else {
+                    rebuilt.remove(storeId);
+                    rebuiltInitials.remove(storeId);
+                }
+            }
+            changedDuringRefresh = null;
+            popularity = loaded;
+            trie = rebuilt;
+            initialsTrie = rebuiltInitials;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입력으로 시작하는 가게 중 인기 상위 size 개
+     */
+    public List<Entry> search(String keyword, int size) {
+        String query = StoreSearchIndex.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Entry> result = trie.search(query, size);
+            if (query.length() < 2 || !query.chars().allMatch(c -> isChosung((char) c))) {
+                return result;
+            }
+
+            // 가게명 앞부터 맞춘 결과와 단어 첫 글자로 맞춘 결과를 합쳐 인기 상위 size 개
+            Map<Long, Entry> merged = new HashMap<>();
+            result.forEach(entry -> merged.put(entry.storeId(), entry));
+            initialsTrie.search(query, size).forEach(entry -> merged.putIfAbsent(entry.storeId(), entry));
+            return merged.values().stream()
+                    .sorted(BY_POPULARITY)
+                    .limit(size)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void put(Trie trie, Trie initialsTrie, Entry entry) {
+        trie.put(entry);
+        String initials = wordInitials(entry.storeName());
+        if (initials.length() >= 2) {
+            initialsTrie.put(new Entry(entry.storeId(), entry.storeName(), entry.categoryString(), initials, entry.score()));
+        } else {
+            initialsTrie.remove(entry.storeId());
+        }
+    }
+
+    // 공백으로 나눈 단어마다 첫 글자 (한글 음절은 초성, 그 외는 소문자)
+    static String wordInitials(String storeName) {
+        if (storeName == null) {
+            return "";
+        }
+        StringBuilder initials = new StringBuilder();
+        for (String word : storeName.trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            char first = word.charAt(0);
+            char initial = chosungOf(first);
+            initials.append(initial != 0 ? initial : Character.toLowerCase(first));
+        }
+        return initials.toString();
+    }
+
+    private static Entry rescore(Entry entry, Map<Long, Long> popularity) {
+        return new Entry(entry.storeId(), entry.storeName(), entry.categoryString(), entry.key(),
+                popularity.getOrDefault(entry.storeId(), 0L));
+    }
+
+    private static final Comparator<Entry> BY_POPULARITY = Comparator.comparingLong(Entry::score).reversed()
+            .thenComparing(Entry::storeId, Comparator.reverseOrder());
+
+    /**
+     * trie 한 벌 (노드와 가게 정보)
+     */
+    private static final class Trie {
+        private final Node root = new Node(0);
+        private final Map<Long, Entry> entries = new HashMap<>();
+
+        void put(Entry entry) {
+            remove(entry.storeId());
+            entries.put(entry.storeId(), entry);
+            Node node = root;
+            offer(node, entry);
+            for (int i = 0; i < entry.key().length(); i++) {
+                node = node.getOrCreateChild(entry.key().charAt(i));
+                offer(node, entry);
+            }
+            node.terminals = append(node.terminals, entry.storeId());
+        }
+
+        void remove(Long storeId) {
+            Entry previous = entries.remove(storeId);
+            if (previous == null) {
+                return;
+            }
+
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < previous.key().length() && node != null; i++) {
+                node = node.child(previous.key().charAt(i));
+                path.add(node);
+            }
+            if (node == null) {
+                return;
+            }
+            node.terminals = without(node.terminals, storeId);
+
+            // 깊은 노드부터 올라오며 빈 노드는 떼어내고, 상위 목록에 있던 노드만 다시 계산
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node onPath = path.get(i);
+                if (i > 0 && onPath.terminals == null && onPath.childCount == 0) {
+                    path.get(i - 1).removeChild(previous.key().charAt(i - 1));
+                    continue;
+                }
+                if (onPath.top != null && Arrays.stream(topIds(onPath)).anyMatch(id -> id == storeId)) {
+                    recomputeTop(onPath);
+                }
+            }
+        }
+
+        List<Entry> search(String query, int size) {
+            List<Node> frontier = List.of(root);
+            for (int i = 0; i < query.length() && !frontier.isEmpty(); i++) {
+                frontier = step(frontier, query.charAt(i));
+            }
+
+            PriorityQueue<Entry> best = new PriorityQueue<>(BY_POPULARITY.reversed());
+            for (Node node : frontier) {
+                for (long storeId : node.top != null ? topIds(node) : collect(node)) {
+                    best.add(entries.get(storeId));
+                    if (best.size() > size) {
+                        best.poll();
+                    }
+                }
+            }
+
+            List<Entry> result = new ArrayList<>(best);
+            result.sort(BY_POPULARITY);
+            return result;
+        }
+
+        // 자식도 상위 목록을 들고 있으면 자식 목록과 이 노드의 가게만 합치고, 아니면 하위 트리를 순회
+        private void recomputeTop(Node node) {
+            node.topSize = 0;
+            if (node.depth >= TOP_DEPTH) {
+                for (long id : collect(node)) {
+                    offer(node, entries.get(id));
+                }
+                return;
+            }
+            if (node.terminals != null) {
+                for (long id : node.terminals) {
+                    offer(node, entries.get(id));
+                }
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                for (long id : topIds(node.children[i])) {
+                    offer(node, entries.get(id));
+                }
+            }
+        }
+
+        // 얕은 노드의 인기 상위 목록에 반영
+        private void offer(Node node, Entry entry) {
+            if (node.top == null) {
+                return;
+            }
+            int position = node.topSize;
+            while (position > 0 && BY_POPULARITY.compare(entry, entries.get(node.top[position - 1])) < 0) {
+                position--;
+            }
+            if (position >= TOP_SIZE) {
+                return;
+            }
+            int moved = Math.min(node.topSize, TOP_SIZE - 1) - position;
+            System.arraycopy(node.top, position, node.top, position + 1, moved);
+            node.top[position] = entry.storeId();
+            node.topSize = Math.min(node.topSize + 1, TOP_SIZE);
+        }
+    }
+
+    // 입력 한 글자에 대응하는 다음 노드들 (초성이면 해당 초성으로 시작하는 모든 음절)
+    private static List<Node> step(List<Node> frontier, char input) {
+        List<Node> next = new ArrayList<>();
+        boolean chosung = isChosung(input);
+        for (Node node : frontier) {
+            if (!chosung) {
+                Node child = node.child(input);
+                if (child != null) {
+                    next.add(child);
+                }
+                continue;
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                char key = node.keys[i];
+                if (key == input || chosungOf(key) == input) {
+                    next.add(node.children[i]);
+                }
+            }
+            if (next.size() >= MAX_FRONTIER) {
+                break;
+            }
+        }
+        return next;
+    }
+
+    private static long[] topIds(Node node) {
+        return Arrays.copyOf(node.top, node.topSize);
+    }
+
+    // 하위 트리의 모든 가게
+    private static long[] collect(Node node) {
+        List<Long> ids = new ArrayList<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (current.terminals != null) {
+                for (long id : current.terminals) {
+                    ids.add(id);
+                }
+            }
+            for (int i = 0; i < current.childCount; i++) {
+                stack.push(current.children[i]);
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private Map<Long, Long> loadPopularity() {
+        Map<Long, Long> loaded = new HashMap<>();
+        for (StoreCountVO count : reviewRepository.countActiveReviewsGroupByStore()) {
+            loaded.put(count.getStoreId(), count.getCount());
+        }
+        return loaded;
+    }
+
+    private static boolean isChosung(char c) {
+        return Arrays.binarySearch(CHOSUNG, c) >= 0;
+    }
+
+    private static char chosungOf(char syllable) {
+        if (syllable < '가' || syllable > '힣') {
+            return 0;
+        }
+        return CHOSUNG[(syllable - '가') / (21 * 28)];
+    }
+
+    private static long[] append(long[] ids, long id) {
+        if (ids == null) {
+            return new long[]{id};
+        }
+        long[] appended = Arrays.copyOf(ids, ids.length + 1);
+        appended[ids.length] = id;
+        return appended;
+    }
+
+    private static long[] without(long[] ids, long id) {
+        if (ids == null) {
+            return null;
+        }
+        long[] remaining = Arrays.stream(ids).filter(value -> value != id).toArray();
+        return remaining.length == 0 ? null : remaining;
+    }
+
+    /**
+     * 자식은 정렬된 char 배열로 보관
+     */
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount = 0;
+        private long[] terminals;
+        private long[] top;
+        private int topSize = 0;
+        private final int depth;
+
+        Node(int depth) {
+            this.depth = depth;
+            if (depth <= TOP_DEPTH) {
+                this.top = new long[TOP_SIZE];
+            }
+        }
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrCreateChild(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node(depth + 1);
+            keys[insertAt] = key;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(keys, index + 1, keys, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+    }
+}
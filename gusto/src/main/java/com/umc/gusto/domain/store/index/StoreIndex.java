@@ -0,0 +1,12 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.store.entity.Store;
+
+/**
+ * 가게 테이블을 메모리에 올려두는 인덱스 공통 인터페이스
+ * StoreIndexSynchronizer 가 ACTIVE 가게는 put, 그 외 상태의 가게는 remove 로 전달한다.
+ */
+public interface StoreIndex {
+    void put(Store store);
+    void remove(Long storeId);
+}
@@ -0,0 +1,109 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게 인덱스 동기화
+ * 기동 시 storeId 순으로 끊어서 전체 적재하고, 이후에는 updatedAt 기준으로 변경분만 반영한다.
+ * 하드 삭제된 가게는 updatedAt 으로 잡히지 않으므로, 주기적으로 DB 의 id 목록과 대조해 인덱스에서 뺀다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreIndexSynchronizer {
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final long SYNC_OVERLAP_SECONDS = 5;     // 같은 시각에 커밋된 변경을 놓치지 않도록 겹쳐서 조회
+
+    private final StoreRepository storeRepository;
+    private final List<StoreIndex> storeIndexes;
+
+    private final Set<Long> indexedStoreIds = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastStoreId = 0L;
+        int count = 0;
+
+        Slice<Store> chunk;
+        do {
+            chunk = storeRepository.findByStoreIdGreaterThanOrderByStoreIdAsc(lastStoreId, Pageable.ofSize(LOAD_CHUNK_SIZE));
+            for (Store store : chunk) {
+                apply(store);
+                lastStoreId = store.getStoreId();
+                count++;
+            }
+        } while (chunk.hasNext());
+
+        lastSyncedAt = startedAt;
+        ready = true;
+        log.info("store index loaded : {} stores", count);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public synchronized void syncChanges() {
+        if (!ready) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Store> changed = storeRepository.findByUpdatedAtAfter(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+        changed.forEach(this::apply);
+        lastSyncedAt = startedAt;
+    }
+
+    @Scheduled(fixedDelay = 3600000, initialDelay = 3600000)
+    public synchronized void removeDeleted() {
+        if (!ready) {
+            return;
+        }
+
+        Set<Long> existing = new HashSet<>(storeRepository.findAllStoreIds());
+        int removed = 0;
+        for (Long storeId : List.copyOf(indexedStoreIds)) {
+            if (!existing.contains(storeId)) {
+                remove(storeId);
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("store index : {} deleted stores removed", removed);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void apply(Store store) {
+        if (store.getStoreStatus() == Store.StoreStatus.ACTIVE) {
+            storeIndexes.forEach(index -> index.put(store));
+            indexedStoreIds.add(store.getStoreId());
+        } else {
+            remove(store.getStoreId());
+        }
+    }
+
+    private void remove(Long storeId) {
+        storeIndexes.forEach(index -> index.remove(storeId));
+        indexedStoreIds.remove(storeId);
+    }
+}
@@ -0,0 +1,239 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.store.entity.Store;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 가게명/카테고리 검색용 2-gram 역색인
+ * 공백을 제거하고 소문자로 바꾼 문자열의 각 글자와 연속된 두 글자(한글 음절, 영문, 숫자 모두 동일)를 색인한다.
+ * 검색어의 2-gram 을 모두 가진 가게(한 글자 검색어는 그 글자를 가진 가게)를 후보로 뽑은 뒤 실제 포함 여부를 확인한다.
+ */
+@Component
+public class StoreSearchIndex implements StoreIndex {
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int CONTAINS = 2;
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record SearchResult(List<Long> storeIds, boolean hasNext) {
+    }
+
+    private record Document(String name, String category) {
+    }
+
+    @Override
+    public void put(Store store) {
+        Document document = new Document(normalize(store.getStoreName()), normalize(store.getCategoryString()));
+        lock.writeLock().lock();
+        try {
+            removeDocument(store.getStoreId());
+            documents.put(store.getStoreId(), document);
+            for (String gram : indexGrams(document)) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(store.getStoreId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(storeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 가게명 또는 카테고리에 포함하는 가게 조회
+     * 가게명 일치 > 가게명 접두 일치 > 포함 순으로, 같은 순위 안에서는 storeId 내림차순
+     * cursorId 는 이전 페이지의 마지막 storeId 로, 그 가게의 순위를 다시 계산해 이어서 조회한다.
+     */
+    public SearchResult search(String keyword, Long cursorId, int size, LongPredicate filter) {
+        String query = normalize(keyword);
+        List<long[]> matches = new ArrayList<>();       // {rank, storeId}
+
+        lock.readLock().lock();
+        try {
+            for (long storeId : candidates(query)) {
+                Document document = documents.get(storeId);
+                if ((document.name().contains(query) || document.category().contains(query)) && filter.test(storeId)) {
+                    matches.add(new long[]{rank(document, query), storeId});
+                }
+            }
+
+            // 첫 페이지는 모든 순위, 커서 가게가 더는 검색되지 않으면 마지막 순위에서 이어감
+            long cursorRank = cursorId == null ? EXACT - 1 : CONTAINS;
+            if (cursorId != null) {
+                Document cursor = documents.get(cursorId);
+                if (cursor != null && (cursor.name().contains(query) || cursor.category().contains(query))) {
+                    cursorRank = rank(cursor, query);
+                }
+            }
+
+            final long afterRank = cursorRank;
+            final long afterId = cursorId != null ? cursorId : Long.MAX_VALUE;
+            List<Long> page = matches.stream()
+                    .filter(match -> match[0] > afterRank || (match[0] == afterRank && match[1] < afterId))
+                    .sorted(Comparator.<long[]>comparingLong(match -> match[0])
+                            .thenComparing(match -> match[1], Comparator.reverseOrder()))
+                    .limit(size + 1L)
+                    .map(match -> match[1])
+                    .toList();
+
+            boolean hasNext = page.size() > size;
+            return new SearchResult(hasNext ? page.subList(0, size) : page, hasNext);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어의 gram 을 모두 가진 가게 (빈 검색어는 없음)
+    private Collection<Long> candidates(String query) {
+        Set<String> grams = queryGrams(query);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+
+        List<Postings> lists = new ArrayList<>();
+        for (String gram : grams) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Postings::size));
+
+        Postings smallest = lists.get(0);
+        List<Long> result = new ArrayList<>();
+        for (int i = 0; i < smallest.size(); i++) {
+            long storeId = smallest.get(i);
+            boolean inAll = true;
+            for (int j = 1; j < lists.size() && inAll; j++) {
+                inAll = lists.get(j).contains(storeId);
+            }
+            if (inAll) {
+                result.add(storeId);
+            }
+        }
+        return result;
+    }
+
+    private void removeDocument(Long storeId) {
+        Document previous = documents.remove(storeId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : indexGrams(previous)) {
+            Postings list = postings.get(gram);
+            if (list != null && list.remove(storeId) && list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static int rank(Document document, String query) {
+        if (document.name().equals(query)) {
+            return EXACT;
+        }
+        return document.name().startsWith(query) ? PREFIX : CONTAINS;
+    }
+
+    private static Set<String> indexGrams(Document document) {
+        Set<String> grams = indexGrams(document.name());
+        grams.addAll(indexGrams(document.category()));
+        return grams;
+    }
+
+    // 1-gram 과 2-gram
+    static Set<String> indexGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 두 글자 이상은 2-gram 만으로 충분히 좁혀지므로, 1-gram 은 한 글자 검색어에만 쓴다
+    static Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 공백 제거 + 소문자
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        text.codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .map(Character::toLowerCase)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    /**
+     * 정렬된 storeId 배열
+     */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size = 0;
+
+        int size() {
+            return size;
+        }
+
+        long get(int index) {
+            return ids[index];
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        void add(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
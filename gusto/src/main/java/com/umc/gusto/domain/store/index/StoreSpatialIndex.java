@@ -0,0 +1,208 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.store.entity.Store;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * ACTIVE 가게 좌표의 격자(grid) 공간 인덱스
+ * 위경도를 CELL_SIZE 단위 칸으로 나누고, 칸마다 속한 가게 목록을 들고 있는다.
+ * 거리가 같으면 storeId 가 작은 가게가 앞선다. (칸을 확인하는 순서와 상관없이 같은 결과)
+ */
+@Component
+public class StoreSpatialIndex implements StoreIndex {
+    private static final double CELL_SIZE = 0.01;                  // 위도 기준 약 1.1km
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final int MAX_SEARCH_RING = 100;                // 최근접 탐색 최대 반경 (칸 수)
+
+    private final Map<Long, List<StorePoint>> cells = new HashMap<>();
+    private final Map<Long, StorePoint> points = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record StorePoint(Long storeId, String storeName, double latitude, double longitude) {
+    }
+
+    @Override
+    public void put(Store store) {
+        if (store.getLatitude() == null || store.getLongitude() == null) {
+            remove(store.getStoreId());
+            return;
+        }
+
+        StorePoint point = new StorePoint(store.getStoreId(), store.getStoreName(), store.getLatitude(), store.getLongitude());
+        lock.writeLock().lock();
+        try {
+            removePoint(store.getStoreId());
+            points.put(point.storeId(), point);
+            cells.computeIfAbsent(cellKey(cellOf(point.latitude()), cellOf(point.longitude())), key -> new ArrayList<>())
+                    .add(point);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        lock.writeLock().lock();
+        try {
+            removePoint(storeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사각 영역 안의 가게 조회 (영역 중심에서 가까운 순으로 최대 limit 개)
+     */
+    public List<StorePoint> findInBounds(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                         int limit, LongPredicate filter) {
+        double centerLatitude = (minLatitude + maxLatitude) / 2;
+        double centerLongitude = (minLongitude + maxLongitude) / 2;
+        double lonScale = Math.cos(Math.toRadians(centerLatitude));
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(BY_DISTANCE.reversed());
+
+        lock.readLock().lock();
+        try {
+            // 영역이 넓어 빈 칸이 대부분이면 칸을 순회하는 대신 채워진 칸만 확인
+            long cellCount = (long) (cellOf(maxLatitude) - cellOf(minLatitude) + 1) * (cellOf(maxLongitude) - cellOf(minLongitude) + 1);
+            if (cellCount > cells.size()) {
+                for (List<StorePoint> cell : cells.values()) {
+                    collectInBounds(cell, minLatitude, minLongitude, maxLatitude, maxLongitude,
+                            centerLatitude, centerLongitude, lonScale, limit, filter, nearest);
+                }
+            } else {
+                for (int latCell = cellOf(minLatitude); latCell <= cellOf(maxLatitude); latCell++) {
+                    for (int lonCell = cellOf(minLongitude); lonCell <= cellOf(maxLongitude); lonCell++) {
+                        List<StorePoint> cell = cells.get(cellKey(latCell, lonCell));
+                        if (cell != null) {
+                            collectInBounds(cell, minLatitude, minLongitude, maxLatitude, maxLongitude,
+                                    centerLatitude, centerLongitude, lonScale, limit, filter, nearest);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return toNearestFirst(nearest);
+    }
+
+    /**
+     * 가까운 순으로 k 개 조회
+     * 중심 칸에서 한 겹씩 넓혀 가며, 다음 겹의 최소 거리가 현재 k 번째 거리보다 멀어지면 멈춘다.
+     */
+    public List<StorePoint> findNearest(double latitude, double longitude, int k, LongPredicate filter) {
+        double lonScale = Math.cos(Math.toRadians(latitude));
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(BY_DISTANCE.reversed());
+        int centerLat = cellOf(latitude);
+        int centerLon = cellOf(longitude);
+
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ring <= MAX_SEARCH_RING; ring++) {
+                if (nearest.size() >= k && ringDistance(ring, lonScale) > nearest.peek().distance()) {
+                    break;
+                }
+                for (int latCell = centerLat - ring; latCell <= centerLat + ring; latCell++) {
+                    // 안쪽 겹은 이미 확인했으므로 테두리 칸만 확인
+                    boolean edgeRow = Math.abs(latCell - centerLat) == ring;
+                    int lonStep = edgeRow || ring == 0 ? 1 : 2 * ring;
+                    for (int lonCell = centerLon - ring; lonCell <= centerLon + ring; lonCell += lonStep) {
+                        List<StorePoint> cell = cells.get(cellKey(latCell, lonCell));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (StorePoint point : cell) {
+                            if (!filter.test(point.storeId())) {
+                                continue;
+                            }
+                            offer(nearest, point, distance(latitude, longitude, point, lonScale), k);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return toNearestFirst(nearest);
+    }
+
+    // 영역 안의 가게 중 중심에서 가까운 limit 개를 nearest 에 남긴다
+    private static void collectInBounds(List<StorePoint> cell, double minLatitude, double minLongitude,
+                                        double maxLatitude, double maxLongitude, double centerLatitude,
+                                        double centerLongitude, double lonScale, int limit, LongPredicate filter,
+                                        PriorityQueue<Candidate> nearest) {
+        for (StorePoint point : cell) {
+            if (point.latitude() < minLatitude || point.latitude() > maxLatitude
+                    || point.longitude() < minLongitude || point.longitude() > maxLongitude
+                    || !filter.test(point.storeId())) {
+                continue;
+            }
+            offer(nearest, point, distance(centerLatitude, centerLongitude, point, lonScale), limit);
+        }
+    }
+
+    // 최대 힙(nearest)에 가까운 k 개만 유지
+    private static void offer(PriorityQueue<Candidate> nearest, StorePoint point, double distance, int k) {
+        Candidate candidate = new Candidate(point, distance);
+        if (nearest.size() < k) {
+            nearest.add(candidate);
+        } else if (BY_DISTANCE.compare(candidate, nearest.peek()) < 0) {
+            nearest.poll();
+            nearest.add(candidate);
+        }
+    }
+
+    private static List<StorePoint> toNearestFirst(PriorityQueue<Candidate> nearest) {
+        List<StorePoint> result = new ArrayList<>(nearest.size());
+        while (!nearest.isEmpty()) {
+            result.add(nearest.poll().point());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private record Candidate(StorePoint point, double distance) {
+    }
+
+    private static final Comparator<Candidate> BY_DISTANCE = Comparator.comparingDouble(Candidate::distance)
+            .thenComparing(candidate -> candidate.point().storeId());
+
+    private void removePoint(Long storeId) {
+        StorePoint previous = points.remove(storeId);
+        if (previous == null) {
+            return;
+        }
+        long key = cellKey(cellOf(previous.latitude()), cellOf(previous.longitude()));
+        List<StorePoint> cell = cells.get(key);
+        cell.remove(previous);
+        if (cell.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    // ring 번째 겹의 칸까지 가장 가까운 거리 (m)
+    static double ringDistance(int ring, double lonScale) {
+        return Math.max(ring - 1, 0) * CELL_SIZE * METERS_PER_DEGREE * Math.min(1.0, lonScale);
+    }
+
+    // 등장방형 근사 거리 (m)
+    private static double distance(double latitude, double longitude, StorePoint point, double lonScale) {
+        double dLat = (point.latitude() - latitude) * METERS_PER_DEGREE;
+        double dLon = (point.longitude() - longitude) * METERS_PER_DEGREE * lonScale;
+        return Math.sqrt(dLat * dLat + dLon * dLon);
+    }
+
+    static int cellOf(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+}
@@ -0,0 +1,15 @@
+package com.umc.gusto.domain.store.model;
+
+import com.umc.gusto.domain.store.entity.OpeningHours;
+
+import java.time.LocalTime;
+
+public interface OpeningHoursVO {
+    Long getOpHoursId();
+    Long getStoreId();
+    OpeningHours.BusinessDay getBusinessDay();
+    LocalTime getOpenedAt();
+    LocalTime getClosedAt();
+    LocalTime getBreakStart();
+    LocalTime getBreakEnd();
+}
@@ -0,0 +1,16 @@
+package com.umc.gusto.domain.store.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteStoreResponse {
+    Long storeId;
+    String storeName;
+    String categoryString;
+}
@@ -0,0 +1,22 @@
+package com.umc.gusto.domain.store.model.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class PinStorePagingResponse {
+    List<GetPinStoreInfoResponse> pinStores;
+    boolean hasNext;
+    String cursor;          // 다음 페이지 조회 시 커서
+
+    public static PinStorePagingResponse of(List<GetPinStoreInfoResponse> pinStores, boolean hasNext, String cursor) {
+        return PinStorePagingResponse.builder()
+                .pinStores(pinStores)
+                .hasNext(hasNext)
+                .cursor(cursor)
+                .build();
+    }
+}
@@ -1,10 +1,29 @@
 package com.umc.gusto.domain.store.repository;
 
 import com.umc.gusto.domain.store.entity.OpeningHours;
+import com.umc.gusto.domain.store.model.OpeningHoursVO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OpeningHoursRepository extends JpaRepository<OpeningHours, Long> {
     List<OpeningHours> findByStoreStoreId(Long storeId);
+    List<OpeningHours> findByStoreStoreIdIn(Collection<Long> storeIds);
+
+    // 영업시간 인덱스 적재/동기화용
+    @Query("SELECT o.opHoursId as opHoursId, o.store.storeId as storeId, o.businessDay as businessDay, o.openedAt as openedAt, " +
+            "o.closedAt as closedAt, o.breakStart as breakStart, o.breakEnd as breakEnd FROM OpeningHours o " +
+            "WHERE o.store.storeId > :storeId OR (o.store.storeId = :storeId AND o.opHoursId > :opHoursId) " +
+            "ORDER BY o.store.storeId, o.opHoursId")
+    List<OpeningHoursVO> findChunkOrderByStore(Long storeId, Long opHoursId, Pageable pageable);
+    @Query("SELECT o.opHoursId as opHoursId, o.store.storeId as storeId, o.businessDay as businessDay, o.openedAt as openedAt, " +
+            "o.closedAt as closedAt, o.breakStart as breakStart, o.breakEnd as breakEnd FROM OpeningHours o " +
+            "WHERE o.store.storeId IN :storeIds")
+    List<OpeningHoursVO> findByStoreIds(Collection<Long> storeIds);
+    @Query("SELECT DISTINCT o.store.storeId FROM OpeningHours o WHERE o.updatedAt > :updatedAt")
+    List<Long> findStoreIdsByUpdatedAtAfter(LocalDateTime updatedAt);
 }
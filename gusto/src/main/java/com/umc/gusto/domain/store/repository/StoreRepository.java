@@ -1,21 +1,29 @@
 package com.umc.gusto.domain.store.repository;
 
 import com.umc.gusto.domain.store.entity.Store;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
-    @Query("SELECT s FROM Store s WHERE s.town.townCode = :townCode AND s.storeId IN :storeIds")
+    @Query("SELECT s FROM Store s WHERE s.townCode = :townCode AND s.storeId IN :storeIds")
     List<Store> findByTownCodeAndStoreIds(String townCode, List<Long> storeIds);
 
-    List<Store> findTop5ByStoreNameContains(String keyword);
-
     @Query("SELECT s FROM Store s WHERE s.storeStatus = 'ACTIVE' AND s.storeId < :cursorId " +
             "AND (REPLACE(s.storeName, ' ', '') LIKE LOWER(CONCAT('%', REPLACE(:keyword, ' ', ''), '%')) " +
-            "OR REPLACE(s.categoryString, ' ', '') LIKE LOWER(CONCAT('%', REPLACE(:keyword, ' ', ''), '%')))")
-    Page<Store> searchByStoreNameContains(String keyword, Long cursorId, PageRequest pageRequest);
+            "OR REPLACE(s.categoryString, ' ', '') LIKE LOWER(CONCAT('%', REPLACE(:keyword, ' ', ''), '%'))) " +
+            "ORDER BY s.storeId DESC")
+    Slice<Store> searchByStoreNameContains(String keyword, Long cursorId, Pageable pageable);
+
+    // 인덱스 적재/동기화용
+    Slice<Store> findByStoreIdGreaterThanOrderByStoreIdAsc(Long storeId, Pageable pageable);
+    List<Store> findByUpdatedAtAfter(LocalDateTime updatedAt);
+
+    // 인덱스에서 하드 삭제된 가게를 걸러내기 위한 id 목록
+    @Query("SELECT s.storeId FROM Store s")
+    List<Long> findAllStoreIds();
 }
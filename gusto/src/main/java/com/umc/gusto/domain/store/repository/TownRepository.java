@@ -0,0 +1,7 @@
+package com.umc.gusto.domain.store.repository;
+
+import com.umc.gusto.domain.store.entity.Town;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TownRepository extends JpaRepository<Town, String> {
+}
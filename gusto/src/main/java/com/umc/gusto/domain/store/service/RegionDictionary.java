@@ -0,0 +1,67 @@
+package com.umc.gusto.domain.store.service;
+
+import com.umc.gusto.domain.store.entity.Town;
+import com.umc.gusto.domain.store.repository.TownRepository;
+import com.umc.gusto.global.exception.Code;
+import com.umc.gusto.global.exception.GeneralException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 읍/면/동 코드 사전
+ * 거의 바뀌지 않는 참조 테이블이므로 시작 시 한 번 읽어 정렬된 long 배열로 들고 있고, 매일 새벽 통째로 교체한다.
+ * 지역 이름은 응답에 쓰이지 않으므로 코드 존재 여부만 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionDictionary {
+    private final TownRepository townRepository;
+
+    private volatile long[] townCodes = new long[0];
+
+    @PostConstruct
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reload() {
+        long[] loaded = townRepository.findAll().stream()
+                .map(Town::getTownCode)
+                .mapToLong(RegionDictionary::parseCode)
+                .filter(code -> code >= 0)
+                .sorted()
+                .toArray();
+        townCodes = loaded;
+        log.info("region dictionary loaded : {} towns", loaded.length);
+    }
+
+    public boolean existsTown(String townCode) {
+        long code = parseCode(townCode);
+        return code >= 0 && Arrays.binarySearch(townCodes, code) >= 0;
+    }
+
+    /**
+     * 존재하지 않는 townCode 면 예외
+     */
+    public void validateTownCode(String townCode) {
+        if (!existsTown(townCode)) {
+            throw new GeneralException(Code.TOWN_NOT_FOUND);
+        }
+    }
+
+    // 행정구역 코드는 0 으로 시작하지 않는 최대 8자리 숫자 (형식이 다르면 -1)
+    private static long parseCode(String code) {
+        if (code == null || code.isEmpty() || code.length() > 8 || code.charAt(0) == '0') {
+            return -1;
+        }
+        for (int i = 0; i < code.length(); i++) {
+            if (code.charAt(i) < '0' || code.charAt(i) > '9') {
+                return -1;
+            }
+        }
+        return Long.parseLong(code);
+    }
+}
@@ -3,18 +3,21 @@ package com.umc.gusto.domain.store.service;
 import com.umc.gusto.domain.store.model.response.*;
 import com.umc.gusto.domain.user.entity.User;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 
 public interface StoreService {
 
     List<GetStoreResponse> getStores(User user, List<Long> storeIds);
-    GetStoreDetailResponse getStoreDetail(User user, Long storeId, LocalDate visitedAt, Long reviewId);
-    List<GetStoresInMapResponse> getStoresInMap(User user, String townName, List<Long> myCategoryIds, Boolean visited);
-    List<GetPinStoreResponse> getPinStoresByCategoryAndLocation(User user, Long myCategoryId, String townName);
-    Map<String, Object> getVisitedPinStores(User user, Long myCategoryId, String townName, Long lastStoreId, int size);
-    Map<String, Object> getUnvisitedPinStores(User user, Long myCategoryId, String townName, Long lastStoreId, int size);
-    SearchStoreResponse searchStore(String keyword, Long cursor);
+    GetStoreDetailResponse getStoreDetail(User user, Long storeId, String cursor);
+    List<GetStoresInMapResponse> getStoresInMap(User user, String townName, List<Long> myCategoryIds, Boolean visited, Boolean openNow, LocalDateTime openAt);
+    List<GetPinStoreResponse> getPinStoresByCategoryAndLocation(User user, Long myCategoryId, String townName, Boolean openNow, LocalDateTime openAt);
+    PinStorePagingResponse getVisitedPinStores(User user, Long myCategoryId, String townName, String cursor, int size, Boolean openNow, LocalDateTime openAt);
+    PinStorePagingResponse getUnvisitedPinStores(User user, Long myCategoryId, String townName, String cursor, int size, Boolean openNow, LocalDateTime openAt);
+    SearchStoreResponse searchStore(String keyword, Long cursor, Boolean openNow, LocalDateTime openAt);
+    List<AutocompleteStoreResponse> autocompleteStore(String keyword, int size);
+    List<GetStoresInMapResponse> getNearbyStores(User user, double latitude, double longitude, int size, boolean pinned, Boolean openNow, LocalDateTime openAt);
+    List<GetStoresInMapResponse> getStoresInBounds(User user, double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, boolean pinned, Boolean openNow, LocalDateTime openAt);
+    List<GetStoreInfoResponse> getTrendingStores(String townCode, String category, String window, int size);
 }
@@ -2,27 +2,39 @@ package com.umc.gusto.domain.store.service;
 
 import com.umc.gusto.domain.myCategory.entity.Pin;
 import com.umc.gusto.domain.myCategory.repository.PinRepository;
-import com.umc.gusto.domain.review.entity.Review;
+import com.umc.gusto.domain.review.model.StoreReviewVO;
+import com.umc.gusto.domain.review.service.StoreCoverCache;
+import com.umc.gusto.domain.review.service.StoreVisitLedger;
 import com.umc.gusto.domain.review.model.response.BasicViewResponse;
 import com.umc.gusto.domain.review.model.response.SearchFeedResponse;
+import com.umc.gusto.domain.review.repository.ReviewImageRepository;
 import com.umc.gusto.domain.review.repository.ReviewRepository;
 import com.umc.gusto.domain.store.entity.OpeningHours;
 import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.store.index.OpeningHoursIndex;
+import com.umc.gusto.domain.store.index.StoreAutocompleteIndex;
+import com.umc.gusto.domain.store.index.StoreIndexSynchronizer;
+import com.umc.gusto.domain.store.index.StoreSearchIndex;
+import com.umc.gusto.domain.store.index.StoreSpatialIndex;
 import com.umc.gusto.domain.store.model.response.*;
 import com.umc.gusto.domain.store.repository.OpeningHoursRepository;
 import com.umc.gusto.domain.store.repository.StoreRepository;
 import com.umc.gusto.domain.user.entity.User;
 import com.umc.gusto.global.exception.Code;
 import com.umc.gusto.global.exception.GeneralException;
+import com.umc.gusto.global.util.CursorCodec;
+import com.umc.gusto.global.util.CursorCodec.Cursor;
+import com.umc.gusto.global.util.CursorCodec.CursorSlice;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,43 +42,68 @@ import java.util.stream.Collectors;
 public class StoreServiceImpl implements StoreService{
     private final StoreRepository storeRepository;
     private final ReviewRepository reviewRepository;
+    private final ReviewImageRepository reviewImageRepository;
     private final PinRepository pinRepository;
     private final OpeningHoursRepository openingHoursRepository;
+    private final StoreCoverCache storeCoverCache;
+    private final StoreIndexSynchronizer storeIndexSynchronizer;
+    private final StoreSpatialIndex storeSpatialIndex;
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreAutocompleteIndex storeAutocompleteIndex;
+    private final OpeningHoursIndex openingHoursIndex;
+    private final RegionDictionary regionDictionary;
+    private final StoreVisitLedger storeVisitLedger;
+    private final TrendingStoreCounter trendingStoreCounter;
+    private final CursorCodec cursorCodec;
+    private static final String STORE_REVIEW_CURSOR = "store:review:";
+    private static final String PIN_STORE_CURSOR = "store:pin:";     // 찜 가게 목록 커서는 (storeId)
     private static final int PAGE_SIZE_FIRST = 3;
     private static final int PAGE_SIZE = 6;
+    private static final int MAX_NEARBY_SIZE = 50;
+    private static final int MAX_BOUNDS_SIZE = 300;
+    private static final int SEARCH_PAGE_SIZE = 15;
+    private static final int MAX_TRENDING_SIZE = 30;
+    private static final int MAX_PIN_PAGE_SIZE = 50;
+    private static final int PIN_SCAN_CHUNK_SIZE = 100;
+    private static final int MAX_PIN_SCAN = 500;               // 영업시간으로 거를 때 한 요청에서 훑는 최대 찜 가게 수
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
 
     @Transactional(readOnly = true)
     public List<GetStoreResponse> getStores(User user, List<Long> storeIds) {
-        List<GetStoreResponse> responses = new ArrayList<>();
-        for (Long storeId : storeIds) {
-            Store store = storeRepository.findById(storeId)
-                    .orElseThrow(() -> new GeneralException(Code.STORE_NOT_FOUND));
-
-            Long pinId = null;
-            boolean isPinned = false;
-            if (user != null) {
-                pinId = pinRepository.findByUserAndStoreStoreId(user, storeId);
-                isPinned = pinRepository.existsByUserAndStoreStoreId(user, storeId);
-            }
-
+        // 가게, 찜, 영업시간, 리뷰 이미지를 id 목록 단위로 한 번씩만 조회한 뒤 메모리에서 조립
+        Set<Long> distinctIds = new LinkedHashSet<>(storeIds);
+        if (distinctIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-            List<OpeningHours> openingHoursList = openingHoursRepository.findByStoreStoreId(storeId);
+        Map<Long, Store> stores = storeRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Store::getStoreId, store -> store));
+        if (stores.size() != distinctIds.size()) {
+            throw new GeneralException(Code.STORE_NOT_FOUND);
+        }
 
-            Map<OpeningHours.BusinessDay, GetStoreResponse.Timing> businessDays = new LinkedHashMap<>();
-            for (OpeningHours openingHours : openingHoursList) {
-                GetStoreResponse.Timing timing = new GetStoreResponse.Timing(
-                        openingHours.getOpenedAt(),
-                        openingHours.getClosedAt()
-                );
-                businessDays.put(openingHours.getBusinessDay(), timing);
+        Map<Long, Long> pinIds = new HashMap<>();
+        if (user != null) {
+            for (Pin pin : pinRepository.findPinsByUserAndStoreIds(user, distinctIds)) {
+                pinIds.put(pin.getStore().getStoreId(), pin.getPinId());
             }
+        }
 
-            List<Review> top3Reviews = reviewRepository.findFirst3ByStoreOrderByLikedDesc(store);
+        Map<Long, Map<OpeningHours.BusinessDay, GetStoreResponse.Timing>> businessDays = new HashMap<>();
+        for (OpeningHours openingHours : openingHoursRepository.findByStoreStoreIdIn(distinctIds)) {
+            businessDays.computeIfAbsent(openingHours.getStore().getStoreId(), id -> new LinkedHashMap<>())
+                    .put(openingHours.getBusinessDay(), new GetStoreResponse.Timing(
+                            openingHours.getOpenedAt(),
+                            openingHours.getClosedAt()
+                    ));
+        }
 
-            List<String> reviewImg = top3Reviews.stream()
-                    .map(review -> Optional.ofNullable(review.getImg1()).orElse(""))
-                    .collect(Collectors.toList());
+        Map<Long, List<String>> reviewImages = storeCoverCache.getCovers(distinctIds, 3);
 
+        List<GetStoreResponse> responses = new ArrayList<>();
+        for (Long storeId : storeIds) {
+            Store store = stores.get(storeId);
+            Long pinId = pinIds.get(storeId);
 
             responses.add(GetStoreResponse.builder()
                     .pinId(pinId)
@@ -75,9 +112,9 @@ public class StoreServiceImpl implements StoreService{
                     .address(store.getAddress())
                     .longitude(store.getLongitude())
                     .latitude(store.getLatitude())
-                    .businessDay(businessDays)
-                    .reviewImg3(reviewImg)
-                    .pin(isPinned)
+                    .businessDay(businessDays.getOrDefault(storeId, new LinkedHashMap<>()))
+                    .reviewImg3(reviewImages.getOrDefault(storeId, new ArrayList<>()))
+                    .pin(pinId != null)
                     .build());
         }
 
@@ -86,7 +123,7 @@ public class StoreServiceImpl implements StoreService{
 
 
     @Transactional(readOnly = true)
-    public GetStoreDetailResponse getStoreDetail(User user, Long storeId, LocalDate visitedAt, Long reviewId) {
+    public GetStoreDetailResponse getStoreDetail(User user, Long storeId, String cursor) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new GeneralException(Code.STORE_NOT_FOUND));
         // 가게별 기본 카테고리 값
@@ -100,38 +137,37 @@ public class StoreServiceImpl implements StoreService{
             isPinned = pinRepository.existsByUserAndStoreStoreId(user, storeId);
         }
 
-        List<Review> top4Reviews = reviewRepository.findFirst4ByStoreOrderByLikedDesc(store);
-
-        List<String> reviewImg = top4Reviews.stream()
-                .map(review -> Optional.ofNullable(review.getImg1()).orElse(""))
-                .collect(Collectors.toList());
-
-        // reviews 페이징 처리 (3,6,6...)
-        int pageSize;
-        Page<Review> reviews;
-
-        if (reviewId != null && visitedAt != null) {
-            pageSize = PAGE_SIZE;
-            reviews = reviewRepository.findReviewsAfterIdByStore(store, visitedAt, reviewId, Pageable.ofSize(pageSize));
-        } else {
-            pageSize = PAGE_SIZE_FIRST;
-            reviews = reviewRepository.findFirstReviewsByStore(store, Pageable.ofSize(pageSize));
-        }
-
-        List<GetReviewsResponse> getReviews = reviews.stream()
+        List<String> reviewImg = storeCoverCache.getCovers(List.of(storeId), 4).get(storeId);
+
+        // reviews 페이징 처리 (3,6,6...) - 방문일, reviewId 최신순 keyset
+        String scope = STORE_REVIEW_CURSOR + storeId;
+        Cursor after = cursorCodec.decode(scope, cursor);
+        int pageSize = after == null ? PAGE_SIZE_FIRST : PAGE_SIZE;
+        List<StoreReviewVO> fetched = after == null
+                ? reviewRepository.findFirstReviewsByStore(store, cursorCodec.limit(pageSize))
+                : reviewRepository.findReviewsAfterIdByStore(store, after.getDate(0), after.getLong(1), cursorCodec.limit(pageSize));
+        CursorSlice<StoreReviewVO> reviews = cursorCodec.slice(scope, fetched, pageSize,
+                review -> new Object[]{review.getVisitedAt(), review.getReviewId()});
+
+        // 페이지 단위로 이미지 한 번에 조회
+        Map<Long, List<String>> reviewImages = reviewImageRepository.findUrlsGroupByReviewId(
+                reviews.content().stream().map(StoreReviewVO::getReviewId).toList());
+        List<GetReviewsResponse> getReviews = reviews.content().stream()
                 .map(review -> {
-                    User reviewer = review.getUser();
+                    // 등록한 이미지가 없으면 대표 이미지(기본 이미지)만
+                    List<String> images = reviewImages.getOrDefault(review.getReviewId(),
+                            review.getImage() != null ? List.of(review.getImage()) : List.of());
                     return GetReviewsResponse.builder()
                         .reviewId(review.getReviewId())
                         .visitedAt(review.getVisitedAt())
-                        .profileImage(reviewer.getProfileImage())
-                        .nickname(reviewer.getNickname())
+                        .profileImage(review.getProfileImage())
+                        .nickname(review.getNickname())
                         .liked(review.getLiked())
                         .comment(review.getComment())
-                        .img1(review.getImg1() != null ? review.getImg1(): "")
-                        .img2(review.getImg2() != null ? review.getImg2(): "")
-                        .img3(review.getImg3() != null ? review.getImg3(): "")
-                        .img4(review.getImg4() != null ? review.getImg4(): "")
+                        .img1(images.size() > 0 ? images.get(0) : "")
+                        .img2(images.size() > 1 ? images.get(1) : "")
+                        .img3(images.size() > 2 ? images.get(2) : "")
+                        .img4(images.size() > 3 ? images.get(3) : "")
                         .build();
                 })
                 .toList();
@@ -146,13 +182,15 @@ public class StoreServiceImpl implements StoreService{
                 .pin(isPinned)
                 .reviews(PagingResponse.builder()
                     .hasNext(reviews.hasNext())
+                    .cursor(reviews.nextCursor())
                     .result(getReviews)
                     .build())
                 .build();
     }
 
     @Transactional(readOnly = true)
-    public List<GetStoresInMapResponse> getStoresInMap(User user, String townCode, List<Long> myCategoryIds, Boolean visited) {
+    public List<GetStoresInMapResponse> getStoresInMap(User user, String townCode, List<Long> myCategoryIds, Boolean visited, Boolean openNow, LocalDateTime openAt) {
+        regionDictionary.validateTownCode(townCode);
         List<Pin> pins = new ArrayList<>();
         if (myCategoryIds == null || myCategoryIds.isEmpty()) {
             pins = pinRepository.findPinsByUserAndTownCodeAndPinIdDESC(user, townCode);
@@ -161,6 +199,8 @@ public class StoreServiceImpl implements StoreService{
                 pins.addAll(pinRepository.findPinsByUserAndMyCategoryIdAndTownCodeAndPinIdDESC(user, myCategoryId, townCode));
             }
         }
+        LongPredicate isOpen = openFilter(openNow, openAt);
+        pins = pins.stream().filter(pin -> isOpen.test(pin.getStore().getStoreId())).toList();
 
         List<Store> pinStores = new ArrayList<>();
 
@@ -170,9 +210,11 @@ public class StoreServiceImpl implements StoreService{
                     .collect(Collectors.toList());
 
         } else {
+            Map<Long, Integer> visitCounts = storeVisitLedger.getVisitCounts(user,
+                    pins.stream().map(pin -> pin.getStore().getStoreId()).toList());
             for (Pin pin : pins) {
                 Store store = pin.getStore();
-                boolean hasVisited = reviewRepository.existsByStoreAndUserNickname(store, user.getNickname());
+                boolean hasVisited = visitCounts.containsKey(store.getStoreId());
                 if (visited) {
                     if (hasVisited) {
                         pinStores.add(store);
@@ -197,20 +239,27 @@ public class StoreServiceImpl implements StoreService{
     }
 
     @Transactional(readOnly = true)
-    public List<GetPinStoreResponse> getPinStoresByCategoryAndLocation(User user, Long myCategoryId, String townCode) {
+    public List<GetPinStoreResponse> getPinStoresByCategoryAndLocation(User user, Long myCategoryId, String townCode, Boolean openNow, LocalDateTime openAt) {
+        regionDictionary.validateTownCode(townCode);
 
         List<Pin> pins = pinRepository.findPinsByUserAndMyCategoryIdAndTownCodeAndPinIdDESC(user, myCategoryId, townCode);
         if(myCategoryId == null){
             pins = pinRepository.findPinsByUserAndTownCodeAndPinIdDESC(user, townCode);
         }
+        LongPredicate isOpen = openFilter(openNow, openAt);
+        pins = pins.stream().filter(pin -> isOpen.test(pin.getStore().getStoreId())).toList();
         List<GetStoreInfoResponse> visitedStoresInfo = new ArrayList<>();
         List<GetStoreInfoResponse> unvisitedStoresInfo = new ArrayList<>();
+        Map<Long, List<String>> reviewImages = storeCoverCache.getCovers(
+                pins.stream().map(pin -> pin.getStore().getStoreId()).toList(), 1);
+        Map<Long, Integer> visitCounts = storeVisitLedger.getVisitCounts(user,
+                pins.stream().map(pin -> pin.getStore().getStoreId()).toList());
 
         for (Pin pin : pins){
             Store store = pin.getStore();
-            Optional<Review> topReviewOptional = reviewRepository.findFirstByStoreOrderByLikedDesc(store);
-            String reviewImg = topReviewOptional.map(Review::getImg1).orElse("");
-            boolean hasVisited = reviewRepository.existsByStoreAndUserNickname(store, user.getNickname());
+            List<String> cover = reviewImages.get(store.getStoreId());
+            String reviewImg = cover.isEmpty() ? "" : cover.get(0);
+            boolean hasVisited = visitCounts.containsKey(store.getStoreId());
 
             GetStoreInfoResponse getStoreInfoResponse = GetStoreInfoResponse.builder()
                     .storeId(store.getStoreId())
@@ -250,74 +299,109 @@ public class StoreServiceImpl implements StoreService{
     }
 
     @Transactional(readOnly = true)
-    public Map<String, Object> getPinStoresInfo(User user, Long myCategoryId, String townCode, boolean visited, Long lastStoreId, int size) {
-        List<Pin> pins = pinRepository.findPinsByUserAndMyCategoryIdAndTownCodeAndPinIdDESC(user, myCategoryId, townCode);
-        if(myCategoryId == null){
-            pins = pinRepository.findPinsByUserAndTownCodeAndPinIdDESC(user, townCode);
-        }
+    public PinStorePagingResponse getPinStoresInfo(User user, Long myCategoryId, String townCode, boolean visited, String cursorToken, int size, Boolean openNow, LocalDateTime openAt) {
+        regionDictionary.validateTownCode(townCode);
+        LongPredicate isOpen = openFilter(openNow, openAt);
+        String scope = PIN_STORE_CURSOR + (visited ? "visited:" : "unvisited:") + user.getUserId() + ":" + myCategoryId + ":" + townCode;
+        Cursor after = cursorCodec.decode(scope, cursorToken);
 
-        List<GetPinStoreInfoResponse> pinStoresInfo = new ArrayList<>();
-        boolean hasNext = false;
-        for (Pin pin : pins) {
-            if (lastStoreId != null && pin.getStore().getStoreId() >= lastStoreId) {
-                continue;
-            }
+        int limit = Math.max(1, Math.min(size, MAX_PIN_PAGE_SIZE));
 
-            Store store = pin.getStore();
-            boolean hasVisited = reviewRepository.existsByStoreAndUserNickname(store, user.getNickname());
+        // 방문 여부, 커서, 개수 제한은 쿼리에서 처리하고 영업시간 조건만 걸러낸다
+        // 첫 chunk 로 채우지 못하면 더 큰 chunk 로 이어서 훑되, MAX_PIN_SCAN 개까지만 본다
+        List<Store> pinStores = new ArrayList<>();
+        Long cursor = after == null ? null : after.getLong(0);
+        int scanned = 0;
+        boolean exhausted = false;
+        while (pinStores.size() <= limit && scanned < MAX_PIN_SCAN) {
+            int chunkSize = scanned == 0 ? limit + 1 : Math.min(PIN_SCAN_CHUNK_SIZE, MAX_PIN_SCAN - scanned);
+            List<Store> chunk = visited
+                    ? pinRepository.findVisitedPinStores(user, myCategoryId, townCode, cursor, Pageable.ofSize(chunkSize))
+                    : pinRepository.findUnvisitedPinStores(user, myCategoryId, townCode, cursor, Pageable.ofSize(chunkSize));
+            for (Store store : chunk) {
+                if (pinStores.size() > limit) {
+                    break;
+                }
+                if (isOpen.test(store.getStoreId())) {
+                    pinStores.add(store);
+                }
+                cursor = store.getStoreId();
+                scanned++;
+            }
+            if (chunk.size() < chunkSize) {
+                exhausted = true;
+                break;
+            }
+        }
 
-            if (hasVisited == visited) {
-                List<Review> top3Reviews = reviewRepository.findFirst3ByStoreOrderByLikedDesc(store);
-                List<String> reviewImg = top3Reviews.stream()
-                        .map(review -> Optional.ofNullable(review.getImg1()).orElse(""))
-                        .collect(Collectors.toList());
+        // 한 페이지를 채웠으면 마지막 가게가, 훑기 한도에 걸렸으면 마지막으로 훑은 가게가 다음 커서 (빈 페이지일 수 있음)
+        Long nextStoreId = null;
+        if (pinStores.size() > limit) {
+            pinStores = pinStores.subList(0, limit);
+            nextStoreId = pinStores.get(limit - 1).getStoreId();
+        } else if (!exhausted) {
+            nextStoreId = cursor;
+        }
+        boolean hasNext = nextStoreId != null;
+        String nextCursor = hasNext ? cursorCodec.encode(scope, nextStoreId) : null;
 
-                GetPinStoreInfoResponse pinStoreInfoResponse = GetPinStoreInfoResponse.builder()
+        Map<Long, List<String>> reviewImages = storeCoverCache.getCovers(
+                pinStores.stream().map(Store::getStoreId).toList(), 3);
+        List<GetPinStoreInfoResponse> pinStoresInfo = pinStores.stream()
+                .map(store -> GetPinStoreInfoResponse.builder()
                         .storeId(store.getStoreId())
                         .storeName(store.getStoreName())
                         .category(store.getCategoryString())
                         .address(store.getAddress())
-                        .reviewImg3(reviewImg)
-                        .build();
-                pinStoresInfo.add(pinStoreInfoResponse);
-            }
-        }
-        if (pinStoresInfo.size() > size) {
-            pinStoresInfo = pinStoresInfo.subList(0, size);
-            hasNext = true;
-        }
+                        .reviewImg3(reviewImages.get(store.getStoreId()))
+                        .build())
+                .collect(Collectors.toList());
 
-        Map<String, Object> map = new HashMap<>();
-        map.put("pinStores", pinStoresInfo);
-        map.put("hasNext", hasNext);
-        return map;
+        return PinStorePagingResponse.of(pinStoresInfo, hasNext, nextCursor);
     }
 
     @Transactional(readOnly = true)
-    public Map<String, Object> getVisitedPinStores(User user, Long myCategoryId, String townCode, Long lastStoreId, int size) {
-        return getPinStoresInfo(user, myCategoryId, townCode, true, lastStoreId, size);
+    public PinStorePagingResponse getVisitedPinStores(User user, Long myCategoryId, String townCode, String cursor, int size, Boolean openNow, LocalDateTime openAt) {
+        return getPinStoresInfo(user, myCategoryId, townCode, true, cursor, size, openNow, openAt);
     }
 
     @Transactional(readOnly = true)
-    public Map<String, Object> getUnvisitedPinStores(User user, Long myCategoryId, String townCode,  Long lastStoreId, int size) {
-        return getPinStoresInfo(user, myCategoryId, townCode, false, lastStoreId, size);
+    public PinStorePagingResponse getUnvisitedPinStores(User user, Long myCategoryId, String townCode, String cursor, int size, Boolean openNow, LocalDateTime openAt) {
+        return getPinStoresInfo(user, myCategoryId, townCode, false, cursor, size, openNow, openAt);
     }
 
     @Override
-    public SearchStoreResponse searchStore(String keyword, Long cursor) {
-        PageRequest pageRequest = PageRequest.of(0,15);
-
-        if(cursor == null){
-            cursor = Long.MAX_VALUE;
+    @Transactional(readOnly = true)
+    public SearchStoreResponse searchStore(String keyword, Long cursor, Boolean openNow, LocalDateTime openAt) {
+        List<Store> searchResult;
+        boolean checkNext;
+        LongPredicate isOpen = openFilter(openNow, openAt);
+
+        if (storeIndexSynchronizer.isReady()) {
+            // 역색인에서 id 만 찾고 가게 정보는 한 번에 조회
+            StoreSearchIndex.SearchResult result = storeSearchIndex.search(keyword, cursor, SEARCH_PAGE_SIZE, isOpen);
+            Map<Long, Store> stores = storeRepository.findAllById(result.storeIds()).stream()
+                    .collect(Collectors.toMap(Store::getStoreId, store -> store));
+            searchResult = result.storeIds().stream()
+                    .map(stores::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            checkNext = result.hasNext();
+        } else {
+            // 인덱스 적재 전에는 DB 검색
+            Slice<Store> page = storeRepository.searchByStoreNameContains(keyword, cursor != null ? cursor : Long.MAX_VALUE, Pageable.ofSize(SEARCH_PAGE_SIZE));
+            searchResult = page.getContent().stream()
+                    .filter(store -> isOpen.test(store.getStoreId()))
+                    .toList();
+            checkNext = page.hasNext();
         }
 
-//        List<Store> searchResult = storeRepository.findTop5ByStoreNameContains(keyword);
-        Page<Store> searchResult = storeRepository.searchByStoreNameContains(keyword, cursor, pageRequest);
-
+        Map<Long, List<String>> reviewImages = storeCoverCache.getCovers(
+                searchResult.stream().map(Store::getStoreId).toList(), 1);
         List<GetStoreInfoResponse> searchStoreList = searchResult.stream()
                 .map(result -> {
-                    Optional<Review> review = reviewRepository.findFirstByStoreOrderByLikedDesc(result);
-                    String reviewImg = review.map(Review::getImg1).orElse("");
+                    List<String> cover = reviewImages.get(result.getStoreId());
+                    String reviewImg = cover.isEmpty() ? "" : cover.get(0);
                     return GetStoreInfoResponse.builder()
                             .storeId(result.getStoreId())
                             .storeName(result.getStoreName())
@@ -332,9 +416,120 @@ public class StoreServiceImpl implements StoreService{
             return SearchStoreResponse.builder().build();
         }
 
-        boolean checkNext = searchResult.hasNext();
         Long cursorId = searchResult.isEmpty() || !checkNext ? null : searchStoreList.get(searchStoreList.size()-1).getStoreId();
 
         return SearchStoreResponse.of(searchStoreList, checkNext, cursorId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GetStoresInMapResponse> getNearbyStores(User user, double latitude, double longitude, int size, boolean pinned, Boolean openNow, LocalDateTime openAt) {
+        checkStoreIndexReady();
+        int k = Math.max(1, Math.min(size, MAX_NEARBY_SIZE));
+        return storeSpatialIndex.findNearest(latitude, longitude, k, pinFilter(user, pinned).and(openFilter(openNow, openAt))).stream()
+                .map(this::toStoresInMapResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GetStoresInMapResponse> getStoresInBounds(User user, double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, boolean pinned, Boolean openNow, LocalDateTime openAt) {
+        checkStoreIndexReady();
+        return storeSpatialIndex.findInBounds(minLatitude, minLongitude, maxLatitude, maxLongitude, MAX_BOUNDS_SIZE,
+                        pinFilter(user, pinned).and(openFilter(openNow, openAt))).stream()
+                .map(this::toStoresInMapResponse)
+                .toList();
+    }
+
+    @Override
+    public List<AutocompleteStoreResponse> autocompleteStore(String keyword, int size) {
+        checkStoreIndexReady();
+        int limit = Math.max(1, Math.min(size, StoreAutocompleteIndex.TOP_SIZE));
+        return storeAutocompleteIndex.search(keyword, limit).stream()
+                .map(entry -> AutocompleteStoreResponse.builder()
+                        .storeId(entry.storeId())
+                        .storeName(entry.storeName())
+                        .categoryString(entry.categoryString())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GetStoreInfoResponse> getTrendingStores(String townCode, String category, String window, int size) {
+        // 지역 또는 카테고리 중 하나만 기준으로 조회
+        if ((townCode == null) == (category == null)) {
+            throw new GeneralException(Code.INVALID_REQUEST);
+        }
+        TrendingStoreCounter.Window trendingWindow = switch (window) {
+            case "day" -> TrendingStoreCounter.Window.DAY;
+            case "week" -> TrendingStoreCounter.Window.WEEK;
+            default -> throw new GeneralException(Code.INVALID_REQUEST);
+        };
+        if (townCode != null) {
+            regionDictionary.validateTownCode(townCode);
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_TRENDING_SIZE));
+        List<Long> storeIds = townCode != null
+                ? trendingStoreCounter.getTopStoreIds(TrendingStoreCounter.Scope.TOWN, townCode, trendingWindow, limit)
+                : trendingStoreCounter.getTopStoreIds(TrendingStoreCounter.Scope.CATEGORY, category, trendingWindow, limit);
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Store> stores = storeRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getStoreId, store -> store));
+        Map<Long, List<String>> reviewImages = storeCoverCache.getCovers(stores.keySet(), 1);
+        return storeIds.stream()
+                .map(stores::get)
+                .filter(store -> store != null && store.getStoreStatus() == Store.StoreStatus.ACTIVE)
+                .map(store -> {
+                    List<String> cover = reviewImages.get(store.getStoreId());
+                    return GetStoreInfoResponse.builder()
+                            .storeId(store.getStoreId())
+                            .categoryString(store.getCategoryString())
+                            .storeName(store.getStoreName())
+                            .address(store.getAddress())
+                            .reviewImg(cover.isEmpty() ? "" : cover.get(0))
+                            .build();
+                })
+                .toList();
+    }
+
+    private void checkStoreIndexReady() {
+        if (!storeIndexSynchronizer.isReady()) {
+            throw new GeneralException(Code.STORE_INDEX_NOT_READY);
+        }
+    }
+
+    // pinned 이면 사용자가 찜한 가게만 통과 (비로그인 사용자는 찜한 가게 없음)
+    private LongPredicate pinFilter(User user, boolean pinned) {
+        if (!pinned) {
+            return storeId -> true;
+        }
+        Set<Long> pinnedStoreIds = user != null ? new HashSet<>(pinRepository.findStoreIdsByUser(user)) : Set.of();
+        return pinnedStoreIds::contains;
+    }
+
+    // openAt 이 있으면 그 시각, openNow 이면 현재 시각에 영업 중인 가게만 통과
+    private LongPredicate openFilter(Boolean openNow, LocalDateTime openAt) {
+        LocalDateTime at = openAt != null ? openAt : Boolean.TRUE.equals(openNow) ? LocalDateTime.now(SERVICE_ZONE) : null;
+        if (at == null) {
+            return storeId -> true;
+        }
+        if (!openingHoursIndex.isReady()) {
+            throw new GeneralException(Code.STORE_INDEX_NOT_READY);
+        }
+        return storeId -> openingHoursIndex.isOpenAt(storeId, at);
+    }
+
+    private GetStoresInMapResponse toStoresInMapResponse(StoreSpatialIndex.StorePoint point) {
+        return GetStoresInMapResponse.builder()
+                .storeId(point.storeId())
+                .storeName(point.storeName())
+                .longitude(point.longitude())
+                .latitude(point.latitude())
+                .build();
+    }
 }
@@ -0,0 +1,166 @@
+package com.umc.gusto.domain.store.service;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.store.event.StoreActivityEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 지역(townCode)/카테고리별 인기 급상승 가게 집계
+ * 활동을 1시간 단위 Redis sorted set 에 점수로 쌓고, 조회 시 최근 구간을 시간 감쇠 가중치로 합산한다.
+ * 합산 결과는 짧게 캐시해 두고 상위 N 개만 잘라 읽는다.
+ * 취소된 활동(좋아요 취소, 리뷰 삭제, 찜 취소)은 원래 활동이 쌓인 버킷에서 같은 점수를 빼서, 감쇠까지 정확히 상쇄한다.
+ * 원래 활동이 가장 긴 window 밖이면 이미 집계에서 빠졌으므로 빼지 않는다. (루트 항목은 추가 시각이 없어 삭제해도 빼지 않음)
+ * 합산 점수가 0 이하인 가게는 제외한다.
+ * 한 지역/카테고리의 버킷과 합산 결과는 같은 hash tag 를 써서 Redis Cluster 에서도 한 slot 에 모은다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingStoreCounter {
+    private static final String KEY_PREFIX = "trending:";
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final Duration BUCKET_TTL = Duration.ofDays(8);
+    private static final Duration RESULT_TTL = Duration.ofSeconds(60);
+
+    // 활동별 점수
+    private static final double REVIEW_SCORE = 3.0;
+    private static final double LIKE_SCORE = 1.0;
+    private static final double PIN_SCORE = 2.0;
+    private static final double ROUTE_SCORE = 2.0;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Window {
+        DAY(24, 6.0), WEEK(168, 48.0);
+
+        private final int hours;
+        private final double halfLifeHours;     // 이 시간만큼 지난 활동은 점수가 절반
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Scope {
+        TOWN("town"), CATEGORY("category");
+
+        private final String key;
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> record(event.storeId(), event.townCode(), event.category(), REVIEW_SCORE, now());
+            case DELETED -> cancel(event.storeId(), event.townCode(), event.category(), REVIEW_SCORE, event.activityAt());
+            case LIKED -> record(event.storeId(), event.townCode(), event.category(), LIKE_SCORE, now());
+            case UNLIKED -> cancel(event.storeId(), event.townCode(), event.category(), LIKE_SCORE, event.activityAt());
+            default -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStoreActivity(StoreActivityEvent event) {
+        switch (event.type()) {
+            case PINNED -> record(event.storeId(), event.townCode(), event.category(), PIN_SCORE, now());
+            case UNPINNED -> cancel(event.storeId(), event.townCode(), event.category(), PIN_SCORE, event.activityAt());
+            case ROUTE_ADDED -> record(event.storeId(), event.townCode(), event.category(), ROUTE_SCORE, now());
+        }
+    }
+
+    /**
+     * 최근 window 동안 점수가 높은 storeId 순서대로 최대 size 개
+     */
+    public List<Long> getTopStoreIds(Scope scope, String code, Window window, int size) {
+        String resultKey = KEY_PREFIX + slotTag(scope, code) + ":" + window.name();
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(resultKey))) {
+            aggregate(scope, code, window, resultKey);
+        }
+
+        // 취소로 상쇄되어 0 이하가 된 가게는 제외
+        Set<String> storeIds = redisTemplate.opsForZSet().reverseRangeByScore(resultKey, Double.MIN_VALUE, Double.POSITIVE_INFINITY, 0, size);
+        if (storeIds == null) {
+            return List.of();
+        }
+        return storeIds.stream().map(Long::valueOf).toList();
+    }
+
+    // 시간 단위 버킷을 감쇠 가중치로 합산해 resultKey 에 저장
+    private void aggregate(Scope scope, String code, Window window, String resultKey) {
+        LocalDateTime now = now();
+        List<String> bucketKeys = new ArrayList<>(window.getHours());
+        double[] weights = new double[window.getHours()];
+        for (int age = 0; age < window.getHours(); age++) {
+            bucketKeys.add(bucketKey(scope, code, now.minusHours(age)));
+            weights[age] = Math.pow(0.5, age / window.getHalfLifeHours());
+        }
+
+        redisTemplate.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), resultKey,
+                Aggregate.SUM, Weights.of(weights));
+        redisTemplate.expire(resultKey, RESULT_TTL);
+    }
+
+    // activityAt(서버 기본 시간대, 엔티티 생성 시각)이 속한 버킷에서 score 를 뺌
+    private void cancel(Long storeId, String townCode, String category, double score, LocalDateTime activityAt) {
+        if (activityAt == null) {
+            return;
+        }
+        LocalDateTime at = activityAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(SERVICE_ZONE).toLocalDateTime();
+        LocalDateTime oldestBucket = now().truncatedTo(ChronoUnit.HOURS).minusHours(Window.WEEK.getHours() - 1);
+        if (at.isBefore(oldestBucket)) {
+            return;
+        }
+        record(storeId, townCode, category, -score, at);
+    }
+
+    // 비활성 가게는 조회 시 걸러지므로 여기서는 가게를 다시 읽지 않는다
+    private void record(Long storeId, String townCode, String category, double score, LocalDateTime at) {
+        try {
+            if (townCode != null) {
+                increment(bucketKey(Scope.TOWN, townCode, at), storeId, score, at);
+            }
+            if (category != null) {
+                increment(bucketKey(Scope.CATEGORY, category, at), storeId, score, at);
+            }
+        } catch (RuntimeException e) {
+            // 집계 실패가 요청 처리에 영향을 주지 않도록 기록만 남김
+            log.warn("failed to record trending activity : storeId={}", storeId, e);
+        }
+    }
+
+    // 버킷은 그 시간대로부터 BUCKET_TTL 뒤에 만료 (지난 버킷에서 뺄 때 수명이 늘어나지 않도록)
+    private void increment(String key, Long storeId, double score, LocalDateTime at) {
+        redisTemplate.opsForZSet().incrementScore(key, String.valueOf(storeId), score);
+        redisTemplate.expireAt(key, at.truncatedTo(ChronoUnit.HOURS).atZone(SERVICE_ZONE).plus(BUCKET_TTL).toInstant());
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(SERVICE_ZONE);
+    }
+
+    private static String bucketKey(Scope scope, String code, LocalDateTime at) {
+        return KEY_PREFIX + slotTag(scope, code) + ":" + at.format(BUCKET_FORMAT);
+    }
+
+    // {town:11010} 처럼 지역/카테고리 단위 hash tag (여러 버킷을 합산하는 ZUNIONSTORE 가 한 slot 안에서 실행되도록)
+    private static String slotTag(Scope scope, String code) {
+        return "{" + scope.getKey() + ":" + code + "}";
+    }
+}
@@ -252,14 +252,14 @@ public class UserController {
 
     /**
      * 팔로우 리스트 조회
-     * [GET] /users/following?followId={followId}
-     * @param followId
+     * [GET] /users/following?cursor={cursor}
+     * @param cursor
      * @return List<>
      */
     @GetMapping("/following")
     public ResponseEntity<PagingResponse> followList(@AuthenticationPrincipal AuthUser authUser,
-                                                     @RequestParam(required = false, name = "followId") Long followId) {
-        PagingResponse pagingResponse = userService.getFollowList(authUser.getUser(), followId);
+                                                     @RequestParam(required = false, name = "cursor") String cursor) {
+        PagingResponse pagingResponse = userService.getFollowList(authUser.getUser(), cursor);
 
         return ResponseEntity.ok()
                 .body(pagingResponse);
@@ -267,14 +267,14 @@ public class UserController {
 
     /**
      * 팔로워 리스트 조회
-     * [GET] /users/follower?followId={followId}
-     * @param followId
+     * [GET] /users/follower?cursor={cursor}
+     * @param cursor
      * @return List<>
      */
     @GetMapping("/follower")
     public ResponseEntity<PagingResponse> followerList(@AuthenticationPrincipal AuthUser authUser,
-                                                       @RequestParam(required = false, name = "followId") Long followId) {
-        PagingResponse pagingResponse = userService.getFollwerList(authUser.getUser(), followId);
+                                                       @RequestParam(required = false, name = "cursor") String cursor) {
+        PagingResponse pagingResponse = userService.getFollwerList(authUser.getUser(), cursor);
 
         return ResponseEntity.ok()
                 .body(pagingResponse);
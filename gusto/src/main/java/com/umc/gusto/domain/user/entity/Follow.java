@@ -10,6 +10,10 @@ import lombok.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_follow_follower_created", columnList = "follower, createdAt, followId"),  // 팔로우/팔로워 목록 keyset 페이징
+        @Index(name = "idx_follow_following_created", columnList = "following, createdAt, followId")
+})
 public class Follow extends BaseTime {
 
     @Id
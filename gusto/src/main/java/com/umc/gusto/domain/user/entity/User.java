@@ -18,6 +18,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @DynamicInsert
 @DynamicUpdate
+@Table(indexes = @Index(name = "idx_user_profile_thumb", columnList = "profileThumb"))     // 썸네일이 빠진 프로필 (ImageVariantSweeper)
 public class User extends BaseTime {
     @Id
     @GeneratedValue(generator = "uuid2")
@@ -39,6 +40,8 @@ public class User extends BaseTime {
     @Column(nullable = false)
     private String profileImage;
 
+    private String profileThumb;        // profileImage 의 썸네일 (ImageVariantGenerator 가 비동기로 채움)
+
     @Builder.Default
     @Enumerated(EnumType.STRING)
     @Column(name = "publishReview", nullable = false, length = 10)
@@ -89,6 +92,12 @@ public class User extends BaseTime {
 
     public void updateProfile(String profileImage) {
         this.profileImage = profileImage;
+        this.profileThumb = null;
+    }
+
+    // 썸네일이 아직 없으면 원본
+    public String getProfileThumbnail() {
+        return profileThumb != null ? profileThumb : profileImage;
     }
 
     public void updateAge(User.Age age) {
@@ -0,0 +1,10 @@
+package com.umc.gusto.domain.user.event;
+
+import java.util.UUID;
+
+/**
+ * 유저의 리뷰 공개 여부(publishReview) 또는 회원 상태가 바뀌어
+ * 해당 유저의 리뷰 전체의 노출 여부가 달라졌을 때 발행
+ */
+public record ReviewVisibilityChangedEvent(UUID userId) {
+}
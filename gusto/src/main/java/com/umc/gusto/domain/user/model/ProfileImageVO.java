@@ -0,0 +1,8 @@
+package com.umc.gusto.domain.user.model;
+
+import java.util.UUID;
+
+public interface ProfileImageVO {
+    UUID getUserId();
+    String getProfileImage();
+}
@@ -2,26 +2,28 @@ package com.umc.gusto.domain.user.repository;
 
 import com.umc.gusto.domain.user.entity.Follow;
 import com.umc.gusto.domain.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
     Optional<Follow> findByFollowerAndFollowing(User follower, User following);
 
-    @Query("SELECT f FROM Follow f WHERE f.follower = :follower AND f.followId < :followId ORDER BY f.createdAt DESC, f.followId DESC")
-    Page<Follow> findFollowList(@Param("follower") User follower, @Param("followId") Long followId, Pageable pageable);
+    // 팔로우/팔로워 목록 (createdAt, followId 최신순 keyset)
+    @Query("SELECT f FROM Follow f WHERE f.follower = :follower AND f.createdAt <= :createdAt AND (f.createdAt < :createdAt OR f.followId < :followId) ORDER BY f.createdAt DESC, f.followId DESC")
+    List<Follow> findFollowList(@Param("follower") User follower, @Param("createdAt") LocalDateTime createdAt, @Param("followId") Long followId, Pageable pageable);
 
     @Query("SELECT f FROM Follow f WHERE f.follower = :follower ORDER BY f.createdAt DESC, f.followId DESC")
-    Page<Follow> findFollowList(@Param("follower") User follower, Pageable pageable);
+    List<Follow> findFollowList(@Param("follower") User follower, Pageable pageable);
 
-    @Query("SELECT f FROM Follow f WHERE f.following = :following AND f.followId < :followId ORDER BY f.createdAt DESC, f.followId DESC")
-    Page<Follow> findFollwerList(@Param("following") User following, @Param("followId") Long followId, Pageable pageable);
+    @Query("SELECT f FROM Follow f WHERE f.following = :following AND f.createdAt <= :createdAt AND (f.createdAt < :createdAt OR f.followId < :followId) ORDER BY f.createdAt DESC, f.followId DESC")
+    List<Follow> findFollwerList(@Param("following") User following, @Param("createdAt") LocalDateTime createdAt, @Param("followId") Long followId, Pageable pageable);
 
     @Query("SELECT f FROM Follow f WHERE f.following = :following ORDER BY f.createdAt DESC, f.followId DESC")
-    Page<Follow> findFollwerList(@Param("following") User following, Pageable pageable);
+    List<Follow> findFollwerList(@Param("following") User following, Pageable pageable);
 }
\ No newline at end of file
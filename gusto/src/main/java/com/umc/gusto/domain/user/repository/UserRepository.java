@@ -1,8 +1,15 @@
 package com.umc.gusto.domain.user.repository;
 
 import com.umc.gusto.domain.user.entity.User;
+import com.umc.gusto.domain.user.model.ProfileImageVO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +21,17 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByNicknameAndMemberStatusIs(String nickname, User.MemberStatus status);
 
     Boolean existsByNicknameAndMemberStatusIs(String nickname, User.MemberStatus status);
+
+    // 그 사이 프로필 이미지가 바뀌었으면 반영하지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.profileThumb = :profileThumb WHERE u.userId = :userId AND u.profileImage = :profileImage")
+    int updateProfileThumb(UUID userId, String profileImage, String profileThumb);
+
+    // 썸네일이 빠진 프로필 이미지 (ImageVariantSweeper 용, userId 오름차순 keyset, before 이전에 수정된 사용자만)
+    @Query("SELECT u.userId as userId, u.profileImage as profileImage FROM User u " +
+            "WHERE u.profileThumb IS NULL AND (:lastUserId IS NULL OR u.userId > :lastUserId) " +
+            "AND u.memberStatus = 'ACTIVE' AND u.profileImage <> :defaultImg AND u.updatedAt < :before " +
+            "ORDER BY u.userId")
+    List<ProfileImageVO> findProfileImagesWithoutThumb(UUID lastUserId, String defaultImg, LocalDateTime before, Pageable pageable);
 }
@@ -54,10 +54,10 @@ public interface UserService {
     void unfollowUser(User user, String nickname);
 
     // 팔로우 목록
-    PagingResponse getFollowList(User user, Long followId);
+    PagingResponse getFollowList(User user, String cursor);
 
     // 팔로워 목록
-    PagingResponse getFollwerList(User user, Long followId);
+    PagingResponse getFollwerList(User user, String cursor);
 
     // 소셜 연동 해제
     void disconnectSocialAccount(User user, SignInRequest signInRequest);
@@ -3,6 +3,7 @@ package com.umc.gusto.domain.user.service;
 import com.umc.gusto.domain.user.entity.Follow;
 import com.umc.gusto.domain.user.entity.Social;
 import com.umc.gusto.domain.user.entity.User;
+import com.umc.gusto.domain.user.event.ReviewVisibilityChangedEvent;
 import com.umc.gusto.domain.user.model.NicknameBucket;
 import com.umc.gusto.domain.user.model.request.PublishingInfoRequest;
 import com.umc.gusto.domain.user.model.request.SignInRequest;
@@ -20,15 +21,20 @@ import com.umc.gusto.global.config.secret.JwtConfig;
 import com.umc.gusto.global.exception.Code;
 import com.umc.gusto.global.exception.GeneralException;
 import com.umc.gusto.global.exception.customException.NotFoundException;
+import com.umc.gusto.global.util.CursorCodec;
+import com.umc.gusto.global.util.CursorCodec.Cursor;
+import com.umc.gusto.global.util.CursorCodec.CursorSlice;
+import com.umc.gusto.global.util.ImageVariant;
+import com.umc.gusto.global.util.ImageVariantGenerator;
 import com.umc.gusto.global.util.RedisService;
 import com.umc.gusto.global.util.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.*;
@@ -46,18 +52,24 @@ public class UserServiceImpl implements UserService{
     private final JwtService jwtService;
     private final RedisService redisService;
     private final SocialService socialService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final CursorCodec cursorCodec;
 
     private static final long NICKNAME_EXPIRED_TIME = 1000L * 60 * 15;
     private static final int MAX_NICKNAME_NUMBER = 999;
     private static final int MIN_NICKNAME_NUMBER = 1;
     private static final int FOLLOW_LIST_PAGE = 30;
+    private static final String FOLLOWING_CURSOR = "follow:following:";
+    private static final String FOLLOWER_CURSOR = "follow:follower:";
     private static final Social.SocialType[] AUTH_SERVERS = Social.SocialType.values();
 
     @Value("${default.img.url}")
     private String DEFAULT_PROFILE_IMG;
 
+    // 프로필 이미지는 트랜잭션을 열기 전에 올리고, 가입 저장에 실패하면 올린 이미지를 지움
     @Override
-    @Transactional
     public Tokens createUser(MultipartFile multipartFile, SignUpRequest request) {
         socialService.checkUserInfo(request.getProvider(), request.getProviderId(), request.getAccessToken());
 
@@ -69,16 +81,34 @@ public class UserServiceImpl implements UserService{
         redisService.deleteValues(request.getNickname());
         checkNickname(request.getNickname());
 
-        String profileImg = DEFAULT_PROFILE_IMG;
+        // profileImg를 이미지 파일로 받았다면 업로드, url로 받았다면 그대로 사용
+        String uploadedProfile = multipartFile != null ? s3Service.uploadImage(multipartFile) : null;
+        String profileImg = uploadedProfile != null ? uploadedProfile
+                : request.getProfileImg() != null ? request.getProfileImg() : DEFAULT_PROFILE_IMG;
+
+        User user;
+        try {
+            user = transactionTemplate.execute(status -> saveNewUser(request, profileImg));
+        } catch (RuntimeException e) {
+            if(uploadedProfile != null) {
+                s3Service.deleteImagesQuietly(List.of(uploadedProfile));
+            }
+            throw e;
+        }
 
-        if(multipartFile != null) {
-            // profileImg를 이미지 파일로 받았다면
-            profileImg = s3Service.uploadImage(multipartFile);
-        } else if(request.getProfileImg() != null) {
-            // profileImg를 이미지로 받지 않고, url로 받았다면
-            profileImg = request.getProfileImg();
+        if(uploadedProfile != null) {
+            // 가입이 커밋된 뒤에 썸네일 생성
+            generateProfileThumb(user.getUserId(), uploadedProfile);
         }
 
+        // access-token 및 refresh-token 생성
+        Tokens tokens = jwtService.createToken(String.valueOf(user.getUserId()));
+        redisService.setValuesWithTimeout(tokens.getRefreshToken(), String.valueOf(user.getUserId()), JwtConfig.REFRESH_TOKEN_VALID_TIME);
+
+        return tokens;
+    }
+
+    private User saveNewUser(SignUpRequest request, String profileImg) {
         // user 생성
         User user = User.builder()
                 .userId(UUID.randomUUID())
@@ -98,12 +128,7 @@ public class UserServiceImpl implements UserService{
                 .build();
 
         socialRepository.save(socialInfo);
-
-        // access-token 및 refresh-token 생성
-        Tokens tokens = jwtService.createToken(String.valueOf(user.getUserId()));
-        redisService.setValuesWithTimeout(tokens.getRefreshToken(), String.valueOf(user.getUserId()), JwtConfig.REFRESH_TOKEN_VALID_TIME);
-
-        return tokens;
+        return user;
     }
 
     @Override
@@ -226,13 +251,37 @@ public class UserServiceImpl implements UserService{
                 .build();
     }
 
+    // 새 이미지는 트랜잭션을 열기 전에 올리고, 이전 이미지는 DB 반영이 끝난 뒤 지움 (실패하면 새 이미지를 지움)
     @Override
-    @Transactional
     public void updateProfile(User user, MultipartFile profileImg, UpdateProfileRequest request) {
-        if(profileImg != null) {
-            s3Service.deleteImageFromUrl(user.getProfileImage());
-            String newProfile = s3Service.uploadImage(profileImg);
+        String previousProfile = user.getProfileImage();
+        String newProfile = profileImg != null ? s3Service.uploadImage(profileImg) : null;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveProfile(user, newProfile, request));
+        } catch (RuntimeException e) {
+            if(newProfile != null) {
+                s3Service.deleteImagesQuietly(List.of(newProfile));
+            }
+            throw e;
+        }
+
+        if(previousProfile != null && !previousProfile.equals(DEFAULT_PROFILE_IMG) && !previousProfile.equals(user.getProfileImage())) {
+            s3Service.deleteImagesQuietly(List.of(previousProfile), ImageVariant.THUMB);
+        }
+        if(newProfile != null && newProfile.equals(user.getProfileImage())) {
+            generateProfileThumb(user.getUserId(), newProfile);
+        }
+    }
+
+    // 프로필 썸네일은 요청 스레드 밖에서 만들어 반영
+    private void generateProfileThumb(UUID userId, String profileImage) {
+        imageVariantGenerator.generate(profileImage,
+                variants -> userRepository.updateProfileThumb(userId, profileImage, variants.get(ImageVariant.THUMB)));
+    }
 
+    private void saveProfile(User user, String newProfile, UpdateProfileRequest request) {
+        if(newProfile != null) {
             user.updateProfile(newProfile);
         }
 
@@ -273,11 +322,15 @@ public class UserServiceImpl implements UserService{
         PublishStatus categoryStatus = (request.getPublishPin()) ? PublishStatus.PUBLIC : PublishStatus.PRIVATE;
         PublishStatus routeStatus = (request.getPublishRoute()) ? PublishStatus.PUBLIC : PublishStatus.PRIVATE;
 
+        boolean reviewVisibilityChanged = user.getPublishReview() != reviewStatus;
         user.updatePublishReview(reviewStatus);
         user.updatePublishCategory(categoryStatus);
         user.updatePublishRoute(routeStatus);
 
         userRepository.save(user);
+        if (reviewVisibilityChanged) {
+            eventPublisher.publishEvent(new ReviewVisibilityChangedEvent(user.getUserId()));
+        }
     }
 
     @Override
@@ -331,27 +384,27 @@ public class UserServiceImpl implements UserService{
 
     @Override
     @Transactional(readOnly = true)
-    public PagingResponse getFollowList(User user, Long followId) {
-        Page<Follow> followList;
-
-        if(followId == null) {
-            followList = followRepository.findFollowList(user, Pageable.ofSize(FOLLOW_LIST_PAGE));
-        } else {
-            followList = followRepository.findFollowList(user, followId, Pageable.ofSize(FOLLOW_LIST_PAGE));
-        }
+    public PagingResponse getFollowList(User user, String cursor) {
+        String scope = FOLLOWING_CURSOR + user.getUserId();
+        Cursor after = cursorCodec.decode(scope, cursor);
+        List<Follow> fetched = after == null
+                ? followRepository.findFollowList(user, cursorCodec.limit(FOLLOW_LIST_PAGE))
+                : followRepository.findFollowList(user, after.getDateTime(0), after.getLong(1), cursorCodec.limit(FOLLOW_LIST_PAGE));
+        CursorSlice<Follow> followList = cursorCodec.slice(scope, fetched, FOLLOW_LIST_PAGE,
+                follow -> new Object[]{follow.getCreatedAt(), follow.getFollowId()});
 
         // page가 존재하지 않으면 throw Exception
-        if(followList.isEmpty()) {
+        if(followList.content().isEmpty()) {
             throw new NotFoundException(Code.USER_FOLLOW_NOT_EXIST);
         }
 
         // res mapping
-        List<FollowResponse> result = followList.stream()
+        List<FollowResponse> result = followList.content().stream()
                 .map(follow -> {
                     FollowResponse item = FollowResponse.builder()
                             .followId(follow.getFollowId())
                             .nickname(follow.getFollowing().getNickname())
-                            .profileImg(follow.getFollowing().getProfileImage())
+                            .profileImg(follow.getFollowing().getProfileThumbnail())
                             .build();
 
                     return item;
@@ -360,33 +413,34 @@ public class UserServiceImpl implements UserService{
 
         return PagingResponse.builder()
                 .hasNext(followList.hasNext())
+                .cursor(followList.nextCursor())
                 .result(result)
                 .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PagingResponse getFollwerList(User user, Long followId) {
-        Page<Follow> followList;
-
-        if(followId == null) {
-            followList = followRepository.findFollwerList(user, Pageable.ofSize(FOLLOW_LIST_PAGE));
-        } else {
-            followList = followRepository.findFollwerList(user, followId, Pageable.ofSize(FOLLOW_LIST_PAGE));
-        }
+    public PagingResponse getFollwerList(User user, String cursor) {
+        String scope = FOLLOWER_CURSOR + user.getUserId();
+        Cursor after = cursorCodec.decode(scope, cursor);
+        List<Follow> fetched = after == null
+                ? followRepository.findFollwerList(user, cursorCodec.limit(FOLLOW_LIST_PAGE))
+                : followRepository.findFollwerList(user, after.getDateTime(0), after.getLong(1), cursorCodec.limit(FOLLOW_LIST_PAGE));
+        CursorSlice<Follow> followList = cursorCodec.slice(scope, fetched, FOLLOW_LIST_PAGE,
+                follow -> new Object[]{follow.getCreatedAt(), follow.getFollowId()});
 
         // page가 존재하지 않으면 throw Exception
-        if(followList.isEmpty()) {
+        if(followList.content().isEmpty()) {
             throw new NotFoundException(Code.USER_FOLLOWER_NOT_EXIST);
         }
 
         // res mapping
-        List<FollowResponse> result = followList.stream()
+        List<FollowResponse> result = followList.content().stream()
                 .map(follow -> {
                     FollowResponse item = FollowResponse.builder()
                             .followId(follow.getFollowId())
                             .nickname(follow.getFollower().getNickname())
-                            .profileImg(follow.getFollower().getProfileImage())
+                            .profileImg(follow.getFollower().getProfileThumbnail())
                             .build();
 
                     return item;
@@ -395,6 +449,7 @@ public class UserServiceImpl implements UserService{
 
         return PagingResponse.builder()
                 .hasNext(followList.hasNext())
+                .cursor(followList.nextCursor())
                 .result(result)
                 .build();
     }
@@ -473,5 +528,6 @@ public class UserServiceImpl implements UserService{
         }
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new ReviewVisibilityChangedEvent(user.getUserId()));
     }
 }
@@ -0,0 +1,113 @@
+package com.umc.gusto.global;
+
+import com.umc.gusto.domain.review.model.ReviewImg1VO;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.domain.review.service.ReviewImageVariantUpdater;
+import com.umc.gusto.domain.user.model.ProfileImageVO;
+import com.umc.gusto.domain.user.repository.UserRepository;
+import com.umc.gusto.global.util.ImageVariant;
+import com.umc.gusto.global.util.ImageVariantGenerator;
+import com.umc.gusto.global.util.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 변환본이 빠진 리뷰 대표 이미지(img1Thumb IS NULL)와 프로필 이미지(profileThumb IS NULL)의 변환을 다시 요청
+ * 대기열이 가득 차 버려졌거나 변환에 실패한 이미지를 채운다. 커밋 직후 요청된 변환과 겹치지 않도록 GRACE_MINUTES 분 전까지 수정된 행만 본다.
+ * 대기열이 절반 넘게 차면 멈추고 마지막으로 요청한 id 를 Redis 에 남겨, 다음 실행 때 그 다음부터 이어서 훑는다.
+ * (계속 실패하는 이미지가 앞쪽에 쌓여도 뒤의 행까지 차례가 돌아오도록, 끝까지 훑으면 다음 실행은 처음부터)
+ * 여러 인스턴스 중 잠금을 잡은 한 곳만 실행하고, chunk 마다 락을 연장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantSweeper {
+    private static final String CHECKPOINT_KEY = "image-variant-sweep:checkpoint";     // hash : review / profile -> 마지막으로 요청한 id
+    private static final String LOCK_KEY = "lock:image-variant-sweep";
+    private static final long LOCK_TIMEOUT = 5 * 60 * 1000L;
+    private static final int CHUNK_SIZE = 100;
+    private static final long GRACE_MINUTES = 10;
+
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+    private final ReviewImageVariantUpdater reviewImageVariantUpdater;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final RedisService redisService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${default.img.url}")
+    private String DEFAULT_IMG;
+
+    @Scheduled(fixedDelay = 3600000, initialDelay = 600000)
+    public void sweep() {
+        redisService.tryLock(LOCK_KEY, LOCK_TIMEOUT).ifPresent(token -> {
+            try {
+                LocalDateTime before = LocalDateTime.now().minusMinutes(GRACE_MINUTES);
+                if (sweepReviews(token, before)) {
+                    sweepProfiles(token, before);
+                }
+            } catch (RuntimeException e) {
+                log.warn("image variant sweep stopped, retry next time", e);
+            } finally {
+                redisService.unlock(LOCK_KEY, token);
+            }
+        });
+    }
+
+    // 대기열이 차거나 락을 잃어 멈췄으면 false
+    private boolean sweepReviews(String token, LocalDateTime before) {
+        Object checkpoint = redisTemplate.opsForHash().get(CHECKPOINT_KEY, "review");
+        long lastReviewId = checkpoint != null ? Long.parseLong(checkpoint.toString()) : 0L;
+        List<ReviewImg1VO> chunk;
+        do {
+            if (!redisService.extendLock(LOCK_KEY, token, LOCK_TIMEOUT)) {
+                return false;
+            }
+            chunk = reviewRepository.findImg1sWithoutVariants(lastReviewId, DEFAULT_IMG, before, Pageable.ofSize(CHUNK_SIZE));
+            for (ReviewImg1VO review : chunk) {
+                if (!imageVariantGenerator.hasSpareCapacity()
+                        || !reviewImageVariantUpdater.generate(review.getReviewId(), review.getUserId(), review.getImg1())) {
+                    redisTemplate.opsForHash().put(CHECKPOINT_KEY, "review", String.valueOf(lastReviewId));
+                    return false;
+                }
+                lastReviewId = review.getReviewId();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+        redisTemplate.opsForHash().delete(CHECKPOINT_KEY, "review");
+        return true;
+    }
+
+    private void sweepProfiles(String token, LocalDateTime before) {
+        Object checkpoint = redisTemplate.opsForHash().get(CHECKPOINT_KEY, "profile");
+        UUID lastUserId = checkpoint != null ? UUID.fromString(checkpoint.toString()) : null;
+        List<ProfileImageVO> chunk;
+        do {
+            if (!redisService.extendLock(LOCK_KEY, token, LOCK_TIMEOUT)) {
+                return;
+            }
+            chunk = userRepository.findProfileImagesWithoutThumb(lastUserId, DEFAULT_IMG, before, Pageable.ofSize(CHUNK_SIZE));
+            for (ProfileImageVO profile : chunk) {
+                UUID userId = profile.getUserId();
+                String profileImage = profile.getProfileImage();
+                if (!imageVariantGenerator.hasSpareCapacity() || !imageVariantGenerator.generate(profileImage,
+                        variants -> userRepository.updateProfileThumb(userId, profileImage, variants.get(ImageVariant.THUMB)))) {
+                    if (lastUserId != null) {
+                        redisTemplate.opsForHash().put(CHECKPOINT_KEY, "profile", lastUserId.toString());
+                    }
+                    return;
+                }
+                lastUserId = userId;
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+        redisTemplate.opsForHash().delete(CHECKPOINT_KEY, "profile");
+    }
+}
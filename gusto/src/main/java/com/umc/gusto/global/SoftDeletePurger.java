@@ -0,0 +1,188 @@
+package com.umc.gusto.global;
+
+import com.umc.gusto.global.util.RedisService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * soft delete(status = 'INACTIVE') 된 행 최종 삭제
+ * 대상 테이블마다 id 오름차순 keyset 으로 chunkSize 개씩 끊어, chunk 하나를 짧은 트랜잭션으로 지운다. (자식 테이블 먼저)
+ * chunk 사이에는 rowsPerSecond 를 넘지 않도록 쉬고, 마지막으로 처리한 id 를 Redis 에 기록해 중단되면 이어서 진행한다.
+ * 스케줄은 모든 인스턴스에서 돌고 체크포인트를 함께 쓰므로, 락을 잡은 인스턴스 하나만 진행한다.
+ * 몇 시간씩 걸릴 수 있어 스케줄러 스레드(다른 주기 작업과 공유) 대신 전용 스레드에서 돌고, chunk 마다 락을 연장한다.
+ */
+@Slf4j
+@Component
+public class SoftDeletePurger {
+    private static final String CHECKPOINT_KEY = "purge:checkpoint";        // hash : 대상 -> 마지막으로 처리한 id
+    private static final String LOCK_KEY = "lock:soft-delete-purge";
+    private static final long LOCK_TIMEOUT = 10 * 60 * 1000L;         // chunk 마다 연장
+
+    /**
+     * 삭제 대상 (부모 테이블과 그 id 를 참조하는 자식 삭제문, 자식 삭제문의 %s 는 부모 id 목록)
+     * 서로 참조하는 대상은 참조하는 쪽이 먼저 오도록 순서를 둔다. (그룹 루트 -> 그룹)
+     */
+    private record Target(String name, String table, String idColumn, List<String> children) {
+    }
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("route", "route", "route_id", List.of(
+                    "DELETE FROM route_list WHERE route_id IN (%s)")),
+            new Target("group", "group_table", "group_id", List.of(
+                    "DELETE rl FROM route_list rl JOIN route r ON rl.route_id = r.route_id WHERE r.group_id IN (%s)",
+                    "DELETE FROM route WHERE group_id IN (%s)",
+                    "DELETE FROM group_list WHERE group_id IN (%s)",
+                    "DELETE FROM group_member WHERE group_id IN (%s)",
+                    "DELETE FROM invitation_code WHERE group_id IN (%s)")),
+            new Target("myCategory", "my_category", "my_category_id", List.of(
+                    "DELETE FROM pin WHERE my_category_id IN (%s)")),
+            new Target("review", "review", "review_id", List.of(
+                    "DELETE FROM tagging WHERE review_id IN (%s)",
+                    "DELETE FROM liked WHERE review_id IN (%s)",
+                    "DELETE FROM review_image WHERE review_id IN (%s)"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "soft-delete-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${gusto.purge.chunk-size:500}")
+    private int chunkSize;
+    @Value("${gusto.purge.rows-per-second:2000}")
+    private int rowsPerSecond;
+
+    public SoftDeletePurger(JdbcTemplate jdbcTemplate, RedisTemplate<String, String> redisTemplate, RedisService redisService,
+                            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 전용 스레드에 삭제를 맡기고 바로 반환
+     */
+    public void purgeAll() {
+        executor.execute(() -> redisService.tryLock(LOCK_KEY, LOCK_TIMEOUT).ifPresentOrElse(token -> {
+            try {
+                purgeTargets(token);
+            } finally {
+                redisService.unlock(LOCK_KEY, token);
+            }
+        }, () -> log.info("purge skipped : running on another instance")));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // throttle 대기 중이면 깨워서 멈춤 (체크포인트부터 다음 실행 때 이어감)
+        executor.shutdownNow();
+    }
+
+    private void purgeTargets(String token) {
+        for (Target target : TARGETS) {
+            try {
+                if (!purge(target, token)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 다음 실행 때 체크포인트부터 다시 진행
+                log.warn("purge {} stopped", target.name(), e);
+            }
+        }
+    }
+
+    // 락을 잃으면 false (다른 인스턴스가 체크포인트부터 이어받음)
+    private boolean purge(Target target, String token) throws InterruptedException {
+        Object checkpoint = redisTemplate.opsForHash().get(CHECKPOINT_KEY, target.name());
+        long lastId = checkpoint != null ? Long.parseLong(checkpoint.toString()) : 0L;
+        long started = System.currentTimeMillis();
+        long purgedRows = 0;
+        long childRows = 0;
+
+        while (true) {
+            long chunkStarted = System.currentTimeMillis();
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT " + target.idColumn() + " FROM " + target.table() +
+                            " WHERE status = 'INACTIVE' AND " + target.idColumn() + " > ? ORDER BY " + target.idColumn() + " LIMIT ?",
+                    Long.class, lastId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            int[] deleted = transactionTemplate.execute(status -> deleteChunk(target, ids));
+            childRows += deleted[0];
+            purgedRows += deleted[1];
+            lastId = ids.get(ids.size() - 1);
+            redisTemplate.opsForHash().put(CHECKPOINT_KEY, target.name(), String.valueOf(lastId));
+            if (!redisService.extendLock(LOCK_KEY, token, LOCK_TIMEOUT)) {
+                log.warn("purge {} stopped : lock lost at id {}", target.name(), lastId);
+                return false;
+            }
+
+            throttle(deleted[0] + deleted[1], System.currentTimeMillis() - chunkStarted);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        redisTemplate.opsForHash().delete(CHECKPOINT_KEY, target.name());
+        long elapsed = Math.max(System.currentTimeMillis() - started, 1);
+        log.info("purge {} : {} rows (+{} child rows) in {} ms, {} rows/s",
+                target.name(), purgedRows, childRows, elapsed, (purgedRows + childRows) * 1000 / elapsed);
+        return true;
+    }
+
+    // { 자식 행 수, 부모 행 수 }
+    private int[] deleteChunk(Target target, List<Long> candidates) {
+        // 그 사이 복구된 행은 제외하고 잠금 (자식까지 지우지 않도록)
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT " + target.idColumn() + " FROM " + target.table() +
+                        " WHERE status = 'INACTIVE' AND " + target.idColumn() + " IN (" + placeholders(candidates.size()) + ") FOR UPDATE",
+                Long.class, candidates.toArray());
+        if (ids.isEmpty()) {
+            return new int[]{0, 0};
+        }
+        String inClause = placeholders(ids.size());
+        Object[] params = ids.toArray();
+
+        int childRows = 0;
+        for (String child : target.children()) {
+            childRows += jdbcTemplate.update(String.format(child, inClause), params);
+        }
+        int rows = jdbcTemplate.update("DELETE FROM " + target.table() +
+                " WHERE " + target.idColumn() + " IN (" + inClause + ")", params);
+        return new int[]{childRows, rows};
+    }
+
+    private static String placeholders(int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+
+    // chunk 당 삭제한 행 수가 rowsPerSecond 를 넘지 않도록 대기
+    private void throttle(int rows, long elapsedMillis) throws InterruptedException {
+        long budgetMillis = rows * 1000L / Math.max(rowsPerSecond, 1);
+        if (budgetMillis > elapsedMillis) {
+            Thread.sleep(budgetMillis - elapsedMillis);
+        }
+    }
+}
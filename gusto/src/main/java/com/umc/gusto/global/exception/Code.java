@@ -28,6 +28,8 @@ public enum Code {
     STORE_NOT_FOUND(HttpStatus.NOT_FOUND, 404101, "존재하지 않는 가게입니다."),
     OPENING_HOURS_NOT_FOUND(HttpStatus.NOT_FOUND, 404102,"해당 가게에 대한 운영시간이 존재하지 않습니다."),
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, 404103,"해당 가게에 대한 카테고리가 존재하지 않습니다."),
+    TOWN_NOT_FOUND(HttpStatus.NOT_FOUND, 404104, "존재하지 않는 지역입니다."),
+    STORE_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, 503101, "가게 인덱스를 준비 중입니다. 잠시 후 다시 시도해주세요."),
 
     //Review 관련 에러 +2
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, 404201, "존재하지 않는 리뷰입니다."),
@@ -37,6 +39,7 @@ public enum Code {
     NO_ONESELF_LIKE(HttpStatus.BAD_REQUEST, 400204, "자기자신의 리뷰는 좋아요할 수 없습니다."),
     NO_LIKE_REVIEW(HttpStatus.BAD_REQUEST, 400205, "해당 리뷰에 좋아요를 한 적이 없습니다."),
     ALREADY_LIKED_REVIEW(HttpStatus.BAD_REQUEST, 400206, "이미 좋아요한 리뷰입니다. 좋아요를 클릭할 수 없습니다."),
+    REVIEW_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, 503201, "리뷰 인덱스를 준비 중입니다. 잠시 후 다시 시도해주세요."),
 
     //Route 관련 에러 +3
     ROUTE_DUPLICATE_ROUTENAME(HttpStatus.CONFLICT, 409301,"이미 사용중인 루트명입니다."),
@@ -85,6 +88,7 @@ public enum Code {
     OAUTH_NOT_FOUND_TOKEN(HttpStatus.NOT_FOUND, 404702, "유효한 소셜 서버 Access Token이 아닙니다."),
     INVALID_CRYPTOGRAM(HttpStatus.BAD_REQUEST, 400701, "유효하지 않은 암호문입니다."),
     INVALID_BACK_TOKEN(HttpStatus.BAD_REQUEST, 400702, "유효하지 않은 back-token 입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, 400703, "유효하지 않은 커서입니다."),
 
     FOR_TEST_ERROR(HttpStatus.BAD_REQUEST,49999, "테스트용 에러")
 
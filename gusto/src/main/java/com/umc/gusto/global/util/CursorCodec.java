@@ -0,0 +1,221 @@
+package com.umc.gusto.global.util;
+
+import com.umc.gusto.global.exception.Code;
+import com.umc.gusto.global.exception.GeneralException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이징용 커서 토큰
+ * 정렬 키 전체(예: visitedAt + reviewId, storeName + pinId)를 직렬화해 HMAC 서명 후 Base64url 로 내려준다.
+ * 서명에 scope(목록 종류)를 함께 넣어 다른 목록의 커서를 재사용하거나 값을 조작하면 INVALID_CURSOR 로 거절한다.
+ *
+ * 조회 쿼리는 size + 1 개를 가져오고(limit), slice() 가 다음 페이지 여부와 마지막 행의 커서를 만든다.
+ * 다음 페이지 조건은 인덱스 범위 탐색이 되도록 "a <= :a AND (a < :a OR b < :b)" 형태로 작성한다.
+ */
+@Component
+public class CursorCodec {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int MAC_LENGTH = 16;
+    private static final int MAX_TOKEN_LENGTH = 512;
+
+    private static final byte LONG = 'L';
+    private static final byte DATE = 'D';
+    private static final byte DATE_TIME = 'T';
+    private static final byte STRING = 'S';
+
+    private final SecretKeySpec key;
+
+    public CursorCodec(@Value("${gusto.security.cursor-key:${gusto.security.private-key}}") String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public record CursorSlice<T>(List<T> content, boolean hasNext, String nextCursor) {
+    }
+
+    /**
+     * 디코딩된 정렬 키
+     */
+    public static final class Cursor {
+        private final Object[] keys;
+
+        private Cursor(Object[] keys) {
+            this.keys = keys;
+        }
+
+        public int size() {
+            return keys.length;
+        }
+
+        public Long getLong(int index) {
+            return get(index, Long.class);
+        }
+
+        public LocalDate getDate(int index) {
+            return get(index, LocalDate.class);
+        }
+
+        public LocalDateTime getDateTime(int index) {
+            return get(index, LocalDateTime.class);
+        }
+
+        public String getString(int index) {
+            return get(index, String.class);
+        }
+
+        private <T> T get(int index, Class<T> type) {
+            if (index >= keys.length || !type.isInstance(keys[index])) {
+                throw new GeneralException(Code.INVALID_CURSOR);
+            }
+            return type.cast(keys[index]);
+        }
+    }
+
+    /**
+     * 한 페이지 + 다음 페이지 확인용 1개
+     */
+    public Pageable limit(int size) {
+        if (size < 1) {
+            throw new GeneralException(Code.INVALID_REQUEST);
+        }
+        return Pageable.ofSize(size + 1);
+    }
+
+    /**
+     * limit() 으로 조회한 결과를 size 개로 자르고, 다음 페이지가 있으면 마지막 행의 정렬 키로 커서 생성
+     */
+    public <T> CursorSlice<T> slice(String scope, List<T> fetched, int size, Function<T, Object[]> sortKey) {
+        if (size < 1) {
+            throw new GeneralException(Code.INVALID_REQUEST);
+        }
+        if (fetched.size() <= size) {
+            return new CursorSlice<>(fetched, false, null);
+        }
+        List<T> content = fetched.subList(0, size);
+        return new CursorSlice<>(content, true, encode(scope, sortKey.apply(content.get(size - 1))));
+    }
+
+    public String encode(String scope, Object... keys) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(VERSION);
+            out.writeByte(keys.length);
+            for (Object value : keys) {
+                write(out, value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] payload = buffer.toByteArray();
+        byte[] token = Arrays.copyOf(payload, payload.length + MAC_LENGTH);
+        System.arraycopy(sign(scope, payload), 0, token, payload.length, MAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * 커서가 없으면(첫 페이지) null
+     */
+    public Cursor decode(String scope, String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            throw new GeneralException(Code.INVALID_CURSOR);
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(Code.INVALID_CURSOR);
+        }
+        if (bytes.length <= MAC_LENGTH) {
+            throw new GeneralException(Code.INVALID_CURSOR);
+        }
+
+        byte[] payload = Arrays.copyOf(bytes, bytes.length - MAC_LENGTH);
+        byte[] mac = Arrays.copyOfRange(bytes, payload.length, bytes.length);
+        if (!MessageDigest.isEqual(mac, Arrays.copyOf(sign(scope, payload), MAC_LENGTH))) {
+            throw new GeneralException(Code.INVALID_CURSOR);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) {
+                throw new GeneralException(Code.INVALID_CURSOR);
+            }
+            Object[] keys = new Object[in.readUnsignedByte()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = read(in);
+            }
+            if (in.available() > 0) {
+                throw new GeneralException(Code.INVALID_CURSOR);
+            }
+            return new Cursor(keys);
+        } catch (IOException e) {
+            throw new GeneralException(Code.INVALID_CURSOR);
+        }
+    }
+
+    private static void write(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof Long number) {
+            out.writeByte(LONG);
+            out.writeLong(number);
+        } else if (value instanceof LocalDate date) {
+            out.writeByte(DATE);
+            out.writeLong(date.toEpochDay());
+        } else if (value instanceof LocalDateTime dateTime) {
+            out.writeByte(DATE_TIME);
+            out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(dateTime.getNano());
+        } else if (value instanceof String text) {
+            out.writeByte(STRING);
+            out.writeUTF(text);
+        } else {
+            throw new IllegalArgumentException("unsupported cursor key : " + value);
+        }
+    }
+
+    private static Object read(DataInputStream in) throws IOException {
+        try {
+            return switch (in.readByte()) {
+                case LONG -> in.readLong();
+                case DATE -> LocalDate.ofEpochDay(in.readLong());
+                case DATE_TIME -> LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                case STRING -> in.readUTF();
+                default -> throw new GeneralException(Code.INVALID_CURSOR);
+            };
+        } catch (DateTimeException e) {
+            throw new GeneralException(Code.INVALID_CURSOR);
+        }
+    }
+
+    private byte[] sign(String scope, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(scope.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
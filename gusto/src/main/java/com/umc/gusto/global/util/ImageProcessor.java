@@ -0,0 +1,267 @@
+package com.umc.gusto.global.util;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 이미지 메타데이터 제거 및 크기 변환
+ * 디코딩은 동시에 MAX_CONCURRENT_DECODES 개까지만 하고, 필요한 크기의 두 배 정도로만 건너뛰며 읽어 큰 원본도 메모리를 적게 쓴다.
+ */
+@Component
+public class ImageProcessor {
+    private static final long MAX_PIXELS = 50_000_000L;            // 이보다 큰 원본은 변환하지 않음
+    private static final int MAX_CONCURRENT_DECODES = 2;
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final int SOI = 0xD8;
+    private static final int SOS = 0xDA;
+    private static final int EOI = 0xD9;
+    private static final int APP1 = 0xE1;                           // EXIF, XMP
+    private static final int APP13 = 0xED;                          // IPTC
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private final Semaphore decodePermits = new Semaphore(MAX_CONCURRENT_DECODES);
+
+    /**
+     * JPEG 에서 EXIF(위치, 기기 정보 등)/XMP/IPTC 를 지움
+     * 화면 방향은 유지해야 하므로 방향 값만 담은 EXIF 를 다시 넣는다. JPEG 가 아니면 그대로 돌려준다.
+     */
+    public byte[] stripMetadata(byte[] image) {
+        if (!isJpeg(image)) {
+            return image;
+        }
+        int orientation = readOrientation(image);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(image.length);
+        out.write(0xFF);
+        out.write(SOI);
+        if (orientation != 1) {
+            out.writeBytes(orientationSegment(orientation));
+        }
+
+        int position = 2;
+        while (position + 4 <= image.length) {
+            if ((image[position] & 0xFF) != 0xFF) {
+                return image;           // 예상하지 못한 구조면 손대지 않음
+            }
+            int marker = image[position + 1] & 0xFF;
+            if (marker == 0xFF) {       // 채움 바이트
+                position++;
+                continue;
+            }
+            if (marker == SOS || marker == EOI) {
+                break;
+            }
+            int end = position + 2 + readUnsignedShort(image, position + 2, true);
+            if (end > image.length) {
+                return image;
+            }
+            if (marker != APP1 && marker != APP13) {
+                out.write(image, position, end - position);
+            }
+            position = end;
+        }
+        out.write(image, position, image.length - position);
+        return out.toByteArray();
+    }
+
+    /**
+     * 긴 변이 maxSize 이하인 JPEG 로 변환 (EXIF 방향을 적용하고 메타데이터는 남기지 않음)
+     */
+    public byte[] resize(byte[] image, int maxSize) throws IOException {
+        decodePermits.acquireUninterruptibly();
+        try {
+            BufferedImage decoded = decode(image, maxSize);
+            BufferedImage scaled = scale(decoded, maxSize);
+            return encodeJpeg(orient(scaled, isJpeg(image) ? readOrientation(image) : 1));
+        } finally {
+            decodePermits.release();
+        }
+    }
+
+    // 필요한 크기의 두 배 이상이 남는 범위에서 픽셀을 건너뛰며 읽음
+    private static BufferedImage decode(byte[] image, int maxSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(image))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    throw new IOException("이미지가 너무 큽니다. (" + width + "x" + height + ")");
+                }
+                int step = Math.max(1, Math.max(width, height) / (maxSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 투명 배경은 흰색으로 채움
+    private static BufferedImage scale(BufferedImage source, int maxSize) {
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    // 회전 방향(3, 6, 8)만 적용하고 좌우 반전 방향은 그대로 둠
+    private static BufferedImage orient(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = new AffineTransform();
+        BufferedImage rotated;
+        switch (orientation) {
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+                rotated = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+                rotated = new BufferedImage(height, width, BufferedImage.TYPE_INT_RGB);
+            }
+            case 8 -> {
+                transform.translate(0, width);
+                transform.rotate(-Math.PI / 2);
+                rotated = new BufferedImage(height, width, BufferedImage.TYPE_INT_RGB);
+            }
+            default -> {
+                return source;
+            }
+        }
+        Graphics2D graphics = rotated.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rotated;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // SOI 뒤에 바로 다음 마커가 오는지로 판단 (앞 3바이트만으로 확인 가능)
+    public static boolean isJpeg(byte[] image) {
+        return image.length >= 3 && (image[0] & 0xFF) == 0xFF && (image[1] & 0xFF) == SOI && (image[2] & 0xFF) == 0xFF;
+    }
+
+    // EXIF 의 방향 값 (없거나 읽을 수 없으면 1)
+    private static int readOrientation(byte[] image) {
+        int position = 2;
+        while (position + 4 <= image.length && (image[position] & 0xFF) == 0xFF) {
+            int marker = image[position + 1] & 0xFF;
+            if (marker == SOS || marker == EOI) {
+                return 1;
+            }
+            int length = readUnsignedShort(image, position + 2, true);
+            if (marker == APP1 && isExifHeader(image, position + 4)) {
+                return readOrientationFromTiff(image, position + 10, position + 2 + length);
+            }
+            position += 2 + length;
+        }
+        return 1;
+    }
+
+    private static boolean isExifHeader(byte[] image, int position) {
+        return position + 6 <= image.length
+                && image[position] == 'E' && image[position + 1] == 'x' && image[position + 2] == 'i' && image[position + 3] == 'f'
+                && image[position + 4] == 0 && image[position + 5] == 0;
+    }
+
+    private static int readOrientationFromTiff(byte[] image, int tiff, int end) {
+        if (tiff + 8 > end || end > image.length) {
+            return 1;
+        }
+        boolean bigEndian = image[tiff] == 'M';
+        long ifdOffset = readUnsignedInt(image, tiff + 4, bigEndian);
+        int ifd = tiff + (int) Math.min(ifdOffset, Integer.MAX_VALUE - tiff);
+        if (ifd + 2 > end) {
+            return 1;
+        }
+        int entries = readUnsignedShort(image, ifd, bigEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (readUnsignedShort(image, entry, bigEndian) == ORIENTATION_TAG) {
+                int orientation = readUnsignedShort(image, entry + 8, bigEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    // 방향 태그 하나만 담은 APP1 세그먼트
+    private static byte[] orientationSegment(int orientation) {
+        return new byte[]{
+                (byte) 0xFF, (byte) APP1, 0, 34,
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,                // TIFF 헤더 (big endian, IFD0 은 8)
+                0, 1,                                       // 항목 1개
+                1, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0                                  // 다음 IFD 없음
+        };
+    }
+
+    private static int readUnsignedShort(byte[] bytes, int position, boolean bigEndian) {
+        int first = bytes[position] & 0xFF;
+        int second = bytes[position + 1] & 0xFF;
+        return bigEndian ? (first << 8) | second : (second << 8) | first;
+    }
+
+    private static long readUnsignedInt(byte[] bytes, int position, boolean bigEndian) {
+        long high = readUnsignedShort(bytes, bigEndian ? position : position + 2, bigEndian);
+        long low = readUnsignedShort(bytes, bigEndian ? position + 2 : position, bigEndian);
+        return (high << 16) | low;
+    }
+}
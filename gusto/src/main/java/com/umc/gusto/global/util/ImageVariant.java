@@ -0,0 +1,17 @@
+package com.umc.gusto.global.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원본 이미지에서 만드는 변환본 (긴 변 기준 최대 크기)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMB("thumb", 240),        // 피드/캘린더 격자, 프로필 목록
+    MEDIUM("medium", 720);      // 랜덤 피드 큰 타일
+
+    private final String suffix;
+    private final int maxSize;
+}
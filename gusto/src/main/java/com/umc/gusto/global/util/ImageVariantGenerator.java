@@ -0,0 +1,76 @@
+package com.umc.gusto.global.util;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 업로드된 원본으로 변환본(ImageVariant)을 만들어 S3 에 올리는 작업을 요청 스레드 밖에서 처리
+ * 작업자 수와 대기열을 제한하고, 대기열이 가득 차면 작업을 버린다. (요청/커밋 이후 스레드에서 변환하지 않음)
+ * 버려지거나 실패한 변환본은 ImageVariantSweeper 가 주기적으로 다시 요청한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+    private static final int WORKERS = 2;
+    private static final int QUEUE_SIZE = 200;
+
+    private final S3Service s3Service;
+    private final ImageProcessor imageProcessor;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_SIZE), new ThreadPoolExecutor.AbortPolicy());
+
+    /**
+     * 버킷의 이미지이면 변환본을 만들어 올린 뒤 onGenerated 에 변환본 URL 을 넘김
+     * 대기열이 가득 차 작업을 버렸으면 false
+     */
+    public boolean generate(String originalUrl, Consumer<Map<ImageVariant, String>> onGenerated) {
+        if (originalUrl == null || s3Service.getFileName(originalUrl) == null) {
+            return true;
+        }
+        try {
+            executor.execute(() -> convert(originalUrl, onGenerated));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변환 대기열이 가득 차 건너뜀 : {}", originalUrl);
+            return false;
+        }
+    }
+
+    /**
+     * 대기열이 절반 넘게 비어 있는지 (주기 작업은 요청에서 들어오는 변환 몫을 남겨 두고 채운다)
+     */
+    public boolean hasSpareCapacity() {
+        return executor.getQueue().remainingCapacity() > QUEUE_SIZE / 2;
+    }
+
+    private void convert(String originalUrl, Consumer<Map<ImageVariant, String>> onGenerated) {
+        try {
+            byte[] original = s3Service.downloadImage(originalUrl);
+            Map<ImageVariant, String> variants = new EnumMap<>(ImageVariant.class);
+            for (ImageVariant variant : ImageVariant.values()) {
+                variants.put(variant, s3Service.uploadVariant(originalUrl, variant, imageProcessor.resize(original, variant.getMaxSize())));
+            }
+            onGenerated.accept(variants);
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 변환 실패 : {}", originalUrl, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -2,10 +2,13 @@ package com.umc.gusto.global.util;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -13,6 +16,13 @@ import java.util.concurrent.TimeUnit;
 public class RedisService {
     private final RedisTemplate<String, String> redisTemplate;
 
+    // 자신이 잡은 잠금일 때만 삭제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+    // 자신이 잡은 잠금일 때만 만료 시간 연장
+    private static final DefaultRedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
     public void setValuesWithTimeout(String key, String value, long timeout) {
         redisTemplate.opsForValue().set(key, value, timeout, TimeUnit.MILLISECONDS);
     }
@@ -25,4 +35,27 @@ public class RedisService {
     public void deleteValues(String key) {
         redisTemplate.delete(key);
     }
+
+    /**
+     * 여러 인스턴스 중 하나만 실행해야 하는 작업용 잠금 (SET NX PX)
+     * 잡으면 해제할 때 쓸 토큰을, 이미 다른 곳에서 잡고 있으면 빈 값을 반환한다.
+     */
+    public Optional<String> tryLock(String key, long timeout) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, timeout, TimeUnit.MILLISECONDS);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    public void unlock(String key, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+    }
+
+    /**
+     * 오래 걸리는 작업이 잠금을 계속 쥐고 있도록 만료 시간을 다시 timeout 으로 늘린다.
+     * 이미 만료되어 다른 곳이 잡았으면 false 를 반환한다.
+     */
+    public boolean extendLock(String key, String token, long timeout) {
+        Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(key), token, String.valueOf(timeout));
+        return extended != null && extended == 1L;
+    }
 }
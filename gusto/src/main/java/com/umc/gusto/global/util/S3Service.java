@@ -1,11 +1,20 @@
 package com.umc.gusto.global.util;
 
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.services.s3.transfer.Upload;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,23 +23,47 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
+    private static final long MULTIPART_THRESHOLD = 8L * 1024 * 1024;     // 8MB 이상은 멀티파트 업로드
+    private static final int UPLOAD_THREADS = 8;
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+    private static final int JPEG_HEADER_LENGTH = 3;
+
     private final AmazonS3 amazonS3;
+    private final ImageProcessor imageProcessor;
+    private TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
 
+    @PostConstruct
+    void initTransferManager() {
+        transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(MULTIPART_THRESHOLD)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(UPLOAD_THREADS))
+                .withShutDownThreadPools(true)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdownTransferManager() {
+        transferManager.shutdownNow(false);
+    }
+
      // 파일 업로드 시 파일명을 난수화(중복 방지)하기 위해 random 으로 돌림
     private String createFileName(String fileName) {
         return UUID.randomUUID().toString().concat(getFileExtension(fileName));
@@ -51,50 +84,166 @@ public class S3Service {
 
     // MultipartFile 단일 이미지를 S3에 업로드
     public String uploadImage(MultipartFile image) {
-        String fileName = createFileName(image.getOriginalFilename());
+        return uploadImages(List.of(image)).get(0);
+    }
 
-        ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentLength(image.getSize());
-        objectMetadata.setContentType(image.getContentType());
-
-        try (InputStream inputStream = image.getInputStream()) {
-            amazonS3.putObject(
-                    new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                            .withCannedAcl(CannedAccessControlList.PublicRead));
-        } catch (IOException e) {
+    /**
+     * MultipartFile List 다수의 이미지를 S3에 동시에 업로드
+     * TransferManager 의 제한된 스레드 풀에서 병렬로 올리고, MULTIPART_THRESHOLD 이상인 파일은 멀티파트로 나눠 올린다.
+     * 하나라도 실패하면 이미 올라간 파일을 지우고 예외를 던진다.
+     * DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 호출한다.
+     */
+    public List<String> uploadImages(List<MultipartFile> images) {
+        // 파일명 검사는 업로드를 시작하기 전에 모두 마침
+        List<String> fileNames = images.stream()
+                .map(file -> createFileName(file.getOriginalFilename()))
+                .toList();
+        List<Upload> uploads = new ArrayList<>();
+        List<InputStream> inputStreams = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < images.size(); i++) {
+                MultipartFile file = images.get(i);
+                String fileName = fileNames.get(i);
+
+                ObjectMetadata objectMetadata = new ObjectMetadata();
+                objectMetadata.setContentType(file.getContentType());
+
+                // JPEG 는 위치/기기 정보가 담긴 EXIF 를 지우고 올림 (클라이언트가 보낸 content type 이 아니라 파일 앞부분으로 판단)
+                InputStream inputStream;
+                if (ImageProcessor.isJpeg(readHeader(file))) {
+                    byte[] stripped = imageProcessor.stripMetadata(file.getBytes());
+                    objectMetadata.setContentType(JPEG_CONTENT_TYPE);
+                    objectMetadata.setContentLength(stripped.length);
+                    inputStream = new ByteArrayInputStream(stripped);
+                } else {
+                    objectMetadata.setContentLength(file.getSize());
+                    inputStream = file.getInputStream();
+                }
+                inputStreams.add(inputStream);
+                uploads.add(transferManager.upload(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
+                        .withCannedAcl(CannedAccessControlList.PublicRead)));
+            }
+
+            for (Upload upload : uploads) {
+                upload.waitForCompletion();
+            }
+        } catch (IOException | AmazonClientException e) {
+            rollbackUploads(fileNames, uploads);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "파일 업로드에 실패했습니다.");
+        } catch (InterruptedException e) {
+            rollbackUploads(fileNames, uploads);
+            Thread.currentThread().interrupt();
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
                     "파일 업로드에 실패했습니다.");
+        } finally {
+            inputStreams.forEach(this::closeQuietly);
         }
-        log.info("편리한 이미지 정보 확인 로그 :"+fileName);
-        return amazonS3.getUrl(bucket, fileName).toString();
+
+        log.info("편리한 이미지 정보 확인 로그 :"+fileNames);
+        return fileNames.stream()
+                .map(fileName -> amazonS3.getUrl(bucket, fileName).toString())
+                .toList();
     }
 
+    // 원본 이미지 내려받기 (변환본 생성용)
+    public byte[] downloadImage(String url) throws IOException {
+        String fileName = getFileName(url);
+        if (fileName == null) {
+            throw new IOException("버킷의 이미지가 아닙니다. (" + url + ")");
+        }
+        try (S3Object object = amazonS3.getObject(bucket, fileName);
+             InputStream inputStream = object.getObjectContent()) {
+            return inputStream.readAllBytes();
+        } catch (AmazonClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    // 원본 파일명에 변환본 이름을 붙여 올림 (예: {uuid}_thumb.jpg)
+    public String uploadVariant(String originalUrl, ImageVariant variant, byte[] jpeg) {
+        String fileName = variantFileName(getFileName(originalUrl), variant);
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(jpeg.length);
+        objectMetadata.setContentType(JPEG_CONTENT_TYPE);
+
+        amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(jpeg), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+        return amazonS3.getUrl(bucket, fileName).toString();
+    }
 
-     // MultipartFile List 다수의 이미지를 S3에 업로드
-     public List<String> uploadImages(List<MultipartFile> images) {
-         List<String> fileUrlList = new ArrayList<>();
+    /**
+     * 업로드 후 DB 반영에 실패했거나 교체된 이미지 삭제 (실패해도 예외를 던지지 않음)
+     * variants 는 그 이미지들로 만든 변환본으로, 원본과 함께 한 번의 요청으로 지운다.
+     */
+    public void deleteImagesQuietly(List<String> urls, ImageVariant... variants) {
+        List<String> fileNames = new ArrayList<>();
+        for (String url : urls) {
+            String fileName = getFileName(url);
+            if (fileName == null) {
+                continue;
+            }
+            fileNames.add(fileName);
+            for (ImageVariant variant : variants) {
+                fileNames.add(variantFileName(fileName, variant));
+            }
+        }
+        deleteQuietly(fileNames);
+    }
 
-         images.forEach(file -> {
-             String fileName = createFileName(file.getOriginalFilename());
+    /**
+     * 실패한 배치에서 올라간 파일을 되돌림
+     * abort() 는 이미 보낸 PUT 을 멈추지 못해 중단 뒤에 완료되는 파일이 남을 수 있으므로,
+     * 모든 업로드가 끝나기를 기다린 뒤 실패하지 않은 파일을 지운다.
+     */
+    private void rollbackUploads(List<String> fileNames, List<Upload> uploads) {
+        List<String> uploaded = new ArrayList<>();
+        boolean interrupted = false;
+        for (int i = 0; i < uploads.size(); i++) {
+            try {
+                uploads.get(i).waitForCompletion();
+            } catch (AmazonClientException e) {
+                continue;       // 실패한 업로드는 남은 파일이 없음 (멀티파트는 SDK 가 중단 처리)
+            } catch (InterruptedException e) {
+                // 끝까지 기다리지 못해도 키는 지운다
+                interrupted = true;
+                log.warn("업로드 완료 대기 중단 : {}", fileNames.get(i));
+            }
+            uploaded.add(fileNames.get(i));
+        }
+        deleteQuietly(uploaded);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-             ObjectMetadata objectMetadata = new ObjectMetadata();
-             objectMetadata.setContentLength(file.getSize());
-             objectMetadata.setContentType(file.getContentType());
+    private void deleteQuietly(List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return;
+        }
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+                    .withKeys(fileNames.stream().map(KeyVersion::new).toList())
+                    .withQuiet(true));
+        } catch (AmazonClientException e) {
+            log.warn("업로드 이미지 정리 실패 : {}", fileNames);
+        }
+    }
 
-             try(InputStream inputStream = file.getInputStream()) {
-                 amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                         .withCannedAcl(CannedAccessControlList.PublicRead));
-             } catch(IOException e) {
-                 throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                         "파일 업로드에 실패했습니다.");
-             }
-             String fileUrl = amazonS3.getUrl(bucket, fileName).toString();
-             log.info("편리한 이미지 정보 확인 로그 :"+fileName);
-             fileUrlList.add(fileUrl);
-         });
+    private static byte[] readHeader(MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            return inputStream.readNBytes(JPEG_HEADER_LENGTH);
+        }
+    }
 
-         return fileUrlList;
-     }
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+        }
+    }
 
     public void deleteImage(String fileName) {
         try {
@@ -120,4 +269,9 @@ public class S3Service {
             deleteImage(fileName);
         }
     }
+
+    private static String variantFileName(String fileName, ImageVariant variant) {
+        int extension = fileName.lastIndexOf('.');
+        return (extension < 0 ? fileName : fileName.substring(0, extension)) + "_" + variant.getSuffix() + ".jpg";
+    }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.umc.gusto.domain.review.index;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HashTagIndexTest {
+    private static final long LARGE_ID = Integer.MAX_VALUE + 10L;
+
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final HashTagIndex index = new HashTagIndex(reviewRepository);
+
+    @Test
+    void matchAllReturnsReviewsHavingEveryTagNewestFirst() {
+        tag(1L, 10L, 20L);
+        tag(2L, 10L);
+        tag(3L, 10L, 20L);
+        tag(LARGE_ID, 10L, 20L);
+
+        assertThat(search(List.of(10L, 20L), true, null, 10)).containsExactly(LARGE_ID, 3L, 1L);
+        assertThat(search(List.of(10L, 30L), true, null, 10)).isEmpty();
+        assertThat(index.matches(List.of(10L, 20L), true, LARGE_ID)).isTrue();
+        assertThat(index.matches(List.of(10L, 20L), true, 2L)).isFalse();
+    }
+
+    @Test
+    void matchAnyMergesListsWithoutDuplicates() {
+        tag(1L, 10L);
+        tag(2L, 20L);
+        tag(3L, 10L, 20L);
+        tag(5L, 30L);
+
+        assertThat(search(List.of(10L, 20L, 40L), false, null, 10)).containsExactly(3L, 2L, 1L);
+        assertThat(index.matches(List.of(20L, 30L), false, 5L)).isTrue();
+        assertThat(index.matches(List.of(20L, 30L), false, 1L)).isFalse();
+    }
+
+    @Test
+    void pagesBelowTheCursorUpToLimit() {
+        for (long reviewId = 1; reviewId <= 5; reviewId++) {
+            tag(reviewId, 10L);
+        }
+
+        assertThat(search(List.of(10L), true, null, 2)).containsExactly(5L, 4L);
+        assertThat(search(List.of(10L), true, 4L, 2)).containsExactly(3L, 2L);
+        assertThat(search(List.of(10L), false, 2L, 2)).containsExactly(1L);
+        assertThat(index.search(List.of(10L), false, null, 10, reviewId -> reviewId % 2 == 0)).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void retaggedAndRemovedReviewsLeaveOldTags() {
+        tag(1L, 10L);
+        tag(2L, 10L);
+        tag(1L, 20L);
+        tag(2L);
+
+        assertThat(search(List.of(10L), false, null, 10)).isEmpty();
+        assertThat(search(List.of(20L), false, null, 10)).containsExactly(1L);
+    }
+
+    private void tag(Long reviewId, Long... hashTagIds) {
+        when(reviewRepository.findHashTagIdsOfSearchableReview(reviewId)).thenReturn(List.of(hashTagIds));
+        index.onReviewChanged(new ReviewChangedEvent(reviewId, null, null, null, null, ReviewChangedEvent.Type.UPDATED, null));
+    }
+
+    private List<Long> search(List<Long> hashTagIds, boolean matchAll, Long cursorId, int limit) {
+        return index.search(hashTagIds, matchAll, cursorId, limit, reviewId -> true);
+    }
+}
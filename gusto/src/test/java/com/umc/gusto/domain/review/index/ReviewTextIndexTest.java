@@ -0,0 +1,127 @@
+package com.umc.gusto.domain.review.index;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.review.index.ReviewTextIndex.Position;
+import com.umc.gusto.domain.review.index.ReviewTextIndex.SearchResult;
+import com.umc.gusto.domain.review.model.ReviewTextVO;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReviewTextIndexTest {
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final ReviewTextIndex index = new ReviewTextIndex(reviewRepository);
+
+    @Test
+    void indexesCharactersAndPairsPerWord() {
+        assertThat(ReviewTextIndex.indexTerms("빵집 A1!")).containsExactly("빵", "빵집", "집", "a", "a1", "1");
+        assertThat(ReviewTextIndex.indexTerms(null)).isEmpty();
+    }
+
+    @Test
+    void queriesPairsAndSingleCharacterWordsOnly() {
+        assertThat(ReviewTextIndex.queryTerms("빵 감자탕")).containsExactly("빵", "감자", "자탕");
+        assertThat(ReviewTextIndex.queryTerms(" ,. ")).isEmpty();
+    }
+
+    @Test
+    void requiresEveryQueryTermAndWeighsStoreNameAboveComment() {
+        put(1L, "냉면집", null, "국밥도 팝니다");
+        put(2L, "국밥", null, "맛있다");
+        put(3L, "냉면", null, "시원하다");
+        put(4L, "국수", null, "밥이 맛있다");
+
+        assertThat(search("국밥", null, 10).reviewIds()).containsExactly(2L, 1L);
+        assertThat(search("국밥집", null, 10).reviewIds()).isEmpty();
+        assertThat(search("밥", null, 10).reviewIds()).containsExactly(2L, 4L, 1L);
+        assertThat(search("짜장", null, 10).reviewIds()).isEmpty();
+    }
+
+    @Test
+    void equalScoresAreOrderedByNewestReview() {
+        put(1L, null, null, "국밥");
+        put(2L, null, null, "국밥");
+        put(3L, null, null, "국밥");
+
+        assertThat(search("국밥", null, 10).reviewIds()).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void laterPagesScoreWithTheFirstPageStats() {
+        put(1L, null, null, "국밥");
+        put(2L, null, null, "국밥 맛집");
+        put(3L, null, null, "국밥 정말 맛있는 집");
+
+        SearchResult first = search("국밥", null, 1);
+        assertThat(first.reviewIds()).containsExactly(1L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.last().stats().documentCount()).isEqualTo(3L);
+
+        // 같은 토큰을 가진 리뷰가 늘어 현재 idf 로는 모든 점수가 내려간 상태
+        for (long reviewId = 10; reviewId < 20; reviewId++) {
+            put(reviewId, null, null, "국밥 국밥 국밥 국밥 국밥 국밥 국밥 국밥");
+        }
+
+        List<Long> rest = new ArrayList<>();
+        Position after = first.last();
+        SearchResult page;
+        do {
+            page = search("국밥", after, 1);
+            rest.addAll(page.reviewIds());
+            after = page.last();
+        } while (page.hasNext());
+
+        // 이미 내려간 리뷰는 다시 나오지 않고, 남은 리뷰는 첫 페이지와 같은 순서로 이어진다
+        assertThat(rest.stream().filter(reviewId -> reviewId < 10).toList()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void removedReviewLeavesNoPostings() {
+        put(1L, "국밥", null, null);
+        when(reviewRepository.findSearchableText(1L)).thenReturn(List.of());
+        index.onReviewChanged(event(1L, ReviewChangedEvent.Type.DELETED));
+
+        assertThat(search("국밥", null, 10).reviewIds()).isEmpty();
+    }
+
+    private void put(Long reviewId, String storeName, String menuName, String comment) {
+        when(reviewRepository.findSearchableText(reviewId)).thenReturn(List.of(new Text(reviewId, storeName, menuName, comment)));
+        index.onReviewChanged(event(reviewId, ReviewChangedEvent.Type.CREATED));
+    }
+
+    private static ReviewChangedEvent event(Long reviewId, ReviewChangedEvent.Type type) {
+        return new ReviewChangedEvent(reviewId, null, null, null, null, type, null);
+    }
+
+    private SearchResult search(String keyword, Position after, int size) {
+        return index.search(keyword, after, size, reviewId -> true);
+    }
+
+    private record Text(Long reviewId, String storeName, String menuName, String comment) implements ReviewTextVO {
+        @Override
+        public Long getReviewId() {
+            return reviewId;
+        }
+
+        @Override
+        public String getStoreName() {
+            return storeName;
+        }
+
+        @Override
+        public String getMenuName() {
+            return menuName;
+        }
+
+        @Override
+        public String getComment() {
+            return comment;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.umc.gusto.domain.review.service;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.review.event.ReviewLikesFlushedEvent;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.global.util.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DB 없이 ReviewLikeCounter 의 증감 누적/반영을 확인한다.
+ * Redis 는 명령 단위로 원자적인 메모리 구현으로, Review.liked 는 리뷰별 합계로 대신한다.
+ */
+class ReviewLikeCounterTest {
+    private static final long REVIEW_ID = 1L;
+    private static final long STORE_ID = 10L;
+
+    private final Map<String, Map<String, Long>> redis = new HashMap<>();
+    private final Map<Long, Integer> likedColumn = new ConcurrentHashMap<>();
+    private final List<ReviewLikesFlushedEvent> flushedEvents = new CopyOnWriteArrayList<>();
+    private ReviewRepository reviewRepository;
+    private ReviewLikeCounter counter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.increment(anyString(), any(), anyLong())).thenAnswer(invocation -> redis(() ->
+                redis.computeIfAbsent(invocation.getArgument(0), key -> new HashMap<>())
+                        .merge(invocation.getArgument(1), invocation.getArgument(2), Long::sum)));
+        when(hashOperations.entries(anyString())).thenAnswer(invocation -> redis(() -> {
+            Map<Object, Object> entries = new HashMap<>();
+            redis.getOrDefault(invocation.<String>getArgument(0), Map.of())
+                    .forEach((field, value) -> entries.put(field, String.valueOf(value)));
+            return entries;
+        }));
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation -> redis(() -> redis.containsKey(invocation.<String>getArgument(0))));
+        doAnswer(invocation -> redis(() -> redis.put(invocation.getArgument(1), redis.remove(invocation.<String>getArgument(0)))))
+                .when(redisTemplate).rename(anyString(), anyString());
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation -> redis(() -> redis.remove(invocation.<String>getArgument(0)) != null));
+
+        RedisService redisService = mock(RedisService.class);
+        when(redisService.tryLock(anyString(), anyLong())).thenReturn(Optional.of("token"));
+
+        reviewRepository = mock(ReviewRepository.class);
+        when(reviewRepository.addLiked(anyLong(), anyInt())).thenAnswer(invocation -> {
+            likedColumn.merge(invocation.getArgument(0), invocation.getArgument(1), Integer::sum);
+            return 1;
+        });
+
+        ApplicationEventPublisher eventPublisher = event -> flushedEvents.add((ReviewLikesFlushedEvent) event);
+        counter = new ReviewLikeCounter(reviewRepository, redisTemplate, redisService, eventPublisher,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void thousandConcurrentLikersAreCountedExactly() throws Exception {
+        int likers = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean liking = new AtomicBoolean(true);
+
+        // 좋아요가 쌓이는 동안에도 flush 가 계속 돈다
+        Future<?> flusher = Executors.newSingleThreadExecutor().submit(() -> {
+            while (liking.get()) {
+                counter.flush();
+            }
+        });
+
+        List<Future<?>> likes = new ArrayList<>();
+        for (int i = 0; i < likers; i++) {
+            ReviewChangedEvent.Type type = i % 4 == 0 ? ReviewChangedEvent.Type.UNLIKED : ReviewChangedEvent.Type.LIKED;
+            likes.add(executor.submit(() -> {
+                start.await();
+                counter.onReviewChanged(event(type));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> like : likes) {
+            like.get(10, TimeUnit.SECONDS);
+        }
+        liking.set(false);
+        flusher.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        counter.flush();
+
+        // 750 번 좋아요, 250 번 취소
+        assertThat(likedColumn.get(REVIEW_ID)).isEqualTo(500);
+        assertThat(redis).isEmpty();
+        assertThat(flushedEvents).isNotEmpty()
+                .allSatisfy(event -> assertThat(event.storeIds()).containsExactly(STORE_ID));
+    }
+
+    @Test
+    void failedFlushIsRetriedWithoutLosingDeltas() {
+        counter.onReviewChanged(event(ReviewChangedEvent.Type.LIKED));
+        counter.onReviewChanged(event(ReviewChangedEvent.Type.LIKED));
+        doThrow(new IllegalStateException("db down")).when(reviewRepository).addLiked(anyLong(), anyInt());
+
+        counter.flush();
+        assertThat(likedColumn).isEmpty();
+        assertThat(flushedEvents).isEmpty();
+
+        // 실패한 사이에 들어온 좋아요는 다음 flush 로 넘어간다
+        counter.onReviewChanged(event(ReviewChangedEvent.Type.LIKED));
+        doAnswer(invocation -> {
+            likedColumn.merge(invocation.getArgument(0), invocation.getArgument(1), Integer::sum);
+            return 1;
+        }).when(reviewRepository).addLiked(anyLong(), anyInt());
+
+        counter.flush();
+        assertThat(likedColumn.get(REVIEW_ID)).isEqualTo(2);
+        counter.flush();
+        assertThat(likedColumn.get(REVIEW_ID)).isEqualTo(3);
+        assertThat(redis).isEmpty();
+    }
+
+    @Test
+    void otherReviewEventsAreIgnored() {
+        counter.onReviewChanged(event(ReviewChangedEvent.Type.CREATED));
+        counter.onReviewChanged(event(ReviewChangedEvent.Type.UPDATED));
+        counter.flush();
+
+        assertThat(redis).isEmpty();
+        verifyNoInteractions(reviewRepository);
+    }
+
+    private static ReviewChangedEvent event(ReviewChangedEvent.Type type) {
+        return new ReviewChangedEvent(REVIEW_ID, STORE_ID, "11010101", "한식", UUID.randomUUID(), type, null);
+    }
+
+    // Redis 명령 하나는 다른 명령과 섞이지 않는다
+    private <T> T redis(Callable<T> command) throws Exception {
+        synchronized (redis) {
+            return command.call();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.store.entity.OpeningHours.BusinessDay;
+import com.umc.gusto.domain.store.model.OpeningHoursVO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpeningScheduleTest {
+    // 2024-01-01 은 월요일
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void openBetweenOpeningAndClosingTime() {
+        long[] slots = OpeningSchedule.compile(List.of(hours(BusinessDay.MONDAY, "09:00", "21:00")));
+
+        assertThat(isOpen(slots, 0, "08:59")).isFalse();
+        assertThat(isOpen(slots, 0, "09:00")).isTrue();
+        assertThat(isOpen(slots, 0, "20:59")).isTrue();
+        assertThat(isOpen(slots, 0, "21:00")).isFalse();
+        assertThat(isOpen(slots, 1, "12:00")).isFalse();
+    }
+
+    @Test
+    void roundsOpeningUpAndClosingDownToSlots() {
+        long[] slots = OpeningSchedule.compile(List.of(hours(BusinessDay.MONDAY, "09:10", "21:50")));
+
+        assertThat(isOpen(slots, 0, "09:14")).isFalse();
+        assertThat(isOpen(slots, 0, "09:15")).isTrue();
+        assertThat(isOpen(slots, 0, "21:44")).isTrue();
+        assertThat(isOpen(slots, 0, "21:45")).isFalse();
+    }
+
+    @Test
+    void overnightHoursContinueIntoNextDay() {
+        long[] slots = OpeningSchedule.compile(List.of(hours(BusinessDay.FRIDAY, "18:00", "02:00")));
+
+        assertThat(isOpen(slots, 4, "17:59")).isFalse();
+        assertThat(isOpen(slots, 4, "23:59")).isTrue();
+        assertThat(isOpen(slots, 5, "01:59")).isTrue();
+        assertThat(isOpen(slots, 5, "02:00")).isFalse();
+    }
+
+    @Test
+    void overnightSundayWrapsToMonday() {
+        long[] slots = OpeningSchedule.compile(List.of(hours(BusinessDay.SUNDAY, "20:00", "03:00")));
+
+        assertThat(isOpen(slots, 6, "22:00")).isTrue();
+        assertThat(isOpen(slots, 0, "02:45")).isTrue();
+        assertThat(isOpen(slots, 0, "03:00")).isFalse();
+    }
+
+    @Test
+    void sameOpeningAndClosingTimeMeansWholeDay() {
+        long[] slots = OpeningSchedule.compile(List.of(hours(BusinessDay.TUESDAY, "00:00", "00:00")));
+
+        assertThat(isOpen(slots, 1, "00:00")).isTrue();
+        assertThat(isOpen(slots, 1, "23:59")).isTrue();
+        assertThat(isOpen(slots, 2, "00:00")).isFalse();
+    }
+
+    @Test
+    void breakTimeIsClosedAndWidenedToWholeSlots() {
+        long[] slots = OpeningSchedule.compile(List.of(
+                hours(BusinessDay.MONDAY, "09:00", "21:00", "15:10", "16:20")));
+
+        assertThat(isOpen(slots, 0, "14:59")).isTrue();
+        assertThat(isOpen(slots, 0, "15:00")).isFalse();
+        assertThat(isOpen(slots, 0, "16:29")).isFalse();
+        assertThat(isOpen(slots, 0, "16:30")).isTrue();
+    }
+
+    @Test
+    void overnightBreakTimeWrapsToNextDay() {
+        long[] slots = OpeningSchedule.compile(List.of(
+                hours(BusinessDay.SATURDAY, "18:00", "06:00", "23:30", "01:00")));
+
+        assertThat(isOpen(slots, 5, "23:15")).isTrue();
+        assertThat(isOpen(slots, 5, "23:30")).isFalse();
+        assertThat(isOpen(slots, 6, "00:45")).isFalse();
+        assertThat(isOpen(slots, 6, "01:00")).isTrue();
+    }
+
+    @Test
+    void missingTimesAreSkipped() {
+        long[] slots = OpeningSchedule.compile(List.of(
+                hours(BusinessDay.MONDAY, null, "21:00"),
+                hours(BusinessDay.TUESDAY, "09:00", "21:00", null, "15:00")));
+
+        assertThat(isOpen(slots, 0, "12:00")).isFalse();
+        assertThat(isOpen(slots, 1, "12:00")).isTrue();
+    }
+
+    @Test
+    void slotOfCountsFifteenMinuteSlotsFromMonday() {
+        assertThat(OpeningSchedule.slotOf(MONDAY)).isZero();
+        assertThat(OpeningSchedule.slotOf(at(0, "00:14"))).isZero();
+        assertThat(OpeningSchedule.slotOf(at(0, "00:15"))).isEqualTo(1);
+        assertThat(OpeningSchedule.slotOf(at(6, "23:59"))).isEqualTo(7 * 96 - 1);
+    }
+
+    private static boolean isOpen(long[] slots, int dayFromMonday, String time) {
+        return OpeningSchedule.isOpenAt(slots, at(dayFromMonday, time));
+    }
+
+    private static LocalDateTime at(int dayFromMonday, String time) {
+        return MONDAY.plusDays(dayFromMonday).with(LocalTime.parse(time));
+    }
+
+    private static OpeningHoursVO hours(BusinessDay day, String openedAt, String closedAt) {
+        return hours(day, openedAt, closedAt, null, null);
+    }
+
+    private static OpeningHoursVO hours(BusinessDay day, String openedAt, String closedAt, String breakStart, String breakEnd) {
+        return new Hours(day, time(openedAt), time(closedAt), time(breakStart), time(breakEnd));
+    }
+
+    private static LocalTime time(String value) {
+        return value != null ? LocalTime.parse(value) : null;
+    }
+
+    private record Hours(BusinessDay businessDay, LocalTime openedAt, LocalTime closedAt,
+                         LocalTime breakStart, LocalTime breakEnd) implements OpeningHoursVO {
+        @Override
+        public Long getOpHoursId() {
+            return null;
+        }
+
+        @Override
+        public Long getStoreId() {
+            return 1L;
+        }
+
+        @Override
+        public BusinessDay getBusinessDay() {
+            return businessDay;
+        }
+
+        @Override
+        public LocalTime getOpenedAt() {
+            return openedAt;
+        }
+
+        @Override
+        public LocalTime getClosedAt() {
+            return closedAt;
+        }
+
+        @Override
+        public LocalTime getBreakStart() {
+            return breakStart;
+        }
+
+        @Override
+        public LocalTime getBreakEnd() {
+            return breakEnd;
+        }
+    }
+}
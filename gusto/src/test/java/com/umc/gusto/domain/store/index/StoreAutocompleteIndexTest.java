@@ -0,0 +1,124 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.review.model.StoreCountVO;
+import com.umc.gusto.domain.review.repository.ReviewRepository;
+import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.store.index.StoreAutocompleteIndex.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StoreAutocompleteIndexTest {
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final StoreAutocompleteIndex index = new StoreAutocompleteIndex(reviewRepository);
+
+    @Test
+    void matchesSyllablePrefixChosungAndMixedInputFromStartOfName() {
+        popularity(Map.of(1L, 3L, 2L, 2L, 3L, 1L));
+        put(1L, "감자탕");
+        put(2L, "감나무집");
+        put(3L, "국밥");
+
+        assertThat(search("감", 10)).containsExactly(1L, 2L);
+        assertThat(search("ㄱㅈ", 10)).containsExactly(1L);
+        assertThat(search("감ㅈ", 10)).containsExactly(1L);
+        assertThat(search("ㄱ", 10)).containsExactly(1L, 2L, 3L);
+        assertThat(search("자탕", 10)).isEmpty();
+    }
+
+    @Test
+    void chosungOnlyInputAlsoMatchesWordInitials() {
+        popularity(Map.of(1L, 1L, 2L, 2L));
+        put(1L, "감자탕 맛집");
+        put(2L, "감말랑");
+        put(3L, "맛집");
+
+        assertThat(StoreAutocompleteIndex.wordInitials(" 감자탕  맛집 ")).isEqualTo("ㄱㅁ");
+        assertThat(StoreAutocompleteIndex.wordInitials("Gusto 카페")).isEqualTo("gㅋ");
+        // "감말랑" 은 가게명 앞부터, "감자탕 맛집" 은 단어 첫 글자로 맞음
+        assertThat(search("ㄱㅁ", 10)).containsExactly(2L, 1L);
+        // 음절이 섞인 입력은 가게명 앞부터만 맞춤
+        assertThat(search("감ㅁ", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void returnsMostPopularStoresFirstUpToSize() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (long id = 1; id <= 15; id++) {
+            counts.put(id, id);
+        }
+        popularity(counts);
+        counts.keySet().forEach(id -> put(id, "국밥" + id));
+
+        assertThat(search("국", StoreAutocompleteIndex.TOP_SIZE)).containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L);
+        assertThat(search("국밥", 3)).containsExactly(15L, 14L, 13L);
+        assertThat(search("국밥1", 3)).containsExactly(15L, 14L, 13L);
+        // 상위 목록이 없는 깊은 노드(TOP_DEPTH 초과)는 하위 트리를 순회
+        assertThat(search("국밥15", 3)).containsExactly(15L);
+    }
+
+    @Test
+    void removedAndRenamedStoresArePrunedFromTopLists() {
+        popularity(Map.of(1L, 3L, 2L, 2L, 3L, 1L));
+        put(1L, "감자탕");
+        put(2L, "감자전");
+        put(3L, "감자튀김");
+
+        index.remove(1L);
+        put(2L, "냉면");
+
+        assertThat(search("감자", 10)).containsExactly(3L);
+        assertThat(search("ㄱ", 10)).containsExactly(3L);
+        assertThat(search("냉", 10)).containsExactly(2L);
+
+        index.remove(3L);
+        assertThat(search("감", 10)).isEmpty();
+    }
+
+    @Test
+    void refreshReordersByNewPopularity() {
+        popularity(Map.of(1L, 1L, 2L, 2L));
+        put(1L, "감자탕 맛집");
+        put(2L, "감자전 명가");
+        assertThat(search("감자", 10)).containsExactly(2L, 1L);
+
+        popularity(Map.of(1L, 5L));
+        index.refreshPopularity();
+
+        assertThat(search("감자", 10)).containsExactly(1L, 2L);
+        assertThat(search("ㄱㅁ", 10)).containsExactly(1L, 2L);
+    }
+
+    private void popularity(Map<Long, Long> counts) {
+        List<StoreCountVO> rows = new ArrayList<>();
+        counts.forEach((storeId, count) -> rows.add(new Count(storeId, count)));
+        when(reviewRepository.countActiveReviewsGroupByStore()).thenReturn(rows);
+    }
+
+    private void put(Long storeId, String name) {
+        index.put(Store.builder().storeId(storeId).storeName(name).categoryString("한식").build());
+    }
+
+    private List<Long> search(String keyword, int size) {
+        return index.search(keyword, size).stream().map(Entry::storeId).toList();
+    }
+
+    private record Count(Long storeId, Long count) implements StoreCountVO {
+        @Override
+        public Long getStoreId() {
+            return storeId;
+        }
+
+        @Override
+        public Long getCount() {
+            return count;
+        }
+    }
+}
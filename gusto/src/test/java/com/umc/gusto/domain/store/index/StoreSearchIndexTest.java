@@ -0,0 +1,104 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.store.index.StoreSearchIndex.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreSearchIndexTest {
+    private final StoreSearchIndex index = new StoreSearchIndex();
+
+    @Test
+    void indexesEveryCharacterAndAdjacentPair() {
+        assertThat(StoreSearchIndex.indexGrams("감자탕")).containsExactlyInAnyOrder("감", "자", "탕", "감자", "자탕");
+        assertThat(StoreSearchIndex.queryGrams("감자탕")).containsExactlyInAnyOrder("감자", "자탕");
+        assertThat(StoreSearchIndex.queryGrams("감")).containsExactly("감");
+        assertThat(StoreSearchIndex.queryGrams("")).isEmpty();
+    }
+
+    @Test
+    void normalizeDropsWhitespaceAndLowercases() {
+        assertThat(StoreSearchIndex.normalize(" Gusto  Cafe\t1호점 ")).isEqualTo("gustocafe1호점");
+        assertThat(StoreSearchIndex.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void singleCharacterQueryUsesItsOwnPostings() {
+        put(1L, "감자탕", "한식");
+        put(2L, "냉면", "한식");
+        put(3L, "탕수육", "중식");
+
+        assertThat(search("탕", null, 10).storeIds()).containsExactly(3L, 1L);
+        assertThat(search("z", null, 10).storeIds()).isEmpty();
+        assertThat(search("  ", null, 10).storeIds()).isEmpty();
+    }
+
+    @Test
+    void storeHavingAllPairsButNotTheWholeQueryIsExcluded() {
+        // "가나나다" 는 가나, 나다 를 모두 가졌지만 "가나다" 를 포함하지 않음
+        put(1L, "가나 나다", "");
+        put(2L, "가나다라", "");
+
+        assertThat(search("가나다", null, 10).storeIds()).containsExactly(2L);
+    }
+
+    @Test
+    void ranksExactThenPrefixThenContainsAndPagesWithCursor() {
+        put(1L, "국밥", "한식");
+        put(2L, "국밥집", "한식");
+        put(3L, "순대국밥", "한식");
+        put(4L, "국밥 천국", "한식");
+        put(5L, "돼지국밥", "한식");
+        put(6L, "냉면집", "국밥");
+        put(7L, "냉면", "한식");
+
+        assertThat(search("국밥", null, 10).storeIds()).containsExactly(1L, 4L, 2L, 6L, 5L, 3L);
+
+        List<Long> paged = new ArrayList<>();
+        Long cursor = null;
+        SearchResult page;
+        do {
+            page = search("국밥", cursor, 2);
+            assertThat(page.storeIds()).hasSizeLessThanOrEqualTo(2);
+            paged.addAll(page.storeIds());
+            cursor = page.storeIds().isEmpty() ? null : page.storeIds().get(page.storeIds().size() - 1);
+        } while (page.hasNext());
+        assertThat(paged).containsExactly(1L, 4L, 2L, 6L, 5L, 3L);
+    }
+
+    @Test
+    void filterIsAppliedBeforePaging() {
+        put(1L, "국밥", "");
+        put(2L, "국밥집", "");
+        put(3L, "순대국밥", "");
+
+        SearchResult result = index.search("국밥", null, 1, storeId -> storeId != 1L);
+
+        assertThat(result.storeIds()).containsExactly(2L);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void renamedAndRemovedStoresLeaveNoStalePostings() {
+        put(1L, "감자탕", "");
+        put(1L, "냉면", "");
+        put(2L, "감자전", "");
+        index.remove(2L);
+
+        assertThat(search("감자", null, 10).storeIds()).isEmpty();
+        assertThat(search("감", null, 10).storeIds()).isEmpty();
+        assertThat(search("냉면", null, 10).storeIds()).containsExactly(1L);
+    }
+
+    private void put(Long storeId, String name, String category) {
+        index.put(Store.builder().storeId(storeId).storeName(name).categoryString(category).build());
+    }
+
+    private SearchResult search(String keyword, Long cursorId, int size) {
+        return index.search(keyword, cursorId, size, storeId -> true);
+    }
+}
@@ -0,0 +1,125 @@
+package com.umc.gusto.domain.store.index;
+
+import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.store.index.StoreSpatialIndex.StorePoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class StoreSpatialIndexTest {
+    private static final double CELL_METERS = 0.01 * 111_320.0;
+
+    private final StoreSpatialIndex index = new StoreSpatialIndex();
+
+    @Test
+    void cellsFloorTowardNegativeInfinity() {
+        assertThat(StoreSpatialIndex.cellOf(0.005)).isEqualTo(0);
+        assertThat(StoreSpatialIndex.cellOf(-0.005)).isEqualTo(-1);
+        assertThat(StoreSpatialIndex.cellOf(37.505)).isEqualTo(3750);
+        assertThat(StoreSpatialIndex.cellOf(-122.415)).isEqualTo(-12242);
+    }
+
+    @Test
+    void ringDistanceIsALowerBoundScaledByLongitude() {
+        // 중심 칸과 바로 옆 겹은 거리 0 부터 시작
+        assertThat(StoreSpatialIndex.ringDistance(0, 0.8)).isEqualTo(0.0);
+        assertThat(StoreSpatialIndex.ringDistance(1, 0.8)).isEqualTo(0.0);
+        assertThat(StoreSpatialIndex.ringDistance(2, 1.0)).isCloseTo(CELL_METERS, within(1e-6));
+        assertThat(StoreSpatialIndex.ringDistance(3, 0.5)).isCloseTo(CELL_METERS, within(1e-6));
+        // 경도 축소율은 1 을 넘지 않음
+        assertThat(StoreSpatialIndex.ringDistance(2, 1.5)).isEqualTo(StoreSpatialIndex.ringDistance(2, 1.0));
+    }
+
+    @Test
+    void nearestLooksIntoNeighbourCellsAcrossTheBoundary() {
+        put(1L, 37.5001, 127.005);     // 같은 칸이지만 약 1km
+        put(2L, 37.5105, 127.005);     // 위쪽 칸이지만 약 110m
+
+        assertThat(nearest(37.5095, 127.005, 1)).containsExactly(2L);
+        assertThat(nearest(37.5095, 127.005, 2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void nearestStopsExpandingOnceKIsFilledAndStaysWithinMaxRing() {
+        put(1L, 37.5005, 127.0005);
+        put(2L, 37.9005, 127.0005);    // 40 칸 떨어짐
+        put(3L, 36.0005, 127.0005);    // 150 칸 떨어짐 (MAX_SEARCH_RING 밖)
+
+        assertThat(nearest(37.5005, 127.0005, 1)).containsExactly(1L);
+        assertThat(nearest(37.5005, 127.0005, 5)).containsExactly(1L, 2L);
+        assertThat(index.findNearest(37.5005, 127.0005, 5, storeId -> storeId != 1L).stream()
+                .map(StorePoint::storeId).toList()).containsExactly(2L);
+    }
+
+    @Test
+    void longitudeDistanceShrinksWithLatitude() {
+        // 위도 60 도에서는 경도 1 도가 위도 1 도의 절반
+        put(1L, 60.0005, 10.0045);     // 동쪽 0.004 도, 약 223m
+        put(2L, 60.0035, 10.0005);     // 북쪽 0.003 도, 약 334m
+
+        assertThat(nearest(60.0005, 10.0005, 2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void equalDistancesAreOrderedByStoreId() {
+        put(9L, 37.5055, 127.0055);
+        put(4L, 37.5055, 127.0055);
+        put(6L, 37.5055, 127.0055);
+
+        assertThat(nearest(37.5, 127.0, 1)).containsExactly(4L);
+        assertThat(nearest(37.5, 127.0, 3)).containsExactly(4L, 6L, 9L);
+        assertThat(bounds(37.5, 127.0, 37.51, 127.01, 2)).containsExactly(4L, 6L);
+    }
+
+    @Test
+    void boundsKeepsTheLimitNearestToTheCenterOnBothScanPaths() {
+        put(1L, 37.511, 127.011);
+        put(2L, 37.505, 127.01);
+        put(3L, 37.52, 127.02);
+        put(4L, 37.496, 127.0);
+        put(5L, 37.53, 127.01);        // 영역 밖
+        put(6L, 37.525, 127.025);      // 영역 경계 (포함)
+
+        // 채워진 칸이 영역의 칸 수보다 적으면 채워진 칸만 확인
+        assertThat(bounds(37.495, 126.995, 37.525, 127.025, 2)).containsExactly(1L, 2L);
+        assertThat(bounds(37.495, 126.995, 37.525, 127.025, 10)).containsExactly(1L, 2L, 3L, 4L, 6L);
+
+        // 영역 밖 칸을 채워 영역의 칸을 직접 순회하게 해도 같은 결과
+        for (long storeId = 100; storeId < 130; storeId++) {
+            put(storeId, 36.0 + (storeId - 100) * 0.02, 120.0);
+        }
+        assertThat(bounds(37.495, 126.995, 37.525, 127.025, 2)).containsExactly(1L, 2L);
+        assertThat(bounds(37.495, 126.995, 37.525, 127.025, 10)).containsExactly(1L, 2L, 3L, 4L, 6L);
+        assertThat(index.findInBounds(37.495, 126.995, 37.525, 127.025, 10, storeId -> storeId != 1L).stream()
+                .map(StorePoint::storeId).toList()).containsExactly(2L, 3L, 4L, 6L);
+    }
+
+    @Test
+    void movedRemovedAndUnlocatedStoresLeaveTheirOldCell() {
+        put(1L, 37.5005, 127.0005);
+        put(1L, 37.6005, 127.1005);
+        put(2L, 37.5005, 127.0005);
+        index.put(Store.builder().storeId(2L).storeName("2").latitude(null).longitude(127.0).build());
+        put(3L, 37.6005, 127.1005);
+        index.remove(3L);
+
+        assertThat(bounds(37.5, 127.0, 37.501, 127.001, 10)).isEmpty();
+        assertThat(bounds(37.6, 127.1, 37.601, 127.101, 10)).containsExactly(1L);
+    }
+
+    private void put(Long storeId, double latitude, double longitude) {
+        index.put(Store.builder().storeId(storeId).storeName(String.valueOf(storeId)).latitude(latitude).longitude(longitude).build());
+    }
+
+    private List<Long> nearest(double latitude, double longitude, int k) {
+        return index.findNearest(latitude, longitude, k, storeId -> true).stream().map(StorePoint::storeId).toList();
+    }
+
+    private List<Long> bounds(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, int limit) {
+        return index.findInBounds(minLatitude, minLongitude, maxLatitude, maxLongitude, limit, storeId -> true).stream()
+                .map(StorePoint::storeId).toList();
+    }
+}
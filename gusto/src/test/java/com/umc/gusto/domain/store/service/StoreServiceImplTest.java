@@ -0,0 +1,111 @@
+package com.umc.gusto.domain.store.service;
+
+import com.umc.gusto.domain.myCategory.entity.Pin;
+import com.umc.gusto.domain.myCategory.repository.PinRepository;
+import com.umc.gusto.domain.review.service.StoreCoverCache;
+import com.umc.gusto.domain.store.entity.OpeningHours;
+import com.umc.gusto.domain.store.entity.Store;
+import com.umc.gusto.domain.store.model.response.GetStoreResponse;
+import com.umc.gusto.domain.store.repository.OpeningHoursRepository;
+import com.umc.gusto.domain.store.repository.StoreRepository;
+import com.umc.gusto.domain.user.entity.User;
+import com.umc.gusto.global.exception.GeneralException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreServiceImplTest {
+    @Mock
+    StoreRepository storeRepository;
+    @Mock
+    PinRepository pinRepository;
+    @Mock
+    OpeningHoursRepository openingHoursRepository;
+    @Mock
+    StoreCoverCache storeCoverCache;
+    @InjectMocks
+    StoreServiceImpl storeService;
+
+    // 가게 수와 관계없이 가게, 찜, 영업시간, 대표 이미지 조회는 한 번씩만 일어나야 한다
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getStoresQueriesOncePerSourceRegardlessOfStoreCount(int storeCount) {
+        User user = User.builder().nickname("user").build();
+        List<Long> storeIds = LongStream.rangeClosed(1, storeCount).boxed().toList();
+        List<Store> stores = storeIds.stream().map(this::store).toList();
+
+        when(storeRepository.findAllById(anyIterable())).thenReturn(stores);
+        when(pinRepository.findPinsByUserAndStoreIds(eq(user), anyCollection()))
+                .thenReturn(List.of(Pin.builder().pinId(100L).store(stores.get(0)).build()));
+        when(openingHoursRepository.findByStoreStoreIdIn(anyCollection()))
+                .thenReturn(stores.stream().map(this::openingHours).toList());
+        when(storeCoverCache.getCovers(anyCollection(), eq(3)))
+                .thenReturn(Map.of(1L, List.of("cover")));
+
+        List<GetStoreResponse> responses = storeService.getStores(user, storeIds);
+
+        assertThat(responses).extracting(GetStoreResponse::getStoreId).containsExactlyElementsOf(storeIds);
+        assertThat(responses.get(0).getPin()).isTrue();
+        assertThat(responses.get(0).getPinId()).isEqualTo(100L);
+        assertThat(responses.get(0).getReviewImg3()).containsExactly("cover");
+        assertThat(responses.get(0).getBusinessDay()).containsKey(OpeningHours.BusinessDay.MONDAY);
+
+        verify(storeRepository, times(1)).findAllById(anyIterable());
+        verify(pinRepository, times(1)).findPinsByUserAndStoreIds(eq(user), anyCollection());
+        verify(openingHoursRepository, times(1)).findByStoreStoreIdIn(anyCollection());
+        verify(storeCoverCache, times(1)).getCovers(anyCollection(), eq(3));
+        verifyNoMoreInteractions(storeRepository, pinRepository, openingHoursRepository, storeCoverCache);
+    }
+
+    @Test
+    void getStoresSkipsPinQueryWithoutUser() {
+        when(storeRepository.findAllById(anyIterable())).thenReturn(List.of(store(1L)));
+        when(openingHoursRepository.findByStoreStoreIdIn(anyCollection())).thenReturn(List.of());
+        when(storeCoverCache.getCovers(anyCollection(), eq(3))).thenReturn(Map.of());
+
+        List<GetStoreResponse> responses = storeService.getStores(null, List.of(1L));
+
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getPin()).isFalse();
+        verifyNoInteractions(pinRepository);
+    }
+
+    @Test
+    void getStoresFailsWhenAnyStoreIsMissing() {
+        when(storeRepository.findAllById(anyIterable())).thenReturn(List.of(store(1L)));
+
+        assertThatThrownBy(() -> storeService.getStores(null, List.of(1L, 2L)))
+                .isInstanceOf(GeneralException.class);
+    }
+
+    private Store store(Long storeId) {
+        return Store.builder()
+                .storeId(storeId)
+                .storeName("store" + storeId)
+                .address("address")
+                .build();
+    }
+
+    private OpeningHours openingHours(Store store) {
+        return OpeningHours.builder()
+                .store(store)
+                .businessDay(OpeningHours.BusinessDay.MONDAY)
+                .openedAt(LocalTime.of(9, 0))
+                .closedAt(LocalTime.of(21, 0))
+                .build();
+    }
+}
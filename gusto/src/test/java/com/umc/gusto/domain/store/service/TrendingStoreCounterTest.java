@@ -0,0 +1,161 @@
+package com.umc.gusto.domain.store.service;
+
+import com.umc.gusto.domain.review.event.ReviewChangedEvent;
+import com.umc.gusto.domain.store.event.StoreActivityEvent;
+import com.umc.gusto.domain.store.service.TrendingStoreCounter.Scope;
+import com.umc.gusto.domain.store.service.TrendingStoreCounter.Window;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 메모리 sorted set 으로 대신한 Redis 에 대해 시간 버킷 감쇠 합산과 취소 반영을 확인한다.
+ */
+class TrendingStoreCounterTest {
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final String TOWN = "11010101";
+
+    private final Map<String, Map<String, Double>> zsets = new HashMap<>();
+    private TrendingStoreCounter counter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation -> zsets.containsKey(invocation.<String>getArgument(0)));
+
+        when(zSetOperations.incrementScore(anyString(), anyString(), anyDouble())).thenAnswer(invocation ->
+                zsets.computeIfAbsent(invocation.getArgument(0), key -> new HashMap<>())
+                        .merge(invocation.getArgument(1), invocation.getArgument(2), Double::sum));
+        when(zSetOperations.unionAndStore(anyString(), anyCollection(), anyString(), any(Aggregate.class), any(Weights.class)))
+                .thenAnswer(invocation -> {
+                    List<String> keys = new ArrayList<>();
+                    keys.add(invocation.getArgument(0));
+                    keys.addAll(invocation.<Collection<String>>getArgument(1));
+                    double[] weights = invocation.<Weights>getArgument(4).toArray();
+                    Map<String, Double> union = new HashMap<>();
+                    for (int i = 0; i < keys.size(); i++) {
+                        double weight = weights[i];
+                        zsets.getOrDefault(keys.get(i), Map.of())
+                                .forEach((member, score) -> union.merge(member, score * weight, Double::sum));
+                    }
+                    zsets.put(invocation.getArgument(2), union);
+                    return (long) union.size();
+                });
+        when(zSetOperations.reverseRangeByScore(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> {
+                    double min = invocation.getArgument(1);
+                    long count = invocation.getArgument(4);
+                    Set<String> members = new LinkedHashSet<>();
+                    zsets.getOrDefault(invocation.<String>getArgument(0), Map.of()).entrySet().stream()
+                            .filter(entry -> entry.getValue() >= min)
+                            .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                            .limit(count)
+                            .forEach(entry -> members.add(entry.getKey()));
+                    return members;
+                });
+
+        counter = new TrendingStoreCounter(redisTemplate);
+    }
+
+    @Test
+    void recentActivityOutranksOlderActivityOfSameScore() {
+        seed(1L, hoursAgo(10), 3.0);
+        counter.onReviewChanged(review(2L, ReviewChangedEvent.Type.CREATED, null));
+
+        assertThat(counter.getTopStoreIds(Scope.TOWN, TOWN, Window.DAY, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void activityOlderThanWindowIsNotCounted() {
+        seed(1L, hoursAgo(30), 3.0);
+        seed(2L, hoursAgo(1), 1.0);
+
+        assertThat(counter.getTopStoreIds(Scope.TOWN, TOWN, Window.DAY, 10)).containsExactly(2L);
+        assertThat(counter.getTopStoreIds(Scope.TOWN, TOWN, Window.WEEK, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void deletingRecentReviewCancelsItInItsOriginalBucket() {
+        LocalDateTime writtenAt = hoursAgo(5);
+        seed(1L, writtenAt, 3.0);
+        counter.onReviewChanged(review(2L, ReviewChangedEvent.Type.LIKED, null));
+
+        counter.onReviewChanged(review(1L, ReviewChangedEvent.Type.DELETED, systemTime(writtenAt)));
+
+        assertThat(zsets.get(bucketKey(writtenAt))).containsEntry("1", 0.0);
+        assertThat(zsets.get(bucketKey(now()))).doesNotContainKey("1");
+        assertThat(counter.getTopStoreIds(Scope.TOWN, TOWN, Window.DAY, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void cancelingOldActivityLeavesRecentScoresUntouched() {
+        counter.onReviewChanged(review(1L, ReviewChangedEvent.Type.CREATED, null));
+        Map<String, Map<String, Double>> before = copy();
+
+        counter.onReviewChanged(review(1L, ReviewChangedEvent.Type.DELETED, systemTime(now().minusDays(30))));
+        counter.onReviewChanged(review(1L, ReviewChangedEvent.Type.UNLIKED, null));
+        counter.onStoreActivity(new StoreActivityEvent(1L, TOWN, null, StoreActivityEvent.Type.UNPINNED, systemTime(now().minusDays(8))));
+
+        assertThat(zsets).isEqualTo(before);
+        assertThat(counter.getTopStoreIds(Scope.TOWN, TOWN, Window.WEEK, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void unpinWithinWeekIsSubtractedFromPinBucket() {
+        LocalDateTime pinnedAt = hoursAgo(100);
+        counter.onStoreActivity(new StoreActivityEvent(1L, TOWN, "한식", StoreActivityEvent.Type.PINNED, null));
+        seed(1L, pinnedAt, 2.0);
+
+        counter.onStoreActivity(new StoreActivityEvent(1L, TOWN, null, StoreActivityEvent.Type.UNPINNED, systemTime(pinnedAt)));
+
+        assertThat(zsets.get(bucketKey(pinnedAt))).containsEntry("1", 0.0);
+        assertThat(zsets.get(bucketKey(now()))).containsEntry("1", 2.0);
+    }
+
+    private static ReviewChangedEvent review(Long storeId, ReviewChangedEvent.Type type, LocalDateTime activityAt) {
+        return new ReviewChangedEvent(storeId * 100, storeId, TOWN, null, UUID.randomUUID(), type, activityAt);
+    }
+
+    private void seed(Long storeId, LocalDateTime at, double score) {
+        zsets.computeIfAbsent(bucketKey(at), key -> new HashMap<>()).merge(String.valueOf(storeId), score, Double::sum);
+    }
+
+    private Map<String, Map<String, Double>> copy() {
+        Map<String, Map<String, Double>> copy = new HashMap<>();
+        zsets.forEach((key, members) -> copy.put(key, new HashMap<>(members)));
+        return copy;
+    }
+
+    private static String bucketKey(LocalDateTime at) {
+        return "trending:{town:" + TOWN + "}:" + at.format(BUCKET_FORMAT);
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(SERVICE_ZONE);
+    }
+
+    private static LocalDateTime hoursAgo(int hours) {
+        return now().minusHours(hours);
+    }
+
+    // 엔티티 생성 시각처럼 서버 기본 시간대로 바꿈
+    private static LocalDateTime systemTime(LocalDateTime serviceTime) {
+        return serviceTime.atZone(SERVICE_ZONE).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
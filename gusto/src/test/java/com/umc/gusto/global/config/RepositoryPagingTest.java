@@ -0,0 +1,89 @@
+package com.umc.gusto.global.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.data.domain.Page;
+
+import java.lang.reflect.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회는 커서(keyset) 방식이라 hasNext 만 필요하므로, Page 반환 시 매 요청마다 붙는 COUNT 쿼리를 막는다.
+ * DB 없이 repository 패키지의 인터페이스를 읽어, 직접 선언한 메서드가 Page 를 반환하지 않는지 확인한다. (Slice 또는 size + 1 개 List 사용)
+ */
+class RepositoryPagingTest {
+    private static final String BASE_PACKAGE = "com.umc.gusto";
+
+    @Test
+    void repositoriesDoNotReturnPage() throws ClassNotFoundException {
+        List<Class<?>> repositories = scanRepositoryInterfaces();
+        List<String> violations = new ArrayList<>();
+
+        for (Class<?> repository : repositories) {
+            for (Method method : repository.getMethods()) {
+                // JpaRepository.findAll(Pageable) 처럼 Spring Data 가 선언한 메서드는 쓰지 않으므로 제외
+                if (!method.getDeclaringClass().getName().startsWith(BASE_PACKAGE)) {
+                    continue;
+                }
+                if (containsPage(method.getGenericReturnType())) {
+                    violations.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+
+        assertThat(repositories).isNotEmpty();
+        assertThat(violations).as("Page 대신 Slice 또는 List 를 반환해야 합니다").isEmpty();
+    }
+
+    private static List<Class<?>> scanRepositoryInterfaces() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(Pattern.quote(BASE_PACKAGE) + "\\..*\\.repository\\..*")));
+
+        List<Class<?>> repositories = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            repositories.add(Class.forName(candidate.getBeanClassName()));
+        }
+        return repositories;
+    }
+
+    // Optional<Page<...>>, List<Page<...>> 처럼 감싼 경우도 찾는다
+    private static boolean containsPage(Type type) {
+        if (type instanceof Class<?> raw) {
+            return Page.class.isAssignableFrom(raw);
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            if (containsPage(parameterized.getRawType())) {
+                return true;
+            }
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                if (containsPage(argument)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (type instanceof GenericArrayType array) {
+            return containsPage(array.getGenericComponentType());
+        }
+        if (type instanceof WildcardType wildcard) {
+            for (Type bound : wildcard.getUpperBounds()) {
+                if (containsPage(bound)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
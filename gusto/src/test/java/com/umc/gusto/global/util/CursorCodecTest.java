@@ -0,0 +1,119 @@
+package com.umc.gusto.global.util;
+
+import com.umc.gusto.global.exception.Code;
+import com.umc.gusto.global.exception.GeneralException;
+import com.umc.gusto.global.util.CursorCodec.Cursor;
+import com.umc.gusto.global.util.CursorCodec.CursorSlice;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+    private static final String SCOPE = "review:mine:user";
+
+    private final CursorCodec cursorCodec = new CursorCodec("test-cursor-secret");
+
+    @Test
+    void decodesEveryKeyTypeItEncoded() {
+        LocalDate date = LocalDate.of(2024, 2, 29);
+        LocalDateTime dateTime = LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123_456_789);
+
+        Cursor cursor = cursorCodec.decode(SCOPE, cursorCodec.encode(SCOPE, 42L, date, dateTime, "가게 이름"));
+
+        assertThat(cursor.size()).isEqualTo(4);
+        assertThat(cursor.getLong(0)).isEqualTo(42L);
+        assertThat(cursor.getDate(1)).isEqualTo(date);
+        assertThat(cursor.getDateTime(2)).isEqualTo(dateTime);
+        assertThat(cursor.getString(3)).isEqualTo("가게 이름");
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = cursorCodec.encode(SCOPE, Long.MAX_VALUE, "?/+=&");
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void missingCursorMeansFirstPage() {
+        assertThat(cursorCodec.decode(SCOPE, null)).isNull();
+        assertThat(cursorCodec.decode(SCOPE, " ")).isNull();
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        byte[] bytes = Base64.getUrlDecoder().decode(cursorCodec.encode(SCOPE, 42L));
+        // 정렬 키(reviewId) 의 마지막 바이트를 바꿈
+        bytes[bytes.length - 17] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertInvalidCursor(() -> cursorCodec.decode(SCOPE, tampered));
+    }
+
+    @Test
+    void rejectsTokenOfAnotherScope() {
+        String token = cursorCodec.encode("review:mine:other", 42L);
+
+        assertInvalidCursor(() -> cursorCodec.decode(SCOPE, token));
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKey() {
+        String token = new CursorCodec("another-secret").encode(SCOPE, 42L);
+
+        assertInvalidCursor(() -> cursorCodec.decode(SCOPE, token));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertInvalidCursor(() -> cursorCodec.decode(SCOPE, "not base64!"));
+        assertInvalidCursor(() -> cursorCodec.decode(SCOPE, "AAAA"));
+        assertInvalidCursor(() -> cursorCodec.decode(SCOPE, "A".repeat(513)));
+    }
+
+    @Test
+    void rejectsKeyOfUnexpectedTypeOrPosition() {
+        Cursor cursor = cursorCodec.decode(SCOPE, cursorCodec.encode(SCOPE, 42L));
+
+        assertInvalidCursor(() -> cursor.getDate(0));
+        assertInvalidCursor(() -> cursor.getLong(1));
+    }
+
+    @Test
+    void sliceCutsToSizeAndPointsAtLastRow() {
+        List<Long> fetched = List.of(5L, 4L, 3L, 2L);
+
+        CursorSlice<Long> slice = cursorCodec.slice(SCOPE, fetched, 3, id -> new Object[]{id});
+
+        assertThat(slice.content()).containsExactly(5L, 4L, 3L);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(cursorCodec.decode(SCOPE, slice.nextCursor()).getLong(0)).isEqualTo(3L);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorSlice<Long> slice = cursorCodec.slice(SCOPE, List.of(2L, 1L), 3, id -> new Object[]{id});
+
+        assertThat(slice.content()).containsExactly(2L, 1L);
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    @Test
+    void limitFetchesOneExtraRow() {
+        assertThat(cursorCodec.limit(20).getPageSize()).isEqualTo(21);
+        assertThatThrownBy(() -> cursorCodec.limit(0))
+                .isInstanceOfSatisfying(GeneralException.class, e -> assertThat(e.getCode()).isEqualTo(Code.INVALID_REQUEST));
+    }
+
+    private static void assertInvalidCursor(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOfSatisfying(GeneralException.class, e -> assertThat(e.getCode()).isEqualTo(Code.INVALID_CURSOR));
+    }
+}
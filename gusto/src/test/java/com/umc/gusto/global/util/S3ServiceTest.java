@@ -0,0 +1,140 @@
+package com.umc.gusto.global.util;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 메모리 버킷으로 대신한 S3 에 대해 업로드/되돌리기/삭제를 확인한다.
+ * 내용이 "fail" 인 파일은 업로드에 실패하고, "slow" 인 파일은 늦게 완료된다.
+ */
+class S3ServiceTest {
+    private static final String BUCKET = "gusto-test-bucket";
+
+    private final Map<String, byte[]> bucket = new ConcurrentHashMap<>();
+    private AmazonS3 amazonS3;
+    private ImageProcessor imageProcessor;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        amazonS3 = mock(AmazonS3.class);
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            byte[] content = request.getInputStream().readAllBytes();
+            String text = new String(content, StandardCharsets.UTF_8);
+            if (text.equals("fail")) {
+                throw new AmazonServiceException("upload failed");
+            }
+            if (text.equals("slow")) {
+                Thread.sleep(300);
+            }
+            bucket.put(request.getKey(), content);
+            return new PutObjectResult();
+        });
+        when(amazonS3.getUrl(eq(BUCKET), anyString())).thenAnswer(invocation ->
+                new URL("https://" + BUCKET + ".s3.amazonaws.com/" + invocation.getArgument(1)));
+        when(amazonS3.deleteObjects(any(DeleteObjectsRequest.class))).thenAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            request.getKeys().forEach(key -> bucket.remove(key.getKey()));
+            return new DeleteObjectsResult(List.of());
+        });
+
+        imageProcessor = mock(ImageProcessor.class);
+        s3Service = new S3Service(amazonS3, imageProcessor);
+        ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+        s3Service.initTransferManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Service.shutdownTransferManager();
+    }
+
+    @Test
+    void uploadsEveryFileOfBatch() {
+        List<String> urls = s3Service.uploadImages(List.of(file("a.png", "a"), file("b.png", "b"), file("c.png", "c")));
+
+        assertThat(urls).hasSize(3);
+        assertThat(bucket).hasSize(3);
+        urls.forEach(url -> assertThat(bucket).containsKey(s3Service.getFileName(url)));
+    }
+
+    @Test
+    void failedBatchLeavesNoObjectEvenIfAnotherUploadFinishesLater() {
+        List<MultipartFile> files = List.of(file("fail.png", "fail"), file("slow.png", "slow"), file("ok.png", "ok"));
+
+        assertThatThrownBy(() -> s3Service.uploadImages(files)).isInstanceOf(ResponseStatusException.class);
+
+        assertThat(bucket).isEmpty();
+    }
+
+    @Test
+    void invalidFileNameFailsBeforeAnyUpload() {
+        List<MultipartFile> files = List.of(file("a.png", "a"), file("noExtension", "b"));
+
+        assertThatThrownBy(() -> s3Service.uploadImages(files)).isInstanceOf(ResponseStatusException.class);
+
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void stripsMetadataByFileContentNotClientContentType() {
+        byte[] jpeg = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1, 0, 2, (byte) 0xFF, (byte) 0xD9};
+        byte[] stripped = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xD9};
+        when(imageProcessor.stripMetadata(jpeg)).thenReturn(stripped);
+
+        String url = s3Service.uploadImage(new MockMultipartFile("file", "photo.png", "image/png", jpeg));
+
+        assertThat(bucket.get(s3Service.getFileName(url))).isEqualTo(stripped);
+        verify(amazonS3).putObject(argThat((PutObjectRequest request) -> "image/jpeg".equals(request.getMetadata().getContentType())));
+    }
+
+    @Test
+    void deletesOriginalsAndRequestedVariantsInOneRequest() {
+        String url = s3Service.uploadImage(file("a.png", "a"));
+        String fileName = s3Service.getFileName(url);
+        String name = fileName.substring(0, fileName.lastIndexOf('.'));
+        bucket.put(name + "_thumb.jpg", new byte[1]);
+        bucket.put(name + "_medium.jpg", new byte[1]);
+
+        s3Service.deleteImagesQuietly(List.of(url, "https://example.com/other.png"), ImageVariant.values());
+
+        assertThat(bucket).isEmpty();
+        verify(amazonS3, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void deletesOnlyOriginalWithoutVariants() {
+        String url = s3Service.uploadImage(file("a.png", "a"));
+
+        s3Service.deleteImagesQuietly(List.of(url));
+
+        verify(amazonS3).deleteObjects(argThat((DeleteObjectsRequest request) -> request.getKeys().size() == 1));
+    }
+
+    private static MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("file", name, "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+}